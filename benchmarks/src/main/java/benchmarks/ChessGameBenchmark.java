@@ -0,0 +1,87 @@
+package benchmarks;
+
+import chess.ChessGame;
+import chess.ChessMove;
+import chess.ChessPiece;
+import chess.ChessPosition;
+import chess.InvalidMoveException;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 10/18/26: added for benchmarks - ChessGame rules API
+ * Each benchmark covers every piece (or every legal move) of the side to move, so scores compare
+ * across positions of different sizes only per position.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChessGameBenchmark {
+
+    @Param({"start", "opening", "middlegame", "endgame", "passoffCheckmate", "passoffEscapeCheck",
+            "passoffStalemate"})
+    public String position;
+
+    private ChessGame game;
+    private ChessGame.TeamColor turn;
+    private final List<ChessPosition> ownPieces = new ArrayList<>();
+    private final List<ChessMove> legalMoves = new ArrayList<>();
+
+    @Setup
+    public void setUp() {
+        game = Positions.game(position);
+        turn = game.getTeamTurn();
+        ownPieces.clear();
+        legalMoves.clear();
+        for (int row = 1; row <= 8; row++) {
+            for (int col = 1; col <= 8; col++) {
+                ChessPosition square = ChessPosition.of(row, col);
+                ChessPiece piece = game.getBoard().getPiece(square);
+                if (piece != null && piece.getTeamColor() == turn) {
+                    ownPieces.add(square);
+                    legalMoves.addAll(game.validMoves(square));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void validMoves(Blackhole blackhole) {
+        for (ChessPosition square : ownPieces) {
+            blackhole.consume(game.validMoves(square));
+        }
+    }
+
+    /**
+     * Plays and takes back every legal move, so the position is the same for each invocation
+     */
+    @Benchmark
+    public void makeMove() throws InvalidMoveException {
+        for (ChessMove move : legalMoves) {
+            game.makeMove(move);
+            game.undoMove();
+        }
+    }
+
+    @Benchmark
+    public boolean isInCheck() {
+        return game.isInCheck(turn);
+    }
+
+    @Benchmark
+    public boolean isInCheckmate() {
+        return game.isInCheckmate(turn);
+    }
+
+    @Benchmark
+    public boolean isInStalemate() {
+        return game.isInStalemate(turn);
+    }
+}
@@ -0,0 +1,59 @@
+package benchmarks;
+
+import chess.ChessGame;
+import chess.MoveList;
+import chess.engine.Evaluation;
+import chess.engine.PawnTable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 10/18/26: added for incremental evaluation - evaluations per second
+ * evaluate scores one position with a warm pawn hash, evaluateNoPawnHash rescores the pawns every
+ * time, and moveAndEvaluate plays, scores and takes back every legal move, the way a search meets
+ * positions; divide its score by the move count for evaluations including make/unmake.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EvaluationBenchmark {
+
+    @Param({"start", "opening", "middlegame", "endgame"})
+    public String position;
+
+    private ChessGame game;
+    private final PawnTable pawns = new PawnTable(1 << 13);
+    private final MoveList moves = new MoveList();
+
+    @Setup
+    public void setUp() {
+        game = Positions.game(position);
+        moves.clear();
+        game.generateLegalMoves(moves);
+    }
+
+    @Benchmark
+    public int evaluate() {
+        return Evaluation.evaluate(game, pawns);
+    }
+
+    @Benchmark
+    public int evaluateNoPawnHash() {
+        return Evaluation.evaluate(game);
+    }
+
+    @Benchmark
+    public int moveAndEvaluate() {
+        int sum = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            game.doMove(moves.get(i));
+            sum += Evaluation.evaluate(game, pawns);
+            game.undoMove();
+        }
+        return sum;
+    }
+}
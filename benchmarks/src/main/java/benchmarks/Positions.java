@@ -0,0 +1,113 @@
+package benchmarks;
+
+import chess.ChessGame;
+import passoff.chess.TestUtilities;
+
+import java.util.Map;
+
+/**
+ * 10/18/26: added for benchmarks - corpus of named positions
+ * Opening, middlegame and endgame positions from real play plus boards from the passoff tests,
+ * in the passoff tests' text board format.
+ */
+public final class Positions {
+
+    private record Position(String board, ChessGame.TeamColor turn) {
+    }
+
+    private static final Map<String, Position> CORPUS = Map.of(
+            "start", new Position("""
+                    |r|n|b|q|k|b|n|r|
+                    |p|p|p|p|p|p|p|p|
+                    | | | | | | | | |
+                    | | | | | | | | |
+                    | | | | | | | | |
+                    | | | | | | | | |
+                    |P|P|P|P|P|P|P|P|
+                    |R|N|B|Q|K|B|N|R|
+                    """, ChessGame.TeamColor.WHITE),
+            // Italian game after 1.e4 e5 2.Nf3 Nc6 3.Bc4 Bc5
+            "opening", new Position("""
+                    |r| |b|q|k| |n|r|
+                    |p|p|p|p| |p|p|p|
+                    | | |n| | | | | |
+                    | | |b| |p| | | |
+                    | | |B| |P| | | |
+                    | | | | | |N| | |
+                    |P|P|P|P| |P|P|P|
+                    |R|N|B|Q|K| | |R|
+                    """, ChessGame.TeamColor.WHITE),
+            // "Kiwipete", the usual move generator stress position: every special move is available
+            "middlegame", new Position("""
+                    |r| | | |k| | |r|
+                    |p| |p|p|q|p|b| |
+                    |b|n| | |p|n|p| |
+                    | | | |P|N| | | |
+                    | |p| | |P| | | |
+                    | | |N| | |Q| |p|
+                    |P|P|P|B|B|P|P|P|
+                    |R| | | |K| | |R|
+                    """, ChessGame.TeamColor.WHITE),
+            // rook and pawns endgame
+            "endgame", new Position("""
+                    | | | | | | | | |
+                    | | |p| | | | | |
+                    | | | |p| | | | |
+                    |K|P| | | | | |r|
+                    | |R| | | |p| |k|
+                    | | | | | | | | |
+                    | | | | |P| |P| |
+                    | | | | | | | | |
+                    """, ChessGame.TeamColor.WHITE),
+            // passoff GameStatusTests: white in checkmate
+            "passoffCheckmate", new Position("""
+                    | | | | | | | | |
+                    | | |b|q| | | | |
+                    | | | | | | | | |
+                    | | | |p| | | |k|
+                    | | | | | |K| | |
+                    | | |r| | | | | |
+                    | | | | |n| | | |
+                    | | | | | | | | |
+                    """, ChessGame.TeamColor.WHITE),
+            // passoff GameStatusTests: black can escape check by capturing
+            "passoffEscapeCheck", new Position("""
+                    | | | | | |r|k| |
+                    | | | | | |P| |p|
+                    | | | |N| | | | |
+                    | | | | |B| | | |
+                    | | | | | | | | |
+                    | | | | | | | | |
+                    | | | | |n| | | |
+                    |K| | | | | | | |
+                    """, ChessGame.TeamColor.BLACK),
+            // passoff GameStatusTests: pinned king causes stalemate
+            "passoffStalemate", new Position("""
+                    |k| | | | | | | |
+                    | | | | | | | |r|
+                    | | | | | | | | |
+                    | | | | |q| | | |
+                    | | | |n| | |K| |
+                    | | | | | | | | |
+                    | | | | | | | | |
+                    | | | | |b| | | |
+                    """, ChessGame.TeamColor.WHITE)
+    );
+
+    private Positions() {
+    }
+
+    /**
+     * @return a fresh game set up at the named position
+     */
+    public static ChessGame game(String name) {
+        Position position = CORPUS.get(name);
+        if (position == null) {
+            throw new IllegalArgumentException("unknown position: " + name);
+        }
+        ChessGame game = new ChessGame();
+        game.setBoard(TestUtilities.loadBoard(position.board()));
+        game.setTeamTurn(position.turn());
+        return game;
+    }
+}
@@ -0,0 +1,40 @@
+package benchmarks;
+
+import chess.ChessGame;
+import chess.engine.Engine;
+import chess.engine.SearchLimits;
+import chess.engine.SearchResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 10/18/26: added for the engine - search speed
+ * Each operation is one search capped at NODES nodes, so nodes per second is NODES divided by the
+ * time per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchBenchmark {
+
+    public static final long NODES = 200_000;
+
+    @Param({"start", "opening", "middlegame", "endgame"})
+    public String position;
+
+    private ChessGame game;
+
+    @Setup
+    public void setUp() {
+        game = Positions.game(position);
+    }
+
+    @Benchmark
+    public SearchResult search() {
+        return Engine.search(game, SearchLimits.nodes(NODES));
+    }
+}
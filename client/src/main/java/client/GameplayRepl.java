@@ -52,6 +52,7 @@ public class GameplayRepl {
         if (!clientSession.getPlayerType().equals(ClientSession.PlayerTypes.OBSERVER)) {
             helpList.add("   |   move <START> <END> {PROMO PIECE}        : Make move");
             helpList.add("   |   resign                                  : Resign from game");
+            helpList.add("   |   bot                                     : Seat the computer in the open seat");
         }
         helpList.add("   |   redraw                                  : Redraw the board");
         helpList.add("   |   highlight <position>                    : Highlight legal moves of piece at position");
@@ -149,6 +150,17 @@ public class GameplayRepl {
                         System.out.println("Failed to resign");
                     }
                 }
+                case "bot" -> {
+                    if (tokens.length != 1) {
+                        System.out.println("Invalid number of arguments. Type 'help' to see options.");
+                        break;
+                    }
+                    try {
+                        websocket.addBot(clientSession.authToken, clientSession.gameplayID);
+                    } catch (Exception e) {
+                        System.out.println("Failed to add the computer player");
+                    }
+                }
                 case "highlight" -> {
                     if (tokens.length != 2) {
                         System.out.println("Invalid number of arguments. Type 'help' to see options.");
@@ -162,6 +174,22 @@ public class GameplayRepl {
                         }
                     }
                 }
+                // added 10/18/26 for move hints
+                case "hint" -> {
+                    if (tokens.length > 2) {
+                        System.out.println("Invalid number of arguments. Type 'help' to see options.");
+                        System.out.println("Usage: hint [count]");
+                        break;
+                    }
+                    try {
+                        int count = (tokens.length == 2) ? Integer.parseInt(tokens[1]) : 3;
+                        websocket.hint(clientSession.authToken, clientSession.gameplayID, count);
+                    } catch (NumberFormatException e) {
+                        System.out.println("Usage: hint [count]");
+                    } catch (Exception e) {
+                        System.out.println("Failed to ask for hints");
+                    }
+                }
                 default -> System.out.println("Unknown command. Type 'help'");
             }
         }
@@ -200,11 +228,13 @@ public class GameplayRepl {
         }
         System.out.println("""
         - move                                      : Make move
-        - resign                                    : Resign from game""");
+        - resign                                    : Resign from game
+        - bot                                       : Seat the computer in the open seat""");
         System.out.print(EscapeSequences.SET_TEXT_COLOR_WHITE);
         System.out.println("""
         - redraw                                    : Redraw the board
         - highlight                                 : Highlight legal moves
+        - hint                                      : Show the engine's best moves
         - exit                                      : Leave game (return to login)
         """);
         System.out.print("[GAME] >>> ");
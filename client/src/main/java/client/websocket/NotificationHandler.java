@@ -1,6 +1,8 @@
 package client.websocket;
 
+import chess.engine.Search;
 import client.GameplayRepl;
+import results.HintResult;
 import websocket.messages.*;
 
 /**
@@ -31,6 +33,29 @@ public class NotificationHandler {
         System.out.print("[GAME] >>> ");
     }
 
+    /**
+     * Prints the engine's best moves, scores in pawns for the side to move
+     * added 10/18/26 for move hints
+     */
+    void handleHint(ServerMessage message) {
+        HintMessage msg = (HintMessage) message;
+        System.out.println("\n[HINT] depth " + msg.getHint().depth());
+        int rank = 1;
+        for (HintResult.MoveHint hint : msg.getHint().hints()) {
+            System.out.printf("   %d. %s  %s%n", rank++, hint.move(), formatScore(hint.score()));
+        }
+        System.out.print("[GAME] >>> ");
+    }
+
+    private static String formatScore(int score) {
+        // scores this large are mates, the distance in half-moves folded in
+        if (Math.abs(score) >= Search.MATE_BOUND) {
+            int moves = (Search.MATE - Math.abs(score) + 1) / 2;
+            return (score > 0 ? "mate in " : "mated in ") + moves;
+        }
+        return String.format("%+.2f", score / 100.0);
+    }
+
     public void setGameplayRepl(GameplayRepl repl) {
         this.repl = repl;
     }
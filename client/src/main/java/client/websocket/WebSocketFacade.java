@@ -3,6 +3,7 @@ package client.websocket;
 import chess.ChessPosition;
 import com.google.gson.Gson;
 import jakarta.websocket.*;
+import websocket.commands.HintCommand;
 import websocket.commands.MakeMoveCommand;
 import websocket.commands.UserGameCommand;
 import websocket.messages.*;
@@ -103,6 +104,28 @@ public class WebSocketFacade {
         send(command);
     }
 
+    /**
+     * Asks the server to seat the computer player in the open seat
+     * added 10/18/26 for the engine
+     */
+    public void addBot(String authToken, int gameID) throws Exception {
+        UserGameCommand command = new UserGameCommand(
+                UserGameCommand.CommandType.ADD_BOT,
+                authToken,
+                gameID
+        );
+
+        send(command);
+    }
+
+    /**
+     * Asks the server for the engine's best count moves in the current position
+     * added 10/18/26 for move hints
+     */
+    public void hint(String authToken, int gameID, int count) throws Exception {
+        send(new HintCommand(authToken, gameID, count));
+    }
+
     public void leave(String authToken, int gameID) throws Exception {
         // user leaves, does not cause resign
         UserGameCommand command = new UserGameCommand(
@@ -132,6 +155,10 @@ public class WebSocketFacade {
                 ServerErrorMessage msg = gson.fromJson(message, ServerErrorMessage.class);
                 notifyHandler.handleError(msg);
             }
+            case HINT -> {
+                HintMessage msg = gson.fromJson(message, HintMessage.class);
+                notifyHandler.handleHint(msg);
+            }
         }
     }
 }
@@ -0,0 +1,350 @@
+package dataaccess;
+
+import chess.ChessGame;
+import model.GameData;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 10/18/26: added for the active-game cache - keeps live games in memory in front of another GameDAO
+ * A game is loaded from the backing DAO once and then served from memory, so a move no longer reads and
+ * parses the game JSON each time. Updates change the cached game at once and are written behind: a
+ * background task writes every game changed since its last run, at most once per run however many moves
+ * were made, so the database is never more than flushInterval behind. Games are dropped least recently
+ * used first past maxGames, and once unused for idleTimeout; a game dropped before it was written waits
+ * for the next flush and is still served from memory until then. close() writes everything left.
+ * <p>
+ * The flush clears a game's dirty mark before reading it, so a move that overlaps a flush is written by the
+ * next one.
+ * 10/18/26: updated for virtual threads - the lock held across database writes is a ReentrantLock, so a
+ * virtual thread waiting on it or writing under it does not pin its carrier
+ * 10/18/26: updated for the active-game cache - the cache keeps its own copy of each game: updateGame copies
+ * the game it is given and getGame and getListGames hand out copies, so a caller changing its ChessGame
+ * never changes a game the flush is writing or another thread is reading
+ */
+public class CachedGameDAO implements GameDAO, AutoCloseable {
+
+    /**
+     * @param maxGames            games kept in memory
+     * @param idleTimeoutMillis   how long an unused game stays in memory
+     * @param flushIntervalMillis longest time an update waits to be written
+     */
+    public record Settings(int maxGames, long idleTimeoutMillis, long flushIntervalMillis) {
+
+        public static Settings defaults() {
+            return new Settings(1024, 600_000, 1_000);
+        }
+    }
+
+    /**
+     * Snapshot of the cache's counters
+     *
+     * @param cached   games in memory
+     * @param dirty    games changed but not yet written
+     * @param hits     reads served from memory
+     * @param misses   reads that went to the backing DAO
+     * @param writes   games written to the backing DAO
+     * @param failures writes that failed and were kept for the next flush
+     */
+    public record Stats(int cached, int dirty, long hits, long misses, long writes, long failures) {
+    }
+
+    private static final class Entry {
+        GameData game;
+        boolean dirty;
+        long lastUsedNanos;
+
+        Entry(GameData game, boolean dirty, long now) {
+            this.game = game;
+            this.dirty = dirty;
+            this.lastUsedNanos = now;
+        }
+    }
+
+    private final GameDAO backing;
+    private final Settings settings;
+    // games dropped from memory while dirty, by gameID, until the next flush writes them; guarded by games
+    private final Map<Integer, GameData> unwritten = new HashMap<>();
+    // least recently used first; guarded by itself
+    private final Map<Integer, Entry> games;
+    // one flush at a time, so two flushes never write versions of a game out of order
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ScheduledExecutorService flusher;
+    private volatile boolean closed;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong writes = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    public CachedGameDAO(GameDAO backing) {
+        this(backing, Settings.defaults());
+    }
+
+    public CachedGameDAO(GameDAO backing, Settings settings) {
+        if (settings.maxGames() < 1) {
+            throw new IllegalArgumentException("cache needs room for at least one game");
+        }
+        this.backing = backing;
+        this.settings = settings;
+        this.games = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Entry> eldest) {
+                if (size() <= settings.maxGames()) {
+                    return false;
+                }
+                if (eldest.getValue().dirty) {
+                    unwritten.put(eldest.getKey(), eldest.getValue().game);
+                }
+                return true;
+            }
+        };
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1, settings.flushIntervalMillis());
+        flusher.scheduleWithFixedDelay(this::flushAndEvict, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Lists games from the backing DAO, with the cached ones in their newer in-memory state
+     */
+    @Override
+    public List<GameData> getListGames() throws DataAccessException {
+        List<GameData> stored = backing.getListGames();
+        List<GameData> listed = new ArrayList<>(stored.size());
+        synchronized (games) {
+            for (GameData game : stored) {
+                Entry entry = games.get(game.gameID());
+                GameData newer = (entry != null) ? entry.game : unwritten.get(game.gameID());
+                listed.add(newer != null ? copy(newer) : game);
+            }
+        }
+        return listed;
+    }
+
+    @Override
+    public int createGame(String gameName) throws DataAccessException {
+        return backing.createGame(gameName);
+    }
+
+    /**
+     * New games go straight to the backing DAO; they are cached once read
+     */
+    @Override
+    public void createGames(List<GameData> newGames) throws DataAccessException {
+        backing.createGames(newGames);
+    }
+
+    @Override
+    public GameData getGame(int gameID) throws DataAccessException {
+        synchronized (games) {
+            GameData cached = cachedGame(gameID);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return copy(cached);
+            }
+        }
+        misses.incrementAndGet();
+        GameData loaded = backing.getGame(gameID);
+        if (loaded == null) {
+            return null;
+        }
+        synchronized (games) {
+            // an update or another load may have got there while this one read the database
+            GameData cached = cachedGame(gameID);
+            if (cached != null) {
+                return copy(cached);
+            }
+            games.put(gameID, new Entry(loaded, false, System.nanoTime()));
+            return copy(loaded);
+        }
+    }
+
+    /**
+     * Helper function to copy a game, so the cached one is only ever changed by replacing it
+     */
+    private static GameData copy(GameData game) {
+        ChessGame chess = (game.game() != null) ? new ChessGame(game.game()) : null;
+        return new GameData(game.gameID(), game.whiteUsername(), game.blackUsername(), game.gameName(), chess,
+                game.isGameOver());
+    }
+
+    /**
+     * Helper function to find a game in memory, marking it used; caller holds the games lock
+     */
+    private GameData cachedGame(int gameID) {
+        Entry entry = games.get(gameID);
+        if (entry == null) {
+            GameData dropped = unwritten.remove(gameID);
+            if (dropped == null) {
+                return null;
+            }
+            entry = new Entry(dropped, true, 0);
+            games.put(gameID, entry);
+        }
+        entry.lastUsedNanos = System.nanoTime();
+        return entry.game;
+    }
+
+    /**
+     * Updates the cached game to a copy of the given one and leaves the write to the next flush. A game not
+     * in memory is written straight through, so updating a game that does not exist still fails here.
+     */
+    @Override
+    public void updateGame(GameData game) throws DataAccessException {
+        if (!closed) {
+            // copied on the caller's thread, which is the only one changing the game it passed in
+            GameData kept = copy(game);
+            synchronized (games) {
+                Entry entry = games.get(game.gameID());
+                if (entry == null && unwritten.remove(game.gameID()) != null) {
+                    entry = new Entry(kept, true, 0);
+                    games.put(game.gameID(), entry);
+                }
+                if (entry != null) {
+                    entry.game = kept;
+                    entry.dirty = true;
+                    entry.lastUsedNanos = System.nanoTime();
+                    return;
+                }
+            }
+        }
+        backing.updateGame(game);
+        writes.incrementAndGet();
+    }
+
+    @Override
+    public void clear() throws DataAccessException {
+        flushLock.lock();
+        try {
+            synchronized (games) {
+                games.clear();
+                unwritten.clear();
+            }
+            backing.clear();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Writes what is waiting first, so a game finished in memory is among those read, then reads from the
+     * backing DAO without copying through the cache
+     */
+    @Override
+    public void forEachFinishedGame(Consumer<GameData> action) throws DataAccessException {
+        flush();
+        backing.forEachFinishedGame(action);
+    }
+
+    /**
+     * Writes every game changed since the last flush. A game whose write fails stays dirty for the next one.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<GameData> pending = new ArrayList<>();
+            synchronized (games) {
+                for (Entry entry : games.values()) {
+                    if (entry.dirty) {
+                        entry.dirty = false;
+                        pending.add(entry.game);
+                    }
+                }
+                pending.addAll(unwritten.values());
+                unwritten.clear();
+            }
+            for (GameData game : pending) {
+                try {
+                    backing.updateGame(game);
+                    writes.incrementAndGet();
+                } catch (DataAccessException e) {
+                    failures.incrementAndGet();
+                    keepUnwritten(game);
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Helper function to mark a game whose write failed as dirty again, unless it changed since
+     */
+    private void keepUnwritten(GameData game) {
+        synchronized (games) {
+            Entry entry = games.get(game.gameID());
+            if (entry == null) {
+                unwritten.putIfAbsent(game.gameID(), game);
+            } else if (entry.game == game) {
+                entry.dirty = true;
+            }
+        }
+    }
+
+    /**
+     * Drops games unused for idleTimeout that have nothing left to write
+     */
+    void evictIdle() {
+        long idleLimit = TimeUnit.MILLISECONDS.toNanos(settings.idleTimeoutMillis());
+        long now = System.nanoTime();
+        synchronized (games) {
+            Iterator<Entry> it = games.values().iterator();
+            while (it.hasNext()) {
+                Entry entry = it.next();
+                if (!entry.dirty && now - entry.lastUsedNanos > idleLimit) {
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    private void flushAndEvict() {
+        try {
+            flush();
+            evictIdle();
+        } catch (RuntimeException e) {
+            // a failed run must not cancel the schedule
+            System.out.println("Game cache flush failed: " + e.getMessage());
+        }
+    }
+
+    public Stats stats() {
+        synchronized (games) {
+            int dirty = unwritten.size();
+            for (Entry entry : games.values()) {
+                dirty += entry.dirty ? 1 : 0;
+            }
+            return new Stats(games.size(), dirty, hits.get(), misses.get(), writes.get(), failures.get());
+        }
+    }
+
+    /**
+     * Stops the background flush and writes what is left; later updates are written straight through
+     */
+    @Override
+    public void close() {
+        closed = true;
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(settings.flushIntervalMillis() + 5_000, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+}
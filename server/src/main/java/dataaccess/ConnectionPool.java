@@ -0,0 +1,330 @@
+package dataaccess;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 10/18/26: added for pooled database connections
+ * A bounded pool of JDBC connections. At most maxSize connections exist at once; a caller that finds them
+ * all in use waits up to acquireTimeout and then gets a DataAccessException. Connections handed out are
+ * wrappers whose close() returns the real connection to the pool, so DAOs keep using try-with-resources
+ * unchanged. Idle connections are reused most recently used first; one that sat idle past the validation
+ * interval is checked with isValid before reuse, and one past its max lifetime is closed instead. A
+ * background task closes connections idle longer than idleTimeout, keeping minIdle of them.
+ * Wait times and timeouts are counted for {@link #stats()}.
+ */
+public class ConnectionPool implements AutoCloseable {
+
+    /**
+     * Opens a new physical connection, e.g. with DriverManager
+     */
+    @FunctionalInterface
+    public interface ConnectionFactory {
+        Connection open() throws SQLException;
+    }
+
+    /**
+     * Pool sizing and timeouts, read from db.properties keys db.pool.*
+     */
+    public record Settings(int maxSize, int minIdle, long acquireTimeoutMillis, long idleTimeoutMillis,
+                           long maxLifetimeMillis, long validationIntervalMillis, int validationTimeoutSeconds) {
+
+        public static Settings defaults() {
+            return new Settings(10, 0, 5_000, 600_000, 1_800_000, 5_000, 2);
+        }
+
+        /**
+         * @return settings from the db.pool.* properties, each defaulting when absent
+         */
+        public static Settings from(Properties props) {
+            Settings d = defaults();
+            return new Settings(
+                    Integer.parseInt(props.getProperty("db.pool.maxSize", String.valueOf(d.maxSize()))),
+                    Integer.parseInt(props.getProperty("db.pool.minIdle", String.valueOf(d.minIdle()))),
+                    Long.parseLong(props.getProperty("db.pool.acquireTimeoutMillis",
+                            String.valueOf(d.acquireTimeoutMillis()))),
+                    Long.parseLong(props.getProperty("db.pool.idleTimeoutMillis",
+                            String.valueOf(d.idleTimeoutMillis()))),
+                    Long.parseLong(props.getProperty("db.pool.maxLifetimeMillis",
+                            String.valueOf(d.maxLifetimeMillis()))),
+                    Long.parseLong(props.getProperty("db.pool.validationIntervalMillis",
+                            String.valueOf(d.validationIntervalMillis()))),
+                    Integer.parseInt(props.getProperty("db.pool.validationTimeoutSeconds",
+                            String.valueOf(d.validationTimeoutSeconds()))));
+        }
+    }
+
+    /**
+     * Snapshot of the pool's counters
+     *
+     * @param active          connections handed out now
+     * @param idle            connections waiting in the pool
+     * @param acquired        successful acquisitions
+     * @param timeouts        acquisitions that gave up after acquireTimeout
+     * @param created         physical connections opened
+     * @param closed          physical connections closed (expired, idle, broken or failed validation)
+     * @param totalWaitNanos  time spent waiting for a connection, over every attempt including timeouts
+     * @param maxWaitNanos    longest single wait
+     */
+    public record Stats(int active, int idle, long acquired, long timeouts, long created, long closed,
+                        long totalWaitNanos, long maxWaitNanos) {
+
+        public double averageWaitMillis() {
+            return (acquired == 0) ? 0 : totalWaitNanos / 1e6 / acquired;
+        }
+    }
+
+    private static final class Pooled {
+        final Connection connection;
+        final long createdNanos;
+        long lastUsedNanos;
+
+        Pooled(Connection connection, long now) {
+            this.connection = connection;
+            this.createdNanos = now;
+            this.lastUsedNanos = now;
+        }
+    }
+
+    private final ConnectionFactory factory;
+    private final Settings settings;
+    private final Semaphore permits;
+    // most recently returned last; guarded by itself
+    private final Deque<Pooled> idle = new ArrayDeque<>();
+    private final ScheduledExecutorService evictor;
+    private volatile boolean closed;
+
+    private final AtomicLong acquired = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong destroyed = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    public ConnectionPool(ConnectionFactory factory, Settings settings) {
+        if (settings.maxSize() < 1) {
+            throw new IllegalArgumentException("pool needs at least one connection");
+        }
+        this.factory = factory;
+        this.settings = settings;
+        this.permits = new Semaphore(settings.maxSize(), true);
+        this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "db-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1_000, settings.idleTimeoutMillis() / 2);
+        evictor.scheduleAtFixedRate(this::evictIdle, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Borrows a connection; closing it gives it back
+     *
+     * @throws DataAccessException if none frees up within acquireTimeout, or a new one cannot be opened
+     */
+    public Connection getConnection() throws DataAccessException {
+        if (closed) {
+            throw new DataAccessException("connection pool is closed");
+        }
+        long start = System.nanoTime();
+        boolean permitted;
+        try {
+            permitted = permits.tryAcquire(settings.acquireTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataAccessException("interrupted waiting for a database connection");
+        }
+        // waits that timed out count too, so the longest wait shows how far past the timeout demand went
+        long waited = System.nanoTime() - start;
+        totalWaitNanos.addAndGet(waited);
+        maxWaitNanos.accumulateAndGet(waited, Math::max);
+        if (!permitted) {
+            timeouts.incrementAndGet();
+            throw new DataAccessException("timed out after " + settings.acquireTimeoutMillis()
+                    + " ms waiting for a database connection");
+        }
+
+        try {
+            Pooled pooled = takeUsable();
+            if (pooled == null) {
+                pooled = new Pooled(factory.open(), System.nanoTime());
+                created.incrementAndGet();
+            }
+            acquired.incrementAndGet();
+            return wrap(pooled);
+        } catch (SQLException | RuntimeException ex) {
+            permits.release();
+            throw new DataAccessException("failed to get connection", ex);
+        }
+    }
+
+    /**
+     * Helper function to take the most recently used idle connection still fit for use, closing the rest
+     */
+    private Pooled takeUsable() {
+        while (true) {
+            Pooled pooled;
+            synchronized (idle) {
+                pooled = idle.pollLast();
+            }
+            if (pooled == null) {
+                return null;
+            }
+            long now = System.nanoTime();
+            if (expired(pooled, now)) {
+                destroy(pooled);
+                continue;
+            }
+            if (now - pooled.lastUsedNanos > TimeUnit.MILLISECONDS.toNanos(settings.validationIntervalMillis())
+                    && !isValid(pooled)) {
+                destroy(pooled);
+                continue;
+            }
+            return pooled;
+        }
+    }
+
+    private boolean isValid(Pooled pooled) {
+        try {
+            return pooled.connection.isValid(settings.validationTimeoutSeconds());
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private boolean expired(Pooled pooled, long now) {
+        return now - pooled.createdNanos > TimeUnit.MILLISECONDS.toNanos(settings.maxLifetimeMillis());
+    }
+
+    /**
+     * Helper function to take a connection back from a wrapper's close()
+     */
+    private void release(Pooled pooled) {
+        try {
+            boolean reusable = !closed && !pooled.connection.isClosed() && !expired(pooled, System.nanoTime());
+            if (reusable && !pooled.connection.getAutoCommit()) {
+                // a borrower that left a transaction open does not pass it on to the next one
+                pooled.connection.rollback();
+                pooled.connection.setAutoCommit(true);
+            }
+            if (reusable) {
+                pooled.lastUsedNanos = System.nanoTime();
+                synchronized (idle) {
+                    idle.addLast(pooled);
+                }
+            } else {
+                destroy(pooled);
+            }
+        } catch (SQLException e) {
+            destroy(pooled);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void destroy(Pooled pooled) {
+        destroyed.incrementAndGet();
+        try {
+            pooled.connection.close();
+        } catch (SQLException e) {
+            // already unusable, nothing more to free
+        }
+    }
+
+    /**
+     * Closes connections idle past idleTimeout, or past their max lifetime, keeping at least minIdle
+     */
+    void evictIdle() {
+        long now = System.nanoTime();
+        long idleLimit = TimeUnit.MILLISECONDS.toNanos(settings.idleTimeoutMillis());
+        List<Pooled> evicted = new ArrayList<>();
+        synchronized (idle) {
+            // least recently used first
+            var it = idle.iterator();
+            while (it.hasNext() && idle.size() > settings.minIdle()) {
+                Pooled pooled = it.next();
+                if (now - pooled.lastUsedNanos > idleLimit || expired(pooled, now)) {
+                    it.remove();
+                    evicted.add(pooled);
+                }
+            }
+        }
+        evicted.forEach(this::destroy);
+    }
+
+    private Connection wrap(Pooled pooled) {
+        InvocationHandler handler = new InvocationHandler() {
+            private boolean returned;
+
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                switch (method.getName()) {
+                    case "close" -> {
+                        if (!returned) {
+                            returned = true;
+                            release(pooled);
+                        }
+                        return null;
+                    }
+                    case "isClosed" -> {
+                        return returned || pooled.connection.isClosed();
+                    }
+                    default -> {
+                        if (returned && method.getDeclaringClass() != Object.class) {
+                            throw new SQLException("connection already returned to the pool");
+                        }
+                    }
+                }
+                try {
+                    return method.invoke(pooled.connection, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }
+        };
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, handler);
+    }
+
+    public Settings settings() {
+        return settings;
+    }
+
+    public Stats stats() {
+        int idleCount;
+        synchronized (idle) {
+            idleCount = idle.size();
+        }
+        return new Stats(settings.maxSize() - permits.availablePermits(), idleCount, acquired.get(),
+                timeouts.get(), created.get(), destroyed.get(), totalWaitNanos.get(), maxWaitNanos.get());
+    }
+
+    /**
+     * Closes the idle connections and stops the evictor; borrowed ones are closed as they come back
+     */
+    @Override
+    public void close() {
+        closed = true;
+        evictor.shutdownNow();
+        List<Pooled> remaining;
+        synchronized (idle) {
+            remaining = new ArrayList<>(idle);
+            idle.clear();
+        }
+        remaining.forEach(this::destroy);
+    }
+}
@@ -5,12 +5,16 @@ import java.util.Properties;
 
 /**
  * 3/10/26: added from startcode for p4 database
+ * 10/18/26: updated for pooled database connections - getConnection borrows from a bounded ConnectionPool
+ * sized by the optional db.pool.* keys of db.properties (see ConnectionPool.Settings)
  */
 public class DatabaseManager {
     private static String databaseName;
     private static String dbUsername;
     private static String dbPassword;
     private static String connectionUrl;
+    private static ConnectionPool.Settings poolSettings;
+    private static volatile ConnectionPool pool;
 
     /*
      * Load the database information for the db.properties file.
@@ -33,9 +37,10 @@ public class DatabaseManager {
     }
 
     /**
-     * Create a connection to the database and sets the catalog based upon the
+     * Borrow a pooled connection to the database, with the catalog set based upon the
      * properties specified in db.properties. Connections to the database should
-     * be short-lived, and you must close the connection when you are done with it.
+     * be short-lived, and you must close the connection when you are done with it;
+     * closing returns it to the pool (updated 10/18/26).
      * The easiest way to do that is with a try-with-resource block.
      * <br/>
      * <code>
@@ -45,13 +50,49 @@ public class DatabaseManager {
      * </code>
      */
     static Connection getConnection() throws DataAccessException {
-        try {
-            //do not wrap the following line with a try-with-resources
-            var conn = DriverManager.getConnection(connectionUrl, dbUsername, dbPassword);
-            conn.setCatalog(databaseName);
-            return conn;
-        } catch (SQLException ex) {
-            throw new DataAccessException("failed to get connection", ex);
+        return pool().getConnection();
+    }
+
+    /**
+     * Opens a physical connection for the pool
+     */
+    private static Connection openConnection() throws SQLException {
+        //do not wrap the following line with a try-with-resources
+        var conn = DriverManager.getConnection(connectionUrl, dbUsername, dbPassword);
+        conn.setCatalog(databaseName);
+        return conn;
+    }
+
+    private static ConnectionPool pool() {
+        ConnectionPool current = pool;
+        if (current == null) {
+            synchronized (DatabaseManager.class) {
+                current = pool;
+                if (current == null) {
+                    current = new ConnectionPool(DatabaseManager::openConnection, poolSettings);
+                    pool = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * @return the pool's counters, e.g. acquisition waits and timeouts
+     * added 10/18/26 for pooled database connections
+     */
+    public static ConnectionPool.Stats poolStats() {
+        return pool().stats();
+    }
+
+    /**
+     * Closes the pooled connections; the next getConnection starts a new pool
+     * added 10/18/26 for pooled database connections
+     */
+    public static synchronized void closePool() {
+        if (pool != null) {
+            pool.close();
+            pool = null;
         }
     }
 
@@ -75,6 +116,8 @@ public class DatabaseManager {
 
         var host = props.getProperty("db.host");
         var port = Integer.parseInt(props.getProperty("db.port"));
-        connectionUrl = String.format("jdbc:mysql://%s:%d", host, port);
+        // 10/18/26: lets the driver send a batch of inserts as one multi-row statement, for PGN import
+        connectionUrl = String.format("jdbc:mysql://%s:%d?rewriteBatchedStatements=true", host, port);
+        poolSettings = ConnectionPool.Settings.from(props);
     }
 }
@@ -3,17 +3,22 @@ package dataaccess;
 import model.GameData;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * 3/1/26: added clear for /db
  * 3/2/26: added game functions for p3 apis
  * 3/11/26: added for p4 database
  * 3/24/26: updated for p5 client - list is now List
+ * 10/18/26: added forEachFinishedGame for PGN export - finished games one at a time, not all in one list
+ * 10/18/26: added createGames for PGN import - many whole games stored at once, under new gameIDs
  */
 public interface GameDAO {
     List<GameData> getListGames() throws DataAccessException;
     int createGame(String gameName) throws DataAccessException;
+    void createGames(List<GameData> games) throws DataAccessException;
     GameData getGame(int gameID) throws DataAccessException;
     void updateGame(GameData game) throws DataAccessException;
     void clear() throws DataAccessException;
+    void forEachFinishedGame(Consumer<GameData> action) throws DataAccessException;
 }
@@ -4,11 +4,13 @@ import chess.ChessGame;
 import model.GameData;
 
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * 3/1/26: added for p3 apis - clear() first for /db
  * 3/2/26: added for p3 apis - getGames(), createGame(), getGame(), updateGame()
  * 3/24/26: updated for p5 client - list is now List
+ * 10/18/26: updated for PGN - forEachFinishedGame(), createGames()
  */
 public class MemoryGameDAO implements GameDAO {
 
@@ -29,6 +31,15 @@ public class MemoryGameDAO implements GameDAO {
         return id;
     }
 
+    @Override
+    public void createGames(List<GameData> newGames) {
+        for (GameData game : newGames) {
+            games.add(new GameData(nextGameID, game.whiteUsername(), game.blackUsername(), game.gameName(),
+                    game.game(), game.isGameOver()));
+            nextGameID++;
+        }
+    }
+
     @Override
     public GameData getGame(int gameID) {
         for (GameData game : games) {
@@ -53,4 +64,13 @@ public class MemoryGameDAO implements GameDAO {
     public void clear() throws DataAccessException {
         games.clear();
     }
+
+    @Override
+    public void forEachFinishedGame(Consumer<GameData> action) {
+        for (GameData game : games) {
+            if (game.isGameOver()) {
+                action.accept(game);
+            }
+        }
+    }
 }
@@ -9,13 +9,19 @@ import java.sql.ResultSet;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * 3/11/26: added for p4 database
  * 3/24/26: updated for p5 client - list is now List
+ * 10/18/26: updated for PGN - forEachFinishedGame reads finished games a page at a time, createGames
+ * inserts many games in one batch
  */
 public class SQLGameDAO implements GameDAO {
 
+    // finished games read per query by forEachFinishedGame
+    private static final int FINISHED_PAGE_SIZE = 500;
+
     private final Gson gson;
 
     public SQLGameDAO() throws DataAccessException {
@@ -100,6 +106,41 @@ public class SQLGameDAO implements GameDAO {
         }
     }
 
+    /**
+     * Inserts whole games in one batch and one transaction, all or none; their gameIDs are ignored and
+     * new ones assigned
+     * Interface function - added 10/18/26 for PGN
+     */
+    @Override
+    public void createGames(List<GameData> games) throws DataAccessException {
+        var createGames = """
+                INSERT INTO games(whiteUsername, blackUsername, gameName, game, isGameOver)
+                VALUES (?, ?, ?, ?, ?)
+                """;
+        try (var conn = DatabaseManager.getConnection();
+             var statement = conn.prepareStatement(createGames)) {
+            conn.setAutoCommit(false);
+            try {
+                for (GameData game : games) {
+                    statement.setString(1, game.whiteUsername());
+                    statement.setString(2, game.blackUsername());
+                    statement.setString(3, game.gameName());
+                    statement.setString(4, gson.toJson(game.game()));
+                    statement.setBoolean(5, game.isGameOver());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                conn.commit();
+            } catch (Exception ex) {
+                // the pool turns auto-commit back on, which would commit the part already sent
+                conn.rollback();
+                throw ex;
+            }
+        } catch (Exception ex) {
+            throw new DataAccessException("unable to create games", ex);
+        }
+    }
+
     // Interface function - added 3/11/26
     @Override
     public GameData getGame(int gameID) throws DataAccessException {
@@ -154,6 +195,46 @@ public class SQLGameDAO implements GameDAO {
         }
     }
 
+    /**
+     * Calls the action with each finished game in gameID order. Games are read in pages keyed on the last
+     * gameID seen, so only one page is in memory at a time, and the action runs after each page's connection
+     * is back in the pool, so a slow action does not hold one.
+     * Interface function - added 10/18/26 for PGN
+     */
+    @Override
+    public void forEachFinishedGame(Consumer<GameData> action) throws DataAccessException {
+        var finishedPage = """
+                SELECT gameID, whiteUsername, blackUsername, gameName, game
+                FROM games
+                WHERE isGameOver AND gameID > ?
+                ORDER BY gameID
+                LIMIT ?
+                """;
+        int lastGameID = 0;
+        List<GameData> page;
+        do {
+            page = new ArrayList<>(FINISHED_PAGE_SIZE);
+            try (var conn = DatabaseManager.getConnection();
+                 var statement = conn.prepareStatement(finishedPage)) {
+                statement.setInt(1, lastGameID);
+                statement.setInt(2, FINISHED_PAGE_SIZE);
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        ChessGame game = gson.fromJson(rs.getString("game"), ChessGame.class);
+                        page.add(new GameData(rs.getInt("gameID"), rs.getString("whiteUsername"),
+                                rs.getString("blackUsername"), rs.getString("gameName"), game, true));
+                    }
+                }
+            } catch (Exception ex) {
+                throw new DataAccessException("unable to read finished games", ex);
+            }
+            for (GameData game : page) {
+                action.accept(game);
+                lastGameID = game.gameID();
+            }
+        } while (page.size() == FINISHED_PAGE_SIZE);
+    }
+
     // Interface function - added 3/11/26
     @Override
     public void clear() throws DataAccessException {
@@ -0,0 +1,40 @@
+package handler;
+
+import dataaccess.DataAccessException;
+import dataaccess.UnauthorizedException;
+import io.javalin.http.Context;
+import results.HintResult;
+import service.HintService;
+
+/**
+ * 10/18/26: added for move hints - GET /game/{gameID}/hint?count=3&millis=500
+ */
+public class HintHandler {
+
+    private final HintService hintService;
+
+    public HintHandler(HintService hintService) {
+        this.hintService = hintService;
+    }
+
+    public void handle(Context ctx) {
+        try {
+            String authToken = ctx.header("Authorization");
+            int gameID = Integer.parseInt(ctx.pathParam("gameID"));
+            int count = Integer.parseInt(defaultIfNull(ctx.queryParam("count"), "1"));
+            long millis = Long.parseLong(defaultIfNull(ctx.queryParam("millis"), "0"));
+            HintResult result = hintService.getHints(authToken, gameID, count, millis);
+            ctx.status(200).json(result);
+        } catch (NumberFormatException e) {
+            ctx.status(400).json(new ErrorResponse("Error: bad request"));
+        } catch (UnauthorizedException e) {
+            ctx.status(401).json(new ErrorResponse("Error: unauthorized"));
+        } catch (DataAccessException e) {
+            ctx.status(500).json(new ErrorResponse("Error: server error"));
+        }
+    }
+
+    private static String defaultIfNull(String value, String fallback) {
+        return (value == null) ? fallback : value;
+    }
+}
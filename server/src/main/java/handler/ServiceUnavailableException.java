@@ -0,0 +1,11 @@
+package handler;
+
+/**
+ * 10/18/26: added for move hints
+ * throws error if the server has no capacity left for an optional request, e.g. analysis
+ */
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,38 @@
+package server;
+
+import dataaccess.DataAccessException;
+import dataaccess.DatabaseManager;
+import dataaccess.SQLGameDAO;
+import service.PgnService;
+
+import java.nio.file.Path;
+
+/**
+ * 10/18/26: added for PGN - command line bulk import/export against the configured database
+ * usage: PgnMain import games.pgn | PgnMain export finished.pgn
+ */
+public class PgnMain {
+    public static void main(String[] args) throws Exception {
+        if (args.length != 2 || !(args[0].equals("import") || args[0].equals("export"))) {
+            System.out.println("usage: PgnMain import <file.pgn> | PgnMain export <file.pgn>");
+            return;
+        }
+        try {
+            DatabaseManager.createDatabase();
+            PgnService pgnService = new PgnService(new SQLGameDAO());
+            Path file = Path.of(args[1]);
+            long start = System.nanoTime();
+            if (args[0].equals("import")) {
+                PgnService.ImportResult result = pgnService.importGames(file,
+                        Runtime.getRuntime().availableProcessors());
+                System.out.printf("imported %d games, %d failed, in %.1f s%n",
+                        result.imported(), result.failed(), (System.nanoTime() - start) / 1e9);
+            } else {
+                long written = pgnService.exportGames(file);
+                System.out.printf("exported %d games in %.1f s%n", written, (System.nanoTime() - start) / 1e9);
+            }
+        } catch (DataAccessException e) {
+            System.out.println("Error: " + e.getMessage());
+        }
+    }
+}
@@ -5,6 +5,7 @@ import io.javalin.json.JavalinGson;
 
 import dataaccess.*;
 import server.websocket.ConnectionManager;
+import server.websocket.GameMailboxes;
 import server.websocket.WebSocketHandler;
 import service.*;
 import handler.*;
@@ -17,18 +18,35 @@ import java.time.Duration;
  * 3/2/26: added for p3 apis
  * 3/11/26: updated for p4 database
  * 4/7/26: updated for p6 websocket
+ * 10/18/26: updated for move hints
+ * 10/18/26: updated for the active-game cache - every service shares one CachedGameDAO, flushed on stop
+ * 10/18/26: updated for per-game command ordering - stop lets queued websocket commands finish first
+ * 10/18/26: updated for virtual threads - optionally runs HTTP handlers and game commands on virtual threads
+ * 10/18/26: updated for per-game command ordering - REST joins go through the websocket's game mailboxes
  */
 public class Server {
 
     private final Javalin javalin;
+    private final CachedGameDAO gameDAO;
+    private final WebSocketHandler wsHandler;
 
     public Server() {
+        this(false);
+    }
+
+    /**
+     * @param virtualThreads run HTTP handlers, websocket frames and game commands on virtual threads, so a
+     *                       request blocked on the database holds no platform thread
+     * added 10/18/26 for virtual threads
+     */
+    public Server(boolean virtualThreads) {
 
         Gson gson = new GsonBuilder().serializeNulls().create();
 
         javalin = Javalin.create(config -> {
             config.staticFiles.add("web");
             config.jsonMapper(new JavalinGson(gson, false));
+            config.useVirtualThreads = virtualThreads;
         });
 
         try {
@@ -40,20 +58,21 @@ public class Server {
         // DAOs
         UserDAO userDAO;
         AuthDAO authDAO;
-        GameDAO gameDAO;
 
         try {
             userDAO = new SQLUserDAO();
             authDAO = new SQLAuthDAO();
-            gameDAO = new SQLGameDAO();
+            gameDAO = new CachedGameDAO(new SQLGameDAO());
         } catch (DataAccessException e) {
             throw new RuntimeException("Database failed to initialize", e);
         }
 
         // Services
+        GameMailboxes mailboxes = new GameMailboxes(virtualThreads);
         UserService userService = new UserService(userDAO, authDAO);
         ClearService clearService = new ClearService(userDAO, authDAO, gameDAO);
-        GameService gameService = new GameService(gameDAO, authDAO);
+        GameService gameService = new GameService(gameDAO, authDAO, mailboxes);
+        HintService hintService = new HintService(gameDAO, authDAO);
 
         // Handlers
         RegisterHandler registerHandler = new RegisterHandler(userService);
@@ -63,8 +82,9 @@ public class Server {
         CreateGameHandler createGameHandler = new CreateGameHandler(gameService);
         JoinGameHandler joinGameHandler = new JoinGameHandler(gameService);
         ClearHandler clearHandler = new ClearHandler(clearService);
+        HintHandler hintHandler = new HintHandler(hintService);
         ConnectionManager connectionManager = new ConnectionManager();
-        WebSocketHandler wsHandler = new WebSocketHandler(connectionManager, gameDAO, authDAO);
+        wsHandler = new WebSocketHandler(connectionManager, gameDAO, authDAO, hintService, mailboxes);
 
         // Routes
         javalin.post("/user", registerHandler::handle);
@@ -73,6 +93,7 @@ public class Server {
         javalin.get("/game", listGamesHandler::handle);
         javalin.post("/game", createGameHandler::handle);
         javalin.put("/game", joinGameHandler::handle);
+        javalin.get("/game/{gameID}/hint", hintHandler::handle);
         javalin.delete("/db", clearHandler::handle);
         javalin.ws("/ws", ws -> {
             ws.onConnect(ctx -> {
@@ -97,6 +118,9 @@ public class Server {
         javalin.exception(AlreadyTakenException.class, (e, ctx) -> {
             ctx.status(403).json(new ErrorResponse(e.getMessage()));
         });
+        javalin.exception(ServiceUnavailableException.class, (e, ctx) -> {
+            ctx.status(503).json(new ErrorResponse(e.getMessage()));
+        });
         javalin.exception(Exception.class, (e, ctx) -> {
             ctx.status(500).json(new ErrorResponse("Error: server error"));
         });
@@ -109,5 +133,8 @@ public class Server {
 
     public void stop() {
         javalin.stop();
+        wsHandler.close(); // added 10/18/26 for per-game command ordering: before their moves are flushed
+        gameDAO.close(); // added 10/18/26 for the active-game cache: write the moves not yet flushed
+        DatabaseManager.closePool(); // added 10/18/26 for pooled database connections
     }
 }
\ No newline at end of file
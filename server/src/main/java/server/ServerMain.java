@@ -1,11 +1,33 @@
 package server;
 
 import chess.*;
+import chess.engine.Engine;
 
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * 10/18/26: updated for virtual threads - "--virtual-threads" or -Dchess.server.virtualThreads=true runs
+ * requests on virtual threads
+ * 10/18/26: updated for the engine - loads the configured opening book and tablebases at startup and says so if
+ * they cannot be read
+ */
 public class ServerMain {
+    public static final String VIRTUAL_THREADS_PROPERTY = "chess.server.virtualThreads";
+
     public static void main(String[] args) {
-        Server server = new Server();
+        boolean virtualThreads = Arrays.asList(args).contains("--virtual-threads")
+                || Boolean.getBoolean(VIRTUAL_THREADS_PROPERTY);
+        try {
+            Engine.load();
+        } catch (IOException e) {
+            System.out.println("Computer player starting without its " + e.getMessage());
+            for (Throwable other : e.getSuppressed()) {
+                System.out.println("Computer player starting without its " + other.getMessage());
+            }
+        }
+        Server server = new Server(virtualThreads);
         server.run(4444);
-        System.out.println("♕ 240 Chess Server");
+        System.out.println("♕ 240 Chess Server" + (virtualThreads ? " (virtual threads)" : ""));
     }
 }
@@ -2,20 +2,30 @@ package server.websocket;
 
 import com.google.gson.Gson;
 import org.eclipse.jetty.websocket.api.Session;
+import org.eclipse.jetty.websocket.api.WriteCallback;
 import websocket.messages.ServerMessage;
 
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 4/7/26: added for p6 gameplay
+ * 10/18/26: updated for broadcast fan-out - a broadcast is encoded once and sent to each session
+ * asynchronously, so a slow observer no longer holds up the rest; a session that falls too far behind
+ * or fails a send is closed
  */
 public class ConnectionManager {
 
     private final Map<Integer, Set<Session>> gameConnections = new ConcurrentHashMap<>();
     private final Gson gson = new Gson();
+    // sends handed to each session's endpoint and not yet completed, added 10/18/26 for broadcast fan-out
+    private final Map<Session, AtomicInteger> pendingSends = new ConcurrentHashMap<>();
+
+    // more unfinished sends than this and the session is treated as gone
+    static final int MAX_PENDING_SENDS = 256;
 
     public void addConnection(int gameID, Session session) {
         gameConnections
@@ -37,8 +47,10 @@ public class ConnectionManager {
     public void broadcastToGame(int gameID, ServerMessage message) {
         Set<Session> sessions = gameConnections.get(gameID);
         if (sessions == null) { return; }
+        // updated 10/18/26 for broadcast fan-out: one encoding shared by every recipient
+        String json = gson.toJson(message);
         for (Session session : sessions) {
-            send(session, message);
+            send(session, json);
         }
     }
 
@@ -47,25 +59,61 @@ public class ConnectionManager {
 
         if (sessions == null) { return; }
 
+        // updated 10/18/26 for broadcast fan-out: encoded once, and only if someone else is listening
+        String json = null;
         for (Session session : sessions) {
             if (!session.equals(sender)) {
-                send(session, message);
+                if (json == null) {
+                    json = gson.toJson(message);
+                }
+                send(session, json);
             }
         }
     }
 
-    private void send(Session session, ServerMessage message) {
+    /**
+     * Starts sending an encoded message without waiting for it to be written
+     * updated 10/18/26 for broadcast fan-out: takes the shared encoding and sends asynchronously
+     */
+    private void send(Session session, String json) {
+        if (!session.isOpen()) {
+            return;
+        }
+        AtomicInteger pending = pendingSends.computeIfAbsent(session, s -> new AtomicInteger());
+        if (pending.incrementAndGet() > MAX_PENDING_SENDS) {
+            pending.decrementAndGet();
+            drop(session);
+            return;
+        }
         try {
-            if (session.isOpen()) {
-                String json = gson.toJson(message);
-                session.getRemote().sendString(json);
-            }
+            session.getRemote().sendString(json, new WriteCallback() {
+                @Override
+                public void writeFailed(Throwable x) {
+                    pending.decrementAndGet();
+                    drop(session);
+                }
+
+                @Override
+                public void writeSuccess() {
+                    pending.decrementAndGet();
+                }
+            });
         } catch (Exception e) {
-            try {
-                session.close();
-            } catch (Exception ex) {
-                removeSessionFromAllGames(session);
-            }
+            pending.decrementAndGet();
+            drop(session);
+        }
+    }
+
+    /**
+     * Helper function to stop sending to a session that failed or fell behind
+     * added 10/18/26 for broadcast fan-out
+     */
+    private void drop(Session session) {
+        removeSessionFromAllGames(session);
+        try {
+            session.close();
+        } catch (Exception e) {
+            // already closed
         }
     }
 
@@ -73,5 +121,6 @@ public class ConnectionManager {
         for (Integer gameID : gameConnections.keySet()) {
             removeConnection(gameID, session);
         }
+        pendingSends.remove(session);
     }
 }
\ No newline at end of file
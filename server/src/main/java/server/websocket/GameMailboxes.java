@@ -0,0 +1,205 @@
+package server.websocket;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 10/18/26: added for per-game command ordering - one mailbox per game, drained on virtual threads
+ * Commands for a game are queued in its mailbox and run one at a time in the order they arrived, so a
+ * command reads and updates its game without racing another command for the same game, and without locks.
+ * A mailbox with work has exactly one virtual thread draining it; when it empties the thread ends and the
+ * next command starts a new one. Different games never wait on each other, and a slow database call blocks
+ * only its own game's virtual thread instead of a websocket thread.
+ * 10/18/26: updated for virtual threads - the drains can run on platform threads instead, for comparison; those
+ * come from a fixed pool of PLATFORM_THREADS, so busy games queue for a thread rather than each getting a new one
+ * 10/18/26: updated for per-game command ordering - an empty mailbox is dropped in the same step that empties
+ * it, so finished games do not pile up, and a command that throws an Error no longer stalls its game
+ * 10/18/26: updated for per-game command ordering - call() for commands from outside the websocket, such as
+ * a REST join, that wait for a result
+ */
+public class GameMailboxes implements AutoCloseable {
+
+    /**
+     * Snapshot of one game's mailbox
+     *
+     * @param depth             commands queued or running now
+     * @param processed         commands finished
+     * @param failed            commands that threw
+     * @param averageWaitMillis average time a command waited in the mailbox before it ran
+     * @param averageRunMillis  average time a command took to run
+     * @param maxRunMillis      longest run
+     */
+    public record Stats(int depth, long processed, long failed, double averageWaitMillis,
+                        double averageRunMillis, double maxRunMillis) {
+    }
+
+    private record Command(Runnable work, long queuedNanos) {
+    }
+
+    private static final class Mailbox {
+        final Queue<Command> queue = new ConcurrentLinkedQueue<>();
+        // counts a command after it is queued; raised only inside mailboxes.compute, and lowered to 0 only
+        // there too, in the step that drops the mailbox, so a submit never adds to a mailbox that is gone
+        final AtomicInteger depth = new AtomicInteger();
+        final AtomicLong processed = new AtomicLong();
+        final AtomicLong failed = new AtomicLong();
+        final AtomicLong totalWaitNanos = new AtomicLong();
+        final AtomicLong totalRunNanos = new AtomicLong();
+        final AtomicLong maxRunNanos = new AtomicLong();
+
+        Stats stats() {
+            long count = processed.get();
+            return new Stats(depth.get(), count, failed.get(),
+                    (count == 0) ? 0 : totalWaitNanos.get() / 1e6 / count,
+                    (count == 0) ? 0 : totalRunNanos.get() / 1e6 / count,
+                    maxRunNanos.get() / 1e6);
+        }
+    }
+
+    private static final long SHUTDOWN_MILLIS = 5_000;
+    // drain threads in platform mode; drains wait on the database, so a few per core
+    static final int PLATFORM_THREADS = Math.max(8, 4 * Runtime.getRuntime().availableProcessors());
+
+    private final Map<Integer, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    private final ExecutorService executor;
+    private volatile boolean closed;
+
+    public GameMailboxes() {
+        this(true);
+    }
+
+    /**
+     * @param virtualThreads drain on a new virtual thread per drain, or else on a fixed pool of
+     *                       PLATFORM_THREADS platform threads; either way one game's commands never overlap
+     */
+    public GameMailboxes(boolean virtualThreads) {
+        executor = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("game-", 0).factory())
+                : Executors.newFixedThreadPool(PLATFORM_THREADS,
+                        Thread.ofPlatform().name("game-", 0).daemon().factory());
+    }
+
+    /**
+     * Queues a command behind the game's earlier ones
+     *
+     * @throws RejectedExecutionException once the mailboxes are closed
+     */
+    public void submit(int gameID, Runnable command) {
+        if (closed) {
+            throw new RejectedExecutionException("server is stopping");
+        }
+        Command queued = new Command(command, System.nanoTime());
+        mailboxes.compute(gameID, (id, existing) -> {
+            Mailbox mailbox = (existing != null) ? existing : new Mailbox();
+            mailbox.queue.add(queued);
+            if (mailbox.depth.getAndIncrement() == 0) {
+                try {
+                    executor.execute(() -> drain(id, mailbox));
+                } catch (RejectedExecutionException e) {
+                    // closed since the check above; throwing here also leaves the new mailbox out of the map
+                    mailbox.depth.decrementAndGet();
+                    throw e;
+                }
+            }
+            return mailbox;
+        });
+    }
+
+    /**
+     * Queues a command behind the game's earlier ones, for a caller that waits for its result
+     *
+     * @return completed with the command's result, or exceptionally with what it threw
+     * @throws RejectedExecutionException once the mailboxes are closed
+     */
+    public <T> CompletableFuture<T> call(int gameID, Callable<T> command) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        submit(gameID, () -> {
+            try {
+                result.complete(command.call());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Helper function to run a mailbox's commands until it is empty; only one drain runs per mailbox
+     */
+    private void drain(int gameID, Mailbox mailbox) {
+        do {
+            // every count was raised after its command was queued, so the queue is not empty here
+            Command command = mailbox.queue.poll();
+            long start = System.nanoTime();
+            try {
+                command.work().run();
+            } catch (Throwable e) {
+                // an Error too: escaping would end the drain with the count still up and the game stuck
+                mailbox.failed.incrementAndGet();
+                System.out.println("Game command failed: " + e.getMessage());
+            }
+            long end = System.nanoTime();
+            mailbox.processed.incrementAndGet();
+            mailbox.totalWaitNanos.addAndGet(start - command.queuedNanos());
+            mailbox.totalRunNanos.addAndGet(end - start);
+            mailbox.maxRunNanos.accumulateAndGet(end - start, Math::max);
+        } while (!finished(gameID, mailbox));
+    }
+
+    /**
+     * Helper function to count off the command the drain just ran, dropping the mailbox if it was the last
+     *
+     * @return true if the mailbox is empty and was dropped
+     */
+    private boolean finished(int gameID, Mailbox mailbox) {
+        // only the drain lowers the count, so above 1 it cannot reach 0 here
+        if (mailbox.depth.get() > 1) {
+            mailbox.depth.decrementAndGet();
+            return false;
+        }
+        return mailboxes.computeIfPresent(gameID,
+                (id, existing) -> (existing.depth.decrementAndGet() == 0) ? null : existing) == null;
+    }
+
+    /**
+     * @return the game's mailbox counters, or null if it has no command queued or running
+     */
+    public Stats stats(int gameID) {
+        Mailbox mailbox = mailboxes.get(gameID);
+        return (mailbox == null) ? null : mailbox.stats();
+    }
+
+    /**
+     * @return counters of every game with commands queued or running, by gameID
+     */
+    public Map<Integer, Stats> stats() {
+        Map<Integer, Stats> all = new HashMap<>();
+        mailboxes.forEach((gameID, mailbox) -> all.put(gameID, mailbox.stats()));
+        return all;
+    }
+
+    /**
+     * Turns away new commands and waits a few seconds for the queued ones to finish
+     */
+    @Override
+    public void close() {
+        closed = true;
+        executor.shutdown();
+        try {
+            executor.awaitTermination(SHUTDOWN_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,17 +1,35 @@
 package server.websocket;
 
 import chess.*;
+import chess.engine.Engine;
+import chess.engine.SearchLimits;
+import chess.engine.SearchResult;
+import chess.engine.Tablebase;
 import com.google.gson.Gson;
 import dataaccess.*;
 import model.AuthData;
 import org.eclipse.jetty.websocket.api.Session;
 import model.GameData;
+import service.HintService;
+import websocket.commands.HintCommand;
 import websocket.commands.MakeMoveCommand;
 import websocket.commands.UserGameCommand;
 import websocket.messages.*;
 
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 /**
  * 4/7/26: added for p6 websocket - handler
+ * 10/18/26: updated for the engine - ADD_BOT seats the computer player, which answers on a background executor
+ * 10/18/26: updated for move hints - HINT answers the requester alone, from the hint service's pool
+ * 10/18/26: updated for the active-game cache - games come from memory through the cached GameDAO, and the
+ * new state is broadcast from the game just saved instead of being read back
+ * 10/18/26: updated for per-game command ordering - commands run in their game's mailbox, in arrival order,
+ * and the computer player's move is applied there too once its search finishes
+ * 10/18/26: updated for virtual threads - the server's thread mode picks the mailboxes' threads
+ * 10/18/26: updated for per-game command ordering - the mailboxes can be shared with the REST join
  */
 public class WebSocketHandler {
 
@@ -19,11 +37,49 @@ public class WebSocketHandler {
     private final ConnectionManager connectionManager;
     private final GameDAO gameDAO;
     private final AuthDAO authDAO;
+    private final HintService hintService;
+    // added 10/18/26 for per-game command ordering
+    private final GameMailboxes mailboxes;
+    // searches run off the websocket threads, one per core at most, added 10/18/26 for the engine
+    private final ExecutorService botExecutor = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(),
+            runnable -> {
+                Thread thread = new Thread(runnable, "engine");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private static final long BOT_MOVE_MILLIS = 1000;
 
-    public WebSocketHandler(ConnectionManager connManager, GameDAO gameDAO, AuthDAO authDAO) {
+    /**
+     * Runs game commands on platform threads, the same default as Server()
+     * updated 10/18/26 for virtual threads
+     */
+    public WebSocketHandler(ConnectionManager connManager, GameDAO gameDAO, AuthDAO authDAO,
+                            HintService hintService) {
+        this(connManager, gameDAO, authDAO, hintService, false);
+    }
+
+    /**
+     * @param virtualThreads run game commands on virtual threads rather than platform threads
+     * added 10/18/26 for virtual threads
+     */
+    public WebSocketHandler(ConnectionManager connManager, GameDAO gameDAO, AuthDAO authDAO,
+                            HintService hintService, boolean virtualThreads) {
+        this(connManager, gameDAO, authDAO, hintService, new GameMailboxes(virtualThreads));
+    }
+
+    /**
+     * @param mailboxes game command mailboxes, shared with anything else that changes games; closed by close()
+     * added 10/18/26 for per-game command ordering
+     */
+    public WebSocketHandler(ConnectionManager connManager, GameDAO gameDAO, AuthDAO authDAO,
+                            HintService hintService, GameMailboxes mailboxes) {
         this.connectionManager = connManager;
         this.gameDAO = gameDAO;
         this.authDAO = authDAO;
+        this.hintService = hintService;
+        this.mailboxes = mailboxes;
     }
 
     public void onConnect(Session session) {
@@ -37,9 +93,17 @@ public class WebSocketHandler {
 
     public void onMessage(Session session, String message) {
         // deserialize UserGameCommand, route to correct handler
+        // updated 10/18/26 for per-game command ordering: handlers run in the game's mailbox, off this thread
         try {
             UserGameCommand command = gson.fromJson(message, UserGameCommand.class);
+            mailboxes.submit(command.getGameID(), () -> dispatch(session, command, message));
+        } catch (Exception e) {
+            sendError(session, e.getMessage());
+        }
+    }
 
+    private void dispatch(Session session, UserGameCommand command, String message) {
+        try {
             switch (command.getCommandType()) {
                 case CONNECT -> handleConnect(session, command);
                 case MAKE_MOVE -> {
@@ -48,6 +112,8 @@ public class WebSocketHandler {
                 }
                 case LEAVE -> handleLeave(session, command);
                 case RESIGN -> handleResign(session, command);
+                case ADD_BOT -> handleAddBot(session, command);
+                case HINT -> handleHint(session, gson.fromJson(message, HintCommand.class));
             }
         } catch (Exception e) {
             sendError(session, e.getMessage());
@@ -107,8 +173,8 @@ public class WebSocketHandler {
         var move = command.getMove();
         System.out.println(move + "this is the move");
         System.out.println(gson.toJson(command));
-        ChessPosition startPos = new ChessPosition(move.start.row, move.start.col);
-        ChessPosition endPos = new ChessPosition(move.end.row, move.end.col);
+        ChessPosition startPos = ChessPosition.of(move.start.row, move.start.col);
+        ChessPosition endPos = ChessPosition.of(move.end.row, move.end.col);
         ChessPiece.PieceType promo = move.promoType;
         try {
             game.game().makeMove(new ChessMove(startPos, endPos, promo));
@@ -116,18 +182,26 @@ public class WebSocketHandler {
             send(session, new ServerErrorMessage("invalid move"));
             return;
         }
-        ChessGame chess = game.game();
-        String winner = null;
+        finishMove(gameID, game, session, username + " made move: " + startPos + endPos);
+    }
 
-        boolean whiteCheckmate = chess.isInCheckmate(ChessGame.TeamColor.WHITE);
-        boolean blackCheckmate = chess.isInCheckmate(ChessGame.TeamColor.BLACK);
-        boolean whiteStalemate = chess.isInStalemate(ChessGame.TeamColor.WHITE);
-        boolean blackStalemate = chess.isInStalemate(ChessGame.TeamColor.BLACK);
-        boolean gameOver = whiteCheckmate || blackCheckmate || whiteStalemate || blackStalemate;
-        if (whiteCheckmate) {
-            winner = "BLACK";
-        } else if (blackCheckmate) {
-            winner = "WHITE";
+    /**
+     * Helper function to save a move that was just made, broadcast the new
+     * state and any game over result, then let the engine answer if it is its turn
+     * added 10/18/26 for the engine, moved out of handleMakeMove
+     *
+     * @param sender session that made the move, not told about its own move; null for the engine
+     */
+    private void finishMove(int gameID, GameData game, Session sender, String moveNotification) throws Exception {
+        // 10/18/26: one status pass for the side to move replaces checkmate/stalemate checks for both colors
+        ChessGame chess = game.game();
+        ChessGame.GameStatus status = chess.evaluateStatus();
+        // 10/18/26: a computer player game ends once the tablebase proves it drawn
+        boolean tablebaseDraw = !status.isGameOver() && isBotGame(game) && isTablebaseDraw(chess);
+        boolean gameOver = status.isGameOver() || tablebaseDraw;
+        if (tablebaseDraw) {
+            // 10/18/26: the position alone does not show this draw, so record it for PGN export
+            chess.setResult("1/2-1/2");
         }
         GameData updatedGame = new GameData(
                 game.gameID(),
@@ -138,26 +212,139 @@ public class WebSocketHandler {
                 gameOver
         );
         gameDAO.updateGame(updatedGame);
-        broadcastGameState(gameID);
+        broadcastGameState(updatedGame);
         // move notifications
         connectionManager.broadcastToOthers(
                 gameID,
-                session,
-                new NotificationMessage(username + " made move: " + startPos + endPos)
+                sender,
+                new NotificationMessage(moveNotification)
         );
         // game over notifications
         if (gameOver) {
-            if (winner == null) {
-                connectionManager.broadcastToGame(
-                        gameID,
-                        new NotificationMessage("game over: stalemate")
-                );
-            } else {
-                connectionManager.broadcastToGame(
-                        gameID,
-                        new NotificationMessage("game over: " + winner + " won")
-                );
+            String result = tablebaseDraw ? "draw by tablebase" : switch (status) {
+                case CHECKMATE -> (chess.getTeamTurn() == ChessGame.TeamColor.WHITE ? "BLACK" : "WHITE") + " won";
+                case STALEMATE -> "stalemate";
+                case DRAW_REPETITION -> "draw by threefold repetition";
+                default -> "draw by fifty-move rule";
+            };
+            connectionManager.broadcastToGame(
+                    gameID,
+                    new NotificationMessage("game over: " + result)
+            );
+        } else {
+            scheduleBotMove(updatedGame);
+        }
+    }
+
+    private static boolean isBotGame(GameData game) {
+        return Engine.isBot(game.whiteUsername()) || Engine.isBot(game.blackUsername());
+    }
+
+    private static boolean isTablebaseDraw(ChessGame chess) {
+        Tablebase tablebase = Engine.tablebase();
+        return tablebase != null && tablebase.probe(chess) == Tablebase.DRAW;
+    }
+
+    /**
+     * Seats the computer player in the open seat of a game the requester plays in
+     * added 10/18/26 for the engine
+     */
+    private void handleAddBot(Session session, UserGameCommand command) throws Exception {
+        int gameID = command.getGameID();
+        GameData game = gameDAO.getGame(gameID);
+        if (game == null) {
+            send(session, new ServerErrorMessage("invalid gameID"));
+            return;
+        }
+        String username = authDAO.getUsername(command.getAuthToken());
+        if (!(username.equals(game.whiteUsername()) || username.equals(game.blackUsername()))) {
+            send(session, new ServerErrorMessage("only a player can add the computer player"));
+            return;
+        }
+        if (game.isGameOver()) {
+            send(session, new ServerErrorMessage("game is over, cannot add the computer player"));
+            return;
+        }
+        String white = game.whiteUsername();
+        String black = game.blackUsername();
+        String color;
+        if (white == null) {
+            white = Engine.BOT_USERNAME;
+            color = "white";
+        } else if (black == null) {
+            black = Engine.BOT_USERNAME;
+            color = "black";
+        } else {
+            send(session, new ServerErrorMessage("no open seat for the computer player"));
+            return;
+        }
+        GameData updatedGame = new GameData(
+                game.gameID(),
+                white,
+                black,
+                game.gameName(),
+                game.game(),
+                false
+        );
+        gameDAO.updateGame(updatedGame);
+        broadcastGameState(updatedGame);
+        connectionManager.broadcastToGame(
+                gameID,
+                new NotificationMessage("computer player joined as " + color)
+        );
+        scheduleBotMove(updatedGame);
+    }
+
+    /**
+     * Starts an engine search on the background executor if the computer
+     * player is to move in the game
+     * added 10/18/26 for the engine
+     * updated 10/18/26 for per-game command ordering: the search gets a copy taken inside the mailbox
+     */
+    private void scheduleBotMove(GameData game) {
+        ChessGame.TeamColor turn = game.game().getTeamTurn();
+        String toMove = (turn == ChessGame.TeamColor.WHITE) ? game.whiteUsername() : game.blackUsername();
+        if (Engine.isBot(toMove)) {
+            ChessGame position = new ChessGame(game.game());
+            botExecutor.execute(() -> makeBotMove(game.gameID(), turn, position));
+        }
+    }
+
+    /**
+     * Searches for the computer player's move, then hands it to the game's
+     * mailbox to be played in turn with the players' commands
+     * added 10/18/26 for the engine
+     * updated 10/18/26 for per-game command ordering: the move is played in the mailbox
+     */
+    private void makeBotMove(int gameID, ChessGame.TeamColor color, ChessGame position) {
+        try {
+            SearchResult result = Engine.chooseMove(position, SearchLimits.time(BOT_MOVE_MILLIS));
+            ChessMove move = result.bestChessMove();
+            if (move == null) {
+                return;
+            }
+            mailboxes.submit(gameID, () -> playBotMove(gameID, color, move));
+        } catch (Exception e) {
+            System.out.println("Engine move failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Plays a move the engine chose, dropping it if the game ended or the
+     * turn changed while the engine was thinking
+     * added 10/18/26 for per-game command ordering, moved out of makeBotMove
+     */
+    private void playBotMove(int gameID, ChessGame.TeamColor color, ChessMove move) {
+        try {
+            GameData game = gameDAO.getGame(gameID);
+            if (game == null || game.isGameOver() || game.game().getTeamTurn() != color) {
+                return;
             }
+            game.game().makeMove(move);
+            finishMove(gameID, game, null,
+                    "computer player made move: " + move.getStartPosition() + move.getEndPosition());
+        } catch (Exception e) {
+            System.out.println("Engine move failed: " + e.getMessage());
         }
     }
 
@@ -219,6 +406,8 @@ public class WebSocketHandler {
             send (session, new ServerErrorMessage("game is already over"));
             return;
         }
+        // 10/18/26: record who won, which the position does not show, for PGN export
+        game.game().setResult(game.whiteUsername().equals(username) ? "0-1" : "1-0");
         GameData updatedGame = new GameData(
                 game.gameID(),
                 game.whiteUsername(),
@@ -234,6 +423,41 @@ public class WebSocketHandler {
         );
     }
 
+    /**
+     * Sends the requester the engine's best moves once the analysis finishes, without blocking this thread
+     * added 10/18/26 for move hints
+     */
+    private void handleHint(Session session, HintCommand command) throws Exception {
+        hintService.requestHints(command.getAuthToken(), command.getGameID(), command.getCount(),
+                HintService.DEFAULT_MILLIS).whenComplete((hint, failure) -> {
+                    try {
+                        if (failure != null) {
+                            sendError(session, "Error: analysis failed");
+                        } else {
+                            send(session, new HintMessage(hint));
+                        }
+                    } catch (Exception e) {
+                        // the requester left before the analysis finished
+                    }
+                });
+    }
+
+    /**
+     * @return each game's mailbox depth and command latency, by gameID
+     * added 10/18/26 for per-game command ordering
+     */
+    public Map<Integer, GameMailboxes.Stats> mailboxStats() {
+        return mailboxes.stats();
+    }
+
+    /**
+     * Stops taking commands and lets the queued ones finish
+     * added 10/18/26 for per-game command ordering
+     */
+    public void close() {
+        mailboxes.close();
+    }
+
     private void send(Session session, ServerMessage message) throws Exception {
         try {
             if (session.isOpen()) {
@@ -245,11 +469,10 @@ public class WebSocketHandler {
         }
     }
 
-    private void broadcastGameState(int gameID) throws Exception {
-        GameData game = gameDAO.getGame(gameID);
-
+    // updated 10/18/26 for the active-game cache: takes the saved game rather than reading it again
+    private void broadcastGameState(GameData game) throws Exception {
         connectionManager.broadcastToGame(
-                gameID,
+                game.gameID(),
                 new LoadGameMessage(game)
         );
     }
@@ -1,6 +1,7 @@
 package service;
 
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 
 import dataaccess.AuthDAO;
 import dataaccess.DataAccessException;
@@ -10,20 +11,33 @@ import handler.AlreadyTakenException;
 import handler.BadRequestException;
 import model.AuthData;
 import model.GameData;
+import server.websocket.GameMailboxes;
 
 /**
  * 3/2/26: added for p3 apis - games
  * 3/10/26: updated for p4 database - DataAccessExceptions
  * 3/24/26: updated for p5 client - list is now List
+ * 10/18/26: updated for per-game command ordering - a join runs in the game's mailbox, in turn with its
+ * websocket commands, so a join and a move cannot each save a copy of the game missing the other's change
  */
 public class GameService {
 
     private final GameDAO gameDAO;
     private final AuthDAO authDAO;
+    private final GameMailboxes mailboxes;
 
     public GameService(GameDAO gameDAO, AuthDAO authDAO) {
+        this(gameDAO, authDAO, new GameMailboxes());
+    }
+
+    /**
+     * @param mailboxes the game command mailboxes the websocket handler uses
+     * added 10/18/26 for per-game command ordering
+     */
+    public GameService(GameDAO gameDAO, AuthDAO authDAO, GameMailboxes mailboxes) {
         this.gameDAO = gameDAO;
         this.authDAO = authDAO;
+        this.mailboxes = mailboxes;
     }
 
     public List<GameData> getListGames(String authToken) throws DataAccessException {
@@ -64,6 +78,31 @@ public class GameService {
         }
 
         String username = auth.username();
+        try {
+            mailboxes.call(gameID, () -> {
+                seatPlayer(gameID, username, playerColor);
+                return null;
+            }).get();
+        } catch (ExecutionException e) {
+            // the same exceptions a join run on this thread would throw
+            if (e.getCause() instanceof DataAccessException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new DataAccessException("unable to join game", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataAccessException("unable to join game", e);
+        }
+    }
+
+    /**
+     * Helper function to read, check and save the join; runs in the game's mailbox
+     * added 10/18/26 for per-game command ordering, moved out of joinGame
+     */
+    private void seatPlayer(int gameID, String username, String playerColor) throws DataAccessException {
         GameData game = gameDAO.getGame(gameID);
         if (game == null) {
             throw new BadRequestException("Error: bad request");
@@ -0,0 +1,154 @@
+package service;
+
+import chess.ChessGame;
+import chess.engine.Analysis;
+import chess.engine.Engine;
+import chess.engine.SearchLimits;
+import dataaccess.AuthDAO;
+import dataaccess.DataAccessException;
+import dataaccess.GameDAO;
+import dataaccess.UnauthorizedException;
+import handler.BadRequestException;
+import handler.ServiceUnavailableException;
+import model.AuthData;
+import model.GameData;
+import results.HintResult;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 10/18/26: added for move hints - the engine's best moves for a game's position
+ * Analysis runs on its own small pool with a bounded queue, separate from the computer player's executor
+ * and the websocket threads, so hints never hold up moves: when the pool and queue are full a request is
+ * turned away instead of queued. Results are cached by position hash, and a request for a position already
+ * being analyzed waits on that analysis, so every observer of a game shares one search. The cache keeps
+ * MAX_HINTS lines and each request takes the number it asked for; the first request for a position sets its search budget.
+ * 10/18/26: updated for move hints - a request copies the game once and keys and analyzes that copy
+ */
+public class HintService {
+
+    public static final int MAX_HINTS = 5;
+    public static final long DEFAULT_MILLIS = 500;
+    public static final long MAX_MILLIS = 2000;
+    // extra wait beyond the search budget for queueing and the last iteration to unwind
+    private static final long GRACE_MILLIS = 250;
+    private static final int CACHE_ENTRIES = 1024;
+    private static final int QUEUE_CAPACITY = 16;
+
+    private final GameDAO gameDAO;
+    private final AuthDAO authDAO;
+    private final ThreadPoolExecutor executor;
+    // least recently used first; guarded by itself
+    private final Map<Long, CompletableFuture<Analysis>> cache = new LinkedHashMap<>(CACHE_ENTRIES, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, CompletableFuture<Analysis>> eldest) {
+            return size() > CACHE_ENTRIES;
+        }
+    };
+
+    public HintService(GameDAO gameDAO, AuthDAO authDAO) {
+        this(gameDAO, authDAO, Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+    }
+
+    /**
+     * @param threads most analyses running at once
+     */
+    public HintService(GameDAO gameDAO, AuthDAO authDAO, int threads) {
+        this.gameDAO = gameDAO;
+        this.authDAO = authDAO;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY), runnable -> {
+                    Thread thread = new Thread(runnable, "hint");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Blocks until the hints are ready, at most the time budget plus a short grace
+     *
+     * @param count  moves wanted, 1 to MAX_HINTS
+     * @param millis search time budget, clamped to MAX_MILLIS
+     */
+    public HintResult getHints(String authToken, int gameID, int count, long millis) throws DataAccessException {
+        long budget = clampMillis(millis);
+        CompletableFuture<HintResult> hints = requestHints(authToken, gameID, count, budget);
+        try {
+            return hints.get(budget + GRACE_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ServiceUnavailableException("Error: analysis timed out");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Error: analysis interrupted");
+        } catch (ExecutionException e) {
+            throw new ServiceUnavailableException("Error: analysis failed");
+        }
+    }
+
+    /**
+     * Checks the request and starts the analysis, or joins the one already running or cached for the position
+     *
+     * @return hints, completed on the analysis pool
+     * @throws ServiceUnavailableException if the analysis pool is full
+     */
+    public CompletableFuture<HintResult> requestHints(String authToken, int gameID, int count, long millis)
+            throws DataAccessException {
+        if (authToken == null) {
+            throw new UnauthorizedException("Error: unauthorized");
+        }
+        AuthData auth = authDAO.getAuth(authToken);
+        if (auth == null) {
+            throw new UnauthorizedException("Error: unauthorized");
+        }
+        GameData game = gameDAO.getGame(gameID);
+        if (game == null || count < 1 || count > MAX_HINTS) {
+            throw new BadRequestException("Error: bad request");
+        }
+        // one copy for both the cache key and the search, so a move made meanwhile cannot pair them up wrong
+        ChessGame chess = new ChessGame(game.game());
+        return analysis(chess, clampMillis(millis)).thenApply(analysis -> HintResult.of(gameID, analysis.top(count)));
+    }
+
+    private CompletableFuture<Analysis> analysis(ChessGame chess, long millis) {
+        long key = chess.getZobristKey();
+        synchronized (cache) {
+            CompletableFuture<Analysis> cached = cache.get(key);
+            if (cached != null && !cached.isCompletedExceptionally()) {
+                return cached;
+            }
+            try {
+                CompletableFuture<Analysis> started = CompletableFuture.supplyAsync(
+                        () -> Engine.analyze(chess, MAX_HINTS, SearchLimits.time(millis)), executor);
+                cache.put(key, started);
+                return started;
+            } catch (RejectedExecutionException e) {
+                throw new ServiceUnavailableException("Error: analysis busy, try again");
+            }
+        }
+    }
+
+    private static long clampMillis(long millis) {
+        return (millis <= 0) ? DEFAULT_MILLIS : Math.min(millis, MAX_MILLIS);
+    }
+
+    /**
+     * @return analyses waiting for a thread
+     */
+    public int queuedAnalyses() {
+        return executor.getQueue().size();
+    }
+
+    public void clearCache() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package service;
+
+import chess.ChessGame;
+import chess.pgn.PgnGame;
+import chess.pgn.PgnReader;
+import chess.pgn.PgnReplay;
+import chess.pgn.PgnWriter;
+import dataaccess.DataAccessException;
+import dataaccess.GameDAO;
+import model.GameData;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 10/18/26: added for PGN - bulk import of historical games and export of finished games
+ * 10/18/26: updated for PGN - export reads finished games from the DAO one at a time instead of listing all games
+ * 10/18/26: updated for PGN - imports keep their Result and are stored in batches; export never writes "*" for a
+ * finished game
+ */
+public class PgnService {
+
+    private static final int MAX_GAME_NAME = 255;
+    // games stored per DAO call on import
+    private static final int IMPORT_BATCH = 500;
+
+    private final GameDAO gameDAO;
+
+    public record ImportResult(long imported, long failed) {
+    }
+
+    public PgnService(GameDAO gameDAO) {
+        this.gameDAO = gameDAO;
+    }
+
+    /**
+     * Streams a PGN file into the games table as finished games, replaying on several threads.
+     * Players are put in the game name rather than the username columns, since they are not accounts here.
+     * Each game keeps its Result tag, so a resignation or agreed draw exports as it was read. Games are
+     * stored IMPORT_BATCH at a time; a batch that fails to store counts all its games as failed.
+     * With more than one thread the DAO is called concurrently, as the SQL DAOs allow.
+     */
+    public ImportResult importGames(Path file, int threads) throws IOException, InterruptedException {
+        AtomicLong imported = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        // guarded by itself; whichever replay thread fills it stores it
+        List<GameData> batch = new ArrayList<>(IMPORT_BATCH);
+        try (PgnReader reader = PgnReader.open(file)) {
+            PgnReplay.replayAll(reader, threads, replayed -> {
+                if (replayed.game() == null) {
+                    failed.incrementAndGet();
+                    return;
+                }
+                ChessGame chess = replayed.game();
+                if (!replayed.pgn().result().equals("*")) {
+                    chess.setResult(replayed.pgn().result());
+                }
+                List<GameData> full = null;
+                synchronized (batch) {
+                    batch.add(new GameData(0, null, null, gameName(replayed.pgn()), chess, true));
+                    if (batch.size() == IMPORT_BATCH) {
+                        full = new ArrayList<>(batch);
+                        batch.clear();
+                    }
+                }
+                if (full != null) {
+                    store(full, imported, failed);
+                }
+            });
+        }
+        if (!batch.isEmpty()) {
+            store(batch, imported, failed);
+        }
+        return new ImportResult(imported.get(), failed.get());
+    }
+
+    private void store(List<GameData> games, AtomicLong imported, AtomicLong failed) {
+        try {
+            gameDAO.createGames(games);
+            imported.addAndGet(games.size());
+        } catch (DataAccessException e) {
+            failed.addAndGet(games.size());
+        }
+    }
+
+    /**
+     * Writes every finished game to a PGN file, holding only the game being written and the DAO's
+     * current page in memory. A finished game whose result is unknown (one that ended off the board before
+     * results were recorded, or was imported as "*") is left out rather than written as still going.
+     *
+     * @return number of games written
+     */
+    public long exportGames(Path file) throws IOException, DataAccessException {
+        AtomicLong written = new AtomicLong();
+        try (PgnWriter writer = new PgnWriter(FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE))) {
+            gameDAO.forEachFinishedGame(game -> {
+                String result = PgnGame.resultOf(game.game());
+                if (result.equals("*")) {
+                    return;
+                }
+                try {
+                    writer.write(toPgn(game, result));
+                    written.incrementAndGet();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return written.get();
+    }
+
+    private static PgnGame toPgn(GameData game, String result) {
+        ChessGame chess = game.game();
+        Map<String, String> tags = new LinkedHashMap<>();
+        tags.put("Event", game.gameName());
+        tags.put("Site", "240 Chess");
+        tags.put("White", game.whiteUsername() == null ? "?" : game.whiteUsername());
+        tags.put("Black", game.blackUsername() == null ? "?" : game.blackUsername());
+        return PgnGame.fromGame(chess, tags, result);
+    }
+
+    private static String gameName(PgnGame pgn) {
+        Map<String, String> tags = pgn.tags();
+        String name = tags.getOrDefault("White", "?") + " vs " + tags.getOrDefault("Black", "?");
+        String date = tags.get("Date");
+        if (date != null && !date.startsWith("?")) {
+            name += " " + date;
+        }
+        return name.length() > MAX_GAME_NAME ? name.substring(0, MAX_GAME_NAME) : name;
+    }
+}
@@ -1,5 +1,6 @@
 package service;
 
+import chess.engine.Engine;
 import dataaccess.DataAccessException;
 import dataaccess.UserDAO;
 import dataaccess.AuthDAO;
@@ -18,6 +19,7 @@ import java.util.UUID;
  * 3/1/26: added for p3 apis - AuthService, login, logout
  * 3/10/26: updated for p4 database - DataAccessExceptions
  * 3/11/26: updated for p4 database - Bcrypt for password storage
+ * 10/18/26: updated for the engine - the computer player's username cannot be registered
  */
 public class UserService {
 
@@ -47,6 +49,10 @@ public class UserService {
         if (username == null || password == null || email == null) {
             throw new BadRequestException("Error: bad request");
         }
+        // 10/18/26: the computer player's seat name is reserved
+        if (Engine.isBot(username)) {
+            throw new AlreadyTakenException("Error: username already taken");
+        }
 
         UserData possibleUserName;
         possibleUserName = userDAO.getUser(username);
@@ -0,0 +1,226 @@
+package dataaccess;
+
+import chess.ChessGame;
+import chess.ChessMove;
+import chess.ChessPosition;
+import model.GameData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 10/18/26: added for the active-game cache - unit tests, over a memory DAO that counts its reads and writes
+ * 10/18/26: updated for the active-game cache - callers get copies, not the cached game
+ */
+public class CachedGameDAOTests {
+
+    // fails updates of games it does not have, like SQLGameDAO, and can be told to fail every write
+    private static class CountingGameDAO implements GameDAO {
+        final MemoryGameDAO games = new MemoryGameDAO();
+        int reads;
+        int writes;
+        boolean failWrites;
+
+        @Override
+        public List<GameData> getListGames() {
+            return games.getListGames();
+        }
+
+        @Override
+        public int createGame(String gameName) throws DataAccessException {
+            return games.createGame(gameName);
+        }
+
+        @Override
+        public void createGames(List<GameData> newGames) {
+            games.createGames(newGames);
+        }
+
+        @Override
+        public GameData getGame(int gameID) {
+            reads++;
+            return games.getGame(gameID);
+        }
+
+        @Override
+        public void updateGame(GameData game) throws DataAccessException {
+            if (failWrites || games.getGame(game.gameID()) == null) {
+                throw new DataAccessException("unable to update game");
+            }
+            writes++;
+            games.updateGame(game);
+        }
+
+        @Override
+        public void clear() throws DataAccessException {
+            games.clear();
+        }
+
+        @Override
+        public void forEachFinishedGame(Consumer<GameData> action) {
+            games.forEachFinishedGame(action);
+        }
+    }
+
+    private CountingGameDAO backing;
+    private int gameID;
+
+    @BeforeEach
+    public void setup() throws DataAccessException {
+        backing = new CountingGameDAO();
+        gameID = backing.createGame("cached");
+    }
+
+    // the background flush is too slow to interfere; the tests flush by hand
+    private CachedGameDAO cache(int maxGames, long idleTimeout) {
+        return new CachedGameDAO(backing, new CachedGameDAO.Settings(maxGames, idleTimeout, 60_000));
+    }
+
+    private static GameData withMove(GameData game, String from, String to) throws Exception {
+        game.game().makeMove(new ChessMove(ChessPosition.of(from.charAt(1) - '0', from.charAt(0) - 'a' + 1),
+                ChessPosition.of(to.charAt(1) - '0', to.charAt(0) - 'a' + 1), null));
+        return new GameData(game.gameID(), "white", "black", game.gameName(), game.game(), false);
+    }
+
+    @Test
+    public void writeBehindPositive() throws Exception {
+        try (CachedGameDAO cache = cache(16, 60_000)) {
+            GameData game = cache.getGame(gameID);
+            game = withMove(game, "e2", "e4");
+            cache.updateGame(game);
+            game = withMove(cache.getGame(gameID), "e7", "e5");
+            cache.updateGame(game);
+
+            assertEquals(1, backing.reads);
+            assertEquals(0, backing.writes);
+            assertEquals(ChessGame.TeamColor.WHITE, cache.getGame(gameID).game().getTeamTurn());
+            assertEquals(1, cache.stats().dirty());
+
+            // two moves, one write
+            cache.flush();
+            assertEquals(1, backing.writes);
+            assertEquals("white", backing.games.getGame(gameID).whiteUsername());
+            assertEquals(0, cache.stats().dirty());
+        }
+    }
+
+    @Test
+    public void closeFlushesPositive() throws Exception {
+        CachedGameDAO cache = cache(16, 60_000);
+        cache.updateGame(withMove(cache.getGame(gameID), "d2", "d4"));
+
+        cache.close();
+
+        assertEquals(1, backing.writes);
+        assertEquals(ChessGame.TeamColor.BLACK, backing.games.getGame(gameID).game().getTeamTurn());
+    }
+
+    @Test
+    public void leastRecentlyUsedEvictionPositive() throws Exception {
+        int otherID = backing.createGame("other");
+        try (CachedGameDAO cache = cache(1, 60_000)) {
+            GameData moved = withMove(cache.getGame(gameID), "g1", "f3");
+            cache.updateGame(moved);
+            cache.getGame(otherID);
+
+            assertEquals(1, cache.stats().cached());
+            // dropped before it was written, so still served from memory
+            assertEquals(moved.game().toFen(), cache.getGame(gameID).game().toFen());
+            assertEquals(2, backing.reads);
+            assertEquals(0, backing.writes);
+
+            cache.flush();
+            assertEquals(1, backing.writes);
+        }
+    }
+
+    @Test
+    public void idleEvictionPositive() throws Exception {
+        try (CachedGameDAO cache = cache(16, 0)) {
+            cache.updateGame(withMove(cache.getGame(gameID), "c2", "c4"));
+
+            // not dropped while there is still something to write
+            cache.evictIdle();
+            assertEquals(1, cache.stats().cached());
+
+            cache.flush();
+            cache.evictIdle();
+            assertEquals(0, cache.stats().cached());
+            cache.getGame(gameID);
+            assertEquals(2, backing.reads);
+        }
+    }
+
+    @Test
+    public void listShowsUnwrittenPositive() throws Exception {
+        try (CachedGameDAO cache = cache(16, 60_000)) {
+            cache.updateGame(withMove(cache.getGame(gameID), "e2", "e4"));
+
+            GameData listed = cache.getListGames().getFirst();
+            assertEquals("white", listed.whiteUsername());
+        }
+    }
+
+    @Test
+    public void copiesNotSharedNegative() throws Exception {
+        try (CachedGameDAO cache = cache(16, 60_000)) {
+            GameData updated = withMove(cache.getGame(gameID), "e2", "e4");
+            cache.updateGame(updated);
+            String saved = updated.game().toFen();
+
+            // changing a game after updateGame, or one got from getGame, does not change the cached game
+            updated.game().makeMove(new ChessMove(ChessPosition.of(7, 5), ChessPosition.of(5, 5), null));
+            withMove(cache.getGame(gameID), "d7", "d5");
+            withMove(cache.getListGames().getFirst(), "c7", "c5");
+
+            assertEquals(saved, cache.getGame(gameID).game().toFen());
+            assertNotSame(cache.getGame(gameID).game(), cache.getGame(gameID).game());
+        }
+    }
+
+    @Test
+    public void finishedInMemoryVisitedPositive() throws Exception {
+        try (CachedGameDAO cache = cache(16, 60_000)) {
+            GameData game = cache.getGame(gameID);
+            cache.updateGame(new GameData(gameID, "white", "black", game.gameName(), game.game(), true));
+            backing.createGame("unfinished");
+
+            List<GameData> visited = new ArrayList<>();
+            cache.forEachFinishedGame(visited::add);
+            assertEquals(1, visited.size());
+            assertEquals("white", visited.getFirst().whiteUsername());
+            assertEquals(1, backing.writes);
+        }
+    }
+
+    @Test
+    public void updateMissingGameNegative() {
+        try (CachedGameDAO cache = cache(16, 60_000)) {
+            GameData missing = new GameData(gameID + 100, null, null, "missing", new ChessGame(), false);
+
+            assertThrows(DataAccessException.class, () -> cache.updateGame(missing));
+        }
+    }
+
+    @Test
+    public void failedFlushKeptNegative() throws Exception {
+        try (CachedGameDAO cache = cache(16, 60_000)) {
+            cache.updateGame(withMove(cache.getGame(gameID), "e2", "e4"));
+            backing.failWrites = true;
+
+            cache.flush();
+            assertEquals(1, cache.stats().failures());
+            assertEquals(1, cache.stats().dirty());
+
+            backing.failWrites = false;
+            cache.flush();
+            assertEquals(1, backing.writes);
+            assertEquals(0, cache.stats().dirty());
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package dataaccess;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 10/18/26: added for pooled database connections - unit tests, with stand-in connections instead of MySQL
+ */
+public class ConnectionPoolTests {
+
+    private final AtomicBoolean valid = new AtomicBoolean(true);
+
+    // a connection that only knows whether it is closed and whether it is valid
+    private Connection fakeConnection() {
+        AtomicBoolean closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "close" -> {
+                        closed.set(true);
+                        yield null;
+                    }
+                    case "isClosed" -> closed.get();
+                    case "isValid" -> valid.get() && !closed.get();
+                    case "getAutoCommit" -> true;
+                    case "getCatalog" -> "chess";
+                    default -> null;
+                });
+    }
+
+    private ConnectionPool pool(int maxSize, long idleTimeout, long maxLifetime, long validationInterval) {
+        return new ConnectionPool(this::fakeConnection, new ConnectionPool.Settings(
+                maxSize, 0, 50, idleTimeout, maxLifetime, validationInterval, 1));
+    }
+
+    @Test
+    public void reusePositive() throws Exception {
+        try (ConnectionPool pool = pool(2, 60_000, 60_000, 60_000)) {
+            try (Connection conn = pool.getConnection()) {
+                assertEquals("chess", conn.getCatalog());
+                assertEquals(1, pool.stats().active());
+            }
+            try (Connection conn = pool.getConnection()) {
+                assertFalse(conn.isClosed());
+            }
+
+            ConnectionPool.Stats stats = pool.stats();
+            assertEquals(2, stats.acquired());
+            assertEquals(1, stats.created());
+            assertEquals(0, stats.active());
+            assertEquals(1, stats.idle());
+        }
+    }
+
+    @Test
+    public void acquireTimeoutNegative() throws Exception {
+        try (ConnectionPool pool = pool(1, 60_000, 60_000, 60_000);
+             Connection held = pool.getConnection()) {
+            assertThrows(DataAccessException.class, pool::getConnection);
+            assertEquals(1, pool.stats().timeouts());
+            assertTrue(pool.stats().maxWaitNanos() >= 50_000_000L);
+            assertFalse(held.isClosed());
+        }
+    }
+
+    @Test
+    public void invalidConnectionReplacedPositive() throws Exception {
+        try (ConnectionPool pool = pool(1, 60_000, 60_000, 0)) {
+            pool.getConnection().close();
+            valid.set(false);
+            pool.getConnection().close();
+
+            assertEquals(2, pool.stats().created());
+            assertEquals(1, pool.stats().closed());
+        }
+    }
+
+    @Test
+    public void maxLifetimePositive() throws Exception {
+        try (ConnectionPool pool = pool(1, 60_000, 0, 60_000)) {
+            pool.getConnection().close();
+            pool.getConnection().close();
+
+            assertEquals(2, pool.stats().created());
+            assertEquals(0, pool.stats().idle());
+        }
+    }
+
+    @Test
+    public void idleEvictionPositive() throws Exception {
+        try (ConnectionPool pool = pool(2, 0, 60_000, 60_000)) {
+            pool.getConnection().close();
+            assertEquals(1, pool.stats().idle());
+
+            Thread.sleep(2);
+            pool.evictIdle();
+
+            assertEquals(0, pool.stats().idle());
+            assertEquals(1, pool.stats().closed());
+        }
+    }
+
+    @Test
+    public void returnedConnectionNegative() throws Exception {
+        try (ConnectionPool pool = pool(1, 60_000, 60_000, 60_000)) {
+            Connection conn = pool.getConnection();
+            conn.close();
+            conn.close();
+
+            assertTrue(conn.isClosed());
+            assertThrows(SQLException.class, conn::getCatalog);
+            assertEquals(0, pool.stats().active());
+        }
+    }
+
+    @Test
+    public void settingsFromPropertiesPositive() {
+        Properties props = new Properties();
+        props.setProperty("db.pool.maxSize", "4");
+        props.setProperty("db.pool.acquireTimeoutMillis", "250");
+
+        ConnectionPool.Settings settings = ConnectionPool.Settings.from(props);
+
+        assertEquals(4, settings.maxSize());
+        assertEquals(250, settings.acquireTimeoutMillis());
+        assertEquals(ConnectionPool.Settings.defaults().maxLifetimeMillis(), settings.maxLifetimeMillis());
+    }
+}
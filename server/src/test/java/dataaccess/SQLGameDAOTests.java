@@ -4,12 +4,15 @@ import chess.ChessGame;
 import model.GameData;
 import org.junit.jupiter.api.*;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * 3/11/26: added for p4 database - unit tests
+ * 10/18/26: updated for PGN - forEachFinishedGame, across more than one page, and createGames
  */
 public class SQLGameDAOTests {
 
@@ -38,6 +41,30 @@ public class SQLGameDAOTests {
         });
     }
 
+    @Test
+    public void createGamesPositive() throws DataAccessException {
+        ChessGame resigned = new ChessGame();
+        resigned.setResult("0-1");
+        gameDAO.createGames(List.of(
+                new GameData(0, null, null, "Imported1", resigned, true),
+                new GameData(0, null, null, "Imported2", new ChessGame(), true)));
+
+        List<GameData> games = new ArrayList<>(gameDAO.getListGames());
+        assertEquals(2, games.size());
+        assertEquals("Imported1", games.getFirst().gameName());
+        assertEquals("0-1", games.getFirst().game().getResult());
+        assertTrue(games.getLast().isGameOver());
+    }
+
+    @Test
+    public void createGamesNegative() {
+        // one bad game and none are stored
+        assertThrows(DataAccessException.class, () -> gameDAO.createGames(List.of(
+                new GameData(0, null, null, "Good", new ChessGame(), true),
+                new GameData(0, null, null, null, new ChessGame(), true))));
+        assertDoesNotThrow(() -> assertTrue(gameDAO.getListGames().isEmpty()));
+    }
+
     @Test
     public void getGamePositive() throws DataAccessException {
         int gameID = gameDAO.createGame("MyChessGame");
@@ -104,6 +131,29 @@ public class SQLGameDAOTests {
         });
     }
 
+    @Test
+    public void forEachFinishedGamePositive() throws DataAccessException {
+        List<Integer> finished = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            int gameID = gameDAO.createGame("Game" + i);
+            if (i % 2 == 0) {
+                gameDAO.updateGame(new GameData(gameID, null, null, "Game" + i, new ChessGame(), true));
+                finished.add(gameID);
+            }
+        }
+
+        List<Integer> visited = new ArrayList<>();
+        gameDAO.forEachFinishedGame(game -> visited.add(game.gameID()));
+        assertEquals(finished, visited);
+    }
+
+    @Test
+    public void forEachFinishedGameNegative() throws DataAccessException {
+        gameDAO.createGame("Unfinished");
+
+        gameDAO.forEachFinishedGame(game -> fail("unfinished game visited: " + game.gameName()));
+    }
+
     @Test
     public void clearPositive() throws DataAccessException {
         gameDAO.createGame("GameToDelete");
@@ -0,0 +1,128 @@
+package server.websocket;
+
+import org.eclipse.jetty.websocket.api.RemoteEndpoint;
+import org.eclipse.jetty.websocket.api.Session;
+import org.eclipse.jetty.websocket.api.WriteCallback;
+import org.junit.jupiter.api.Test;
+import websocket.messages.NotificationMessage;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 10/18/26: added for broadcast fan-out - unit tests, with stand-in sessions instead of Jetty
+ */
+public class ConnectionManagerTests {
+
+    // a session that records what it was sent and holds the callbacks until the test completes them
+    private static class FakeSession {
+        final List<String> sent = new ArrayList<>();
+        final List<WriteCallback> callbacks = new ArrayList<>();
+        boolean open = true;
+        final Session session;
+
+        FakeSession() {
+            RemoteEndpoint remote = (RemoteEndpoint) Proxy.newProxyInstance(RemoteEndpoint.class.getClassLoader(),
+                    new Class<?>[]{RemoteEndpoint.class}, (proxy, method, args) -> {
+                        if (method.getName().equals("sendString") && args.length == 2) {
+                            sent.add((String) args[0]);
+                            callbacks.add((WriteCallback) args[1]);
+                        }
+                        return null;
+                    });
+            session = (Session) Proxy.newProxyInstance(Session.class.getClassLoader(),
+                    new Class<?>[]{Session.class}, (proxy, method, args) -> switch (method.getName()) {
+                        case "getRemote" -> remote;
+                        case "isOpen" -> open;
+                        case "close" -> {
+                            open = false;
+                            yield null;
+                        }
+                        case "equals" -> proxy == args[0];
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        default -> null;
+                    });
+        }
+
+        void completeAll() {
+            callbacks.forEach(WriteCallback::writeSuccess);
+            callbacks.clear();
+        }
+    }
+
+    @Test
+    public void encodedOncePositive() {
+        ConnectionManager manager = new ConnectionManager();
+        List<FakeSession> observers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            FakeSession observer = new FakeSession();
+            observers.add(observer);
+            manager.addConnection(1, observer.session);
+        }
+
+        manager.broadcastToGame(1, new NotificationMessage("white made move: e2e4"));
+
+        String first = observers.getFirst().sent.getFirst();
+        assertTrue(first.contains("e2e4"));
+        for (FakeSession observer : observers) {
+            // the very same string, not an equal one encoded again
+            assertSame(first, observer.sent.getFirst());
+        }
+    }
+
+    @Test
+    public void othersSkipSenderPositive() {
+        ConnectionManager manager = new ConnectionManager();
+        FakeSession sender = new FakeSession();
+        FakeSession other = new FakeSession();
+        manager.addConnection(1, sender.session);
+        manager.addConnection(1, other.session);
+
+        manager.broadcastToOthers(1, sender.session, new NotificationMessage("black entered the game"));
+
+        assertTrue(sender.sent.isEmpty());
+        assertEquals(1, other.sent.size());
+    }
+
+    @Test
+    public void slowObserverDroppedNegative() {
+        ConnectionManager manager = new ConnectionManager();
+        FakeSession slow = new FakeSession();
+        FakeSession fast = new FakeSession();
+        manager.addConnection(1, slow.session);
+        manager.addConnection(1, fast.session);
+
+        for (int i = 0; i <= ConnectionManager.MAX_PENDING_SENDS; i++) {
+            manager.broadcastToGame(1, new NotificationMessage("move " + i));
+            fast.completeAll();
+        }
+
+        // the slow session never finished a write; the fast one got everything regardless
+        assertFalse(slow.open);
+        assertEquals(ConnectionManager.MAX_PENDING_SENDS, slow.sent.size());
+        assertEquals(ConnectionManager.MAX_PENDING_SENDS + 1, fast.sent.size());
+        manager.broadcastToGame(1, new NotificationMessage("after"));
+        assertEquals(ConnectionManager.MAX_PENDING_SENDS, slow.sent.size());
+    }
+
+    @Test
+    public void failedWriteNegative() {
+        ConnectionManager manager = new ConnectionManager();
+        FakeSession broken = new FakeSession();
+        FakeSession other = new FakeSession();
+        manager.addConnection(1, broken.session);
+        manager.addConnection(1, other.session);
+
+        manager.broadcastToGame(1, new NotificationMessage("first"));
+        broken.callbacks.getFirst().writeFailed(new IOException("connection reset"));
+        manager.broadcastToGame(1, new NotificationMessage("second"));
+
+        assertFalse(broken.open);
+        assertEquals(1, broken.sent.size());
+        assertEquals(2, other.sent.size());
+    }
+}
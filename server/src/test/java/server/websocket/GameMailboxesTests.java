@@ -0,0 +1,199 @@
+package server.websocket;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 10/18/26: added for per-game command ordering - unit tests
+ * 10/18/26: updated for virtual threads - thread mode test
+ * 10/18/26: updated for per-game command ordering - empty mailboxes are dropped, and Errors are counted
+ * 10/18/26: updated for virtual threads - platform mode stays within its fixed pool
+ */
+public class GameMailboxesTests {
+
+    @Test
+    public void inOrderOneAtATimePositive() throws Exception {
+        try (GameMailboxes mailboxes = new GameMailboxes()) {
+            List<Integer> ran = new ArrayList<>();
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger overlaps = new AtomicInteger();
+            CountDownLatch done = new CountDownLatch(1);
+            int commands = 1000;
+            for (int i = 0; i < commands; i++) {
+                int n = i;
+                mailboxes.submit(1, () -> {
+                    if (running.incrementAndGet() > 1) {
+                        overlaps.incrementAndGet();
+                    }
+                    // not thread-safe on purpose: the mailbox is the only guard
+                    ran.add(n);
+                    running.decrementAndGet();
+                    if (n == commands - 1) {
+                        done.countDown();
+                    }
+                });
+            }
+
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            assertEquals(0, overlaps.get());
+            for (int i = 0; i < commands; i++) {
+                assertEquals(i, (int) ran.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void gamesRunInParallelPositive() throws Exception {
+        try (GameMailboxes mailboxes = new GameMailboxes()) {
+            // each game's command waits for the other's, which only works if both run at once
+            CountDownLatch bothStarted = new CountDownLatch(2);
+            CountDownLatch done = new CountDownLatch(2);
+            for (int gameID = 1; gameID <= 2; gameID++) {
+                mailboxes.submit(gameID, () -> {
+                    bothStarted.countDown();
+                    try {
+                        if (bothStarted.await(5, TimeUnit.SECONDS)) {
+                            done.countDown();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+        }
+    }
+
+    private static Runnable waitFor(CountDownLatch started, CountDownLatch release) {
+        return () -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+    }
+
+    @Test
+    public void statsPositive() throws Exception {
+        try (GameMailboxes mailboxes = new GameMailboxes()) {
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch lastStarted = new CountDownLatch(1);
+            CountDownLatch releaseLast = new CountDownLatch(1);
+            mailboxes.submit(7, waitFor(new CountDownLatch(1), release));
+            mailboxes.submit(7, () -> { });
+            mailboxes.submit(7, waitFor(lastStarted, releaseLast));
+
+            assertEquals(3, mailboxes.stats(7).depth());
+            release.countDown();
+            assertTrue(lastStarted.await(5, TimeUnit.SECONDS));
+
+            GameMailboxes.Stats stats = mailboxes.stats(7);
+            assertEquals(1, stats.depth());
+            assertEquals(2, stats.processed());
+            assertTrue(stats.averageWaitMillis() > 0);
+            assertNull(mailboxes.stats(8));
+            assertEquals(1, mailboxes.stats().size());
+
+            // once empty the mailbox is dropped
+            releaseLast.countDown();
+            mailboxes.close();
+            assertNull(mailboxes.stats(7));
+            assertTrue(mailboxes.stats().isEmpty());
+        }
+    }
+
+    @Test
+    public void failedCommandNegative() throws Exception {
+        try (GameMailboxes mailboxes = new GameMailboxes()) {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            // held until all three are queued, so they share one mailbox and its counters
+            CountDownLatch queued = new CountDownLatch(1);
+            mailboxes.submit(3, () -> {
+                try {
+                    queued.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new IllegalStateException("bad command");
+            });
+            mailboxes.submit(3, () -> {
+                throw new Error("worse command");
+            });
+            mailboxes.submit(3, waitFor(started, release));
+            queued.countDown();
+
+            // the next command still runs, even after an Error
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            assertEquals(2, mailboxes.stats(3).failed());
+            release.countDown();
+
+            CountDownLatch after = new CountDownLatch(1);
+            mailboxes.submit(3, after::countDown);
+            assertTrue(after.await(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void threadModePositive() throws Exception {
+        for (boolean virtualThreads : new boolean[]{true, false}) {
+            try (GameMailboxes mailboxes = new GameMailboxes(virtualThreads)) {
+                AtomicInteger virtual = new AtomicInteger(-1);
+                CountDownLatch done = new CountDownLatch(1);
+                mailboxes.submit(1, () -> {
+                    virtual.set(Thread.currentThread().isVirtual() ? 1 : 0);
+                    done.countDown();
+                });
+
+                assertTrue(done.await(5, TimeUnit.SECONDS));
+                assertEquals(virtualThreads ? 1 : 0, virtual.get());
+            }
+        }
+    }
+
+    @Test
+    public void platformPoolBoundedPositive() throws Exception {
+        try (GameMailboxes mailboxes = new GameMailboxes(false)) {
+            int games = GameMailboxes.PLATFORM_THREADS * 3;
+            Set<Thread> threads = ConcurrentHashMap.newKeySet();
+            CountDownLatch done = new CountDownLatch(games);
+            for (int gameID = 1; gameID <= games; gameID++) {
+                mailboxes.submit(gameID, () -> {
+                    threads.add(Thread.currentThread());
+                    try {
+                        Thread.sleep(5);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    done.countDown();
+                });
+            }
+
+            // every game ran, on no more threads than the pool has
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            assertTrue(threads.size() <= GameMailboxes.PLATFORM_THREADS, threads.size() + " threads");
+        }
+    }
+
+    @Test
+    public void closedNegative() {
+        GameMailboxes mailboxes = new GameMailboxes();
+        mailboxes.close();
+
+        assertThrows(RejectedExecutionException.class, () -> mailboxes.submit(1, () -> { }));
+        assertNull(mailboxes.stats(1));
+    }
+}
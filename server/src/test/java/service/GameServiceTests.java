@@ -1,5 +1,8 @@
 package service;
 
+import chess.ChessGame;
+import chess.ChessMove;
+import chess.ChessPosition;
 import dataaccess.*;
 import handler.AlreadyTakenException;
 import handler.BadRequestException;
@@ -7,16 +10,22 @@ import model.GameData;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import results.LoginResult;
+import server.websocket.GameMailboxes;
+
 import java.util.Collection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * 3/2/26: added for p3 apis - unit tests
+ * 10/18/26: updated for per-game command ordering - a join waits for a move already in the game's mailbox
  */
 public class GameServiceTests {
 
     private GameDAO gameDAO;
+    private AuthDAO authDAO;
     private static GameService gameService;
     private static UserService userService;
     private String playerValidToken1;
@@ -25,7 +34,7 @@ public class GameServiceTests {
     public void setup() throws DataAccessException {
         UserDAO userDAO = new MemoryUserDAO();
         gameDAO = new MemoryGameDAO();
-        AuthDAO authDAO = new MemoryAuthDAO();
+        authDAO = new MemoryAuthDAO();
 
         gameService = new GameService(gameDAO, authDAO);
         userService = new UserService(userDAO, authDAO);
@@ -74,6 +83,50 @@ public class GameServiceTests {
         assertEquals("player1", testGame.whiteUsername());
     }
 
+    @Test
+    public void joinDuringMovePositive() throws Exception {
+        try (GameMailboxes mailboxes = new GameMailboxes()) {
+            GameService service = new GameService(gameDAO, authDAO, mailboxes);
+            int gameID = service.createGame(playerValidToken1, "busy");
+            CountDownLatch moveRead = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            // a websocket move that read the game before the join and saves it after
+            mailboxes.submit(gameID, () -> {
+                try {
+                    GameData game = gameDAO.getGame(gameID);
+                    moveRead.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    ChessGame moved = new ChessGame(game.game());
+                    moved.makeMove(new ChessMove(ChessPosition.of(2, 5), ChessPosition.of(4, 5), null));
+                    gameDAO.updateGame(new GameData(gameID, game.whiteUsername(), game.blackUsername(),
+                            game.gameName(), moved, false));
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            assertTrue(moveRead.await(5, TimeUnit.SECONDS));
+
+            Thread joiner = new Thread(() -> {
+                try {
+                    service.joinGame(playerValidToken1, gameID, "WHITE");
+                } catch (DataAccessException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            joiner.start();
+            // the join is queued behind the move before the move saves
+            while (mailboxes.stats(gameID).depth() < 2) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+            joiner.join(5000);
+
+            GameData after = gameDAO.getGame(gameID);
+            assertEquals("player1", after.whiteUsername());
+            assertEquals(ChessGame.TeamColor.BLACK, after.game().getTeamTurn());
+        }
+    }
+
     @Test
     public void joinGameNegative() throws DataAccessException {
         String username = "player2";
@@ -0,0 +1,88 @@
+package service;
+
+import chess.ChessGame;
+import chess.Move;
+import chess.MoveList;
+import dataaccess.*;
+import handler.BadRequestException;
+import handler.ServiceUnavailableException;
+import model.GameData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import results.HintResult;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 10/18/26: added for move hints - unit tests
+ */
+public class HintServiceTests {
+
+    private GameDAO gameDAO;
+    private AuthDAO authDAO;
+    private HintService hintService;
+    private String token;
+    private int gameID;
+
+    @BeforeEach
+    public void setup() throws DataAccessException {
+        UserDAO userDAO = new MemoryUserDAO();
+        gameDAO = new MemoryGameDAO();
+        authDAO = new MemoryAuthDAO();
+        hintService = new HintService(gameDAO, authDAO, 1);
+        UserService userService = new UserService(userDAO, authDAO);
+        userService.register("player1", "player1password", "player1@email.em");
+        token = userService.login("player1", "player1password").authToken();
+        gameID = gameDAO.createGame("hints");
+    }
+
+    @Test
+    public void hintsPositive() throws DataAccessException {
+        gameDAO.updateGame(new GameData(gameID, null, null, "hints",
+                ChessGame.fromFen("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1"), false));
+
+        HintResult result = hintService.getHints(token, gameID, 3, 300);
+
+        assertEquals(gameID, result.gameID());
+        assertEquals(3, result.hints().size());
+        // back rank mate first, then the rest best first
+        assertEquals("a1a8", result.hints().get(0).move());
+        for (int i = 1; i < result.hints().size(); i++) {
+            assertTrue(result.hints().get(i - 1).score() >= result.hints().get(i).score());
+        }
+    }
+
+    @Test
+    public void cachedPositionSharedPositive() throws DataAccessException {
+        HintResult three = hintService.getHints(token, gameID, 3, 200);
+        HintResult one = hintService.getHints(token, gameID, 1, 200);
+
+        assertEquals(1, one.hints().size());
+        assertEquals(three.hints().get(0), one.hints().get(0));
+        assertEquals(three.depth(), one.depth());
+    }
+
+    @Test
+    public void hintsNegative() {
+        assertThrows(UnauthorizedException.class, () -> hintService.getHints("bad", gameID, 1, 100));
+        assertThrows(BadRequestException.class, () -> hintService.getHints(token, gameID + 1, 1, 100));
+        assertThrows(BadRequestException.class,
+                () -> hintService.getHints(token, gameID, HintService.MAX_HINTS + 1, 100));
+    }
+
+    @Test
+    public void busyNegative() throws DataAccessException {
+        // one thread and a bounded queue: a burst of distinct positions overflows it
+        MoveList moves = new MoveList();
+        new ChessGame().generateLegalMoves(moves);
+        assertThrows(ServiceUnavailableException.class, () -> {
+            for (int i = 0; i < moves.size(); i++) {
+                ChessGame game = new ChessGame();
+                game.doMove(moves.get(i));
+                int id = gameDAO.createGame("busy " + Move.toText(moves.get(i)));
+                gameDAO.updateGame(new GameData(id, null, null, "busy", game, false));
+                hintService.requestHints(token, id, 1, 100);
+            }
+        });
+    }
+}
@@ -0,0 +1,133 @@
+package service;
+
+import chess.ChessGame;
+import dataaccess.*;
+import model.GameData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 10/18/26: added for PGN - unit tests
+ * 10/18/26: updated for PGN - results of games that ended off the board, and imports over several batches
+ */
+public class PgnServiceTests {
+
+    private static final String GAMES = """
+            [Event "Casual"]
+            [Date "2026.10.18"]
+            [White "alice"]
+            [Black "bob"]
+            [Result "0-1"]
+
+            1. f3 e5 2. g4 Qh4# 0-1
+
+            [White "carol"]
+            [Black "dave"]
+            [Result "*"]
+
+            1. e4 e4 *
+            """;
+
+    private GameDAO gameDAO;
+    private PgnService pgnService;
+    private Path file;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        gameDAO = new MemoryGameDAO();
+        pgnService = new PgnService(gameDAO);
+        file = Files.createTempFile("games", ".pgn");
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void importGamesPositive() throws Exception {
+        Files.writeString(file, GAMES);
+
+        PgnService.ImportResult result = pgnService.importGames(file, 1);
+
+        assertEquals(1, result.imported());
+        assertEquals(1, result.failed());
+        GameData game = gameDAO.getListGames().getFirst();
+        assertEquals("alice vs bob 2026.10.18", game.gameName());
+        assertTrue(game.isGameOver());
+        assertEquals(ChessGame.GameStatus.CHECKMATE, game.game().evaluateStatus());
+    }
+
+    @Test
+    public void exportGamesPositive() throws Exception {
+        Files.writeString(file, GAMES);
+        pgnService.importGames(file, 1);
+        gameDAO.createGame("unfinished");
+
+        assertEquals(1, pgnService.exportGames(file));
+        String exported = Files.readString(file);
+        assertTrue(exported.contains("[Event \"alice vs bob 2026.10.18\"]"));
+        assertTrue(exported.contains("1. f3 e5 2. g4 Qh4# 0-1"));
+    }
+
+    @Test
+    public void resignationRoundTripPositive() throws Exception {
+        Files.writeString(file, """
+                [White "erin"]
+                [Black "frank"]
+                [Result "1-0"]
+
+                1. e4 e5 1-0
+                """);
+        pgnService.importGames(file, 1);
+
+        // a game resigned on the server
+        int gameID = gameDAO.createGame("live");
+        ChessGame live = new ChessGame();
+        live.setResult("0-1");
+        gameDAO.updateGame(new GameData(gameID, "white", "black", "live", live, true));
+
+        assertEquals(2, pgnService.exportGames(file));
+        String exported = Files.readString(file);
+        assertTrue(exported.contains("1. e4 e5 1-0"));
+        assertTrue(exported.contains("[Result \"0-1\"]"));
+        assertFalse(exported.contains("*"));
+    }
+
+    @Test
+    public void manyGamesImportPositive() throws Exception {
+        StringBuilder games = new StringBuilder();
+        int count = 1234;
+        for (int i = 0; i < count; i++) {
+            games.append("[White \"w").append(i).append("\"]\n[Result \"1/2-1/2\"]\n\n1. d4 d5 1/2-1/2\n\n");
+        }
+        Files.writeString(file, games);
+
+        PgnService.ImportResult result = pgnService.importGames(file, 1);
+
+        assertEquals(count, result.imported());
+        assertEquals(count, gameDAO.getListGames().size());
+        assertEquals(count, gameDAO.getListGames().getLast().gameID());
+    }
+
+    @Test
+    public void unknownResultNotExportedNegative() throws Exception {
+        int gameID = gameDAO.createGame("ended before results were kept");
+        gameDAO.updateGame(new GameData(gameID, "white", "black", "old", new ChessGame(), true));
+
+        assertEquals(0, pgnService.exportGames(file));
+        assertFalse(Files.readString(file).contains("*"));
+    }
+
+    @Test
+    public void importMissingFileNegative() {
+        assertThrows(IOException.class, () -> pgnService.importGames(file.resolveSibling("missing.pgn"), 1));
+    }
+}
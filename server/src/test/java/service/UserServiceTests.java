@@ -1,5 +1,6 @@
 package service;
 
+import chess.engine.Engine;
 import dataaccess.*;
 import handler.AlreadyTakenException;
 import org.junit.jupiter.api.BeforeEach;
@@ -48,6 +49,12 @@ public class UserServiceTests {
                 userService.register(username, password2, email));
     }
 
+    @Test
+    public void registerBotNameNegative() {
+        assertThrows(AlreadyTakenException.class, () ->
+                userService.register(Engine.BOT_USERNAME, password, email));
+    }
+
     @Test
     public void loginPositive() throws DataAccessException {
         RegisterResult result = userService.register(username, password, email);
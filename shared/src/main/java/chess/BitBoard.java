@@ -0,0 +1,226 @@
+package chess;
+
+import java.util.Arrays;
+
+/**
+ * Bitboard representation of the pieces on a chessboard
+ * <p>
+ * Holds one 64-bit set for each of the twelve color/type combinations plus
+ * occupancy masks for each team and for the whole board. Bit n is set when
+ * square n holds the piece, where square n is (row - 1) * 8 + (column - 1),
+ * so a1 (row 1, column 1) is bit 0 and h8 (row 8, column 8) is bit 63.
+ * added 10/18/26 for bitboard board representation
+ * updated 10/18/26 for incremental evaluation: piece-square sums, game phase and pawn key kept per piece change
+ */
+public final class BitBoard {
+
+    public static final int PIECE_KINDS = 12;
+
+    private static final int TYPE_COUNT = 6;
+
+    private final long[] pieces = new long[PIECE_KINDS];
+    private final long[] occupancy = new long[2];
+    private long occupied;
+    private final int[] kingSquare = {-1, -1};
+    private long pieceKey;
+    private long pawnKey;
+    private int middlegame;
+    private int endgame;
+    private int phase;
+
+    /**
+     * @return square index for a (1-8) row and (1-8) column
+     */
+    public static int square(int row, int col) {
+        return ((row - 1) << 3) | (col - 1);
+    }
+
+    /**
+     * @return (1-8) row of a square index
+     */
+    public static int row(int square) {
+        return (square >>> 3) + 1;
+    }
+
+    /**
+     * @return (1-8) column of a square index
+     */
+    public static int column(int square) {
+        return (square & 7) + 1;
+    }
+
+    /**
+     * @return index 0-11 of the piece set for the given color and type
+     */
+    public static int pieceIndex(ChessGame.TeamColor color, ChessPiece.PieceType type) {
+        return color.ordinal() * TYPE_COUNT + type.ordinal();
+    }
+
+    /**
+     * Sets the bits for a piece placed on a square
+     */
+    void add(int square, ChessPiece piece) {
+        long bit = 1L << square;
+        int index = pieceIndex(piece.getTeamColor(), piece.getPieceType());
+        pieces[index] |= bit;
+        pieceKey ^= Zobrist.piece(index, square);
+        if (piece.getPieceType() == ChessPiece.PieceType.PAWN) {
+            pawnKey ^= Zobrist.piece(index, square);
+        }
+        middlegame += PieceSquare.middlegame(index, square);
+        endgame += PieceSquare.endgame(index, square);
+        phase += PieceSquare.phase(index);
+        occupancy[piece.getTeamColor().ordinal()] |= bit;
+        occupied |= bit;
+        if (piece.getPieceType() == ChessPiece.PieceType.KING) {
+            kingSquare[piece.getTeamColor().ordinal()] = square;
+        }
+    }
+
+    /**
+     * Clears the bits for a piece taken off a square
+     */
+    void remove(int square, ChessPiece piece) {
+        long bit = ~(1L << square);
+        int index = pieceIndex(piece.getTeamColor(), piece.getPieceType());
+        pieces[index] &= bit;
+        pieceKey ^= Zobrist.piece(index, square);
+        if (piece.getPieceType() == ChessPiece.PieceType.PAWN) {
+            pawnKey ^= Zobrist.piece(index, square);
+        }
+        middlegame -= PieceSquare.middlegame(index, square);
+        endgame -= PieceSquare.endgame(index, square);
+        phase -= PieceSquare.phase(index);
+        occupancy[piece.getTeamColor().ordinal()] &= bit;
+        occupied &= bit;
+        int color = piece.getTeamColor().ordinal();
+        if (piece.getPieceType() == ChessPiece.PieceType.KING && kingSquare[color] == square) {
+            long kings = pieces[index];
+            kingSquare[color] = (kings == 0) ? -1 : Long.numberOfTrailingZeros(kings);
+        }
+    }
+
+    /**
+     * Empties every set
+     */
+    void clear() {
+        Arrays.fill(pieces, 0L);
+        occupancy[0] = 0L;
+        occupancy[1] = 0L;
+        occupied = 0L;
+        pieceKey = 0L;
+        pawnKey = 0L;
+        middlegame = 0;
+        endgame = 0;
+        phase = 0;
+        kingSquare[0] = -1;
+        kingSquare[1] = -1;
+    }
+
+    /**
+     * @return set of squares holding the given color and type of piece
+     */
+    public long pieces(ChessGame.TeamColor color, ChessPiece.PieceType type) {
+        return pieces[pieceIndex(color, type)];
+    }
+
+    /**
+     * @return set of squares holding the piece kind at the given 0-11 index
+     */
+    public long pieces(int pieceIndex) {
+        return pieces[pieceIndex];
+    }
+
+    /**
+     * @return set of squares holding a piece of the given team
+     */
+    public long occupied(ChessGame.TeamColor color) {
+        return occupancy[color.ordinal()];
+    }
+
+    /**
+     * @return set of squares holding any piece
+     */
+    public long occupied() {
+        return occupied;
+    }
+
+    /**
+     * Zobrist key of the piece placement alone (no turn, castling or en passant),
+     * updated by XOR on every add and remove
+     * added 10/18/26 for Zobrist hashing
+     */
+    public long pieceKey() {
+        return pieceKey;
+    }
+
+    /**
+     * Zobrist key of the pawns alone, for caching pawn structure scores
+     * added 10/18/26 for incremental evaluation
+     */
+    public long pawnKey() {
+        return pawnKey;
+    }
+
+    /**
+     * @return sum of the {@link PieceSquare#middlegame} values of every piece, white minus black
+     */
+    public int middlegameScore() {
+        return middlegame;
+    }
+
+    /**
+     * @return sum of the {@link PieceSquare#endgame} values of every piece, white minus black
+     */
+    public int endgameScore() {
+        return endgame;
+    }
+
+    /**
+     * @return game phase of the pieces on the board, {@link PieceSquare#MAX_PHASE} at the start
+     * (more after promotions) down to 0 with only kings and pawns
+     */
+    public int phase() {
+        return phase;
+    }
+
+    /**
+     * Square of the given team's king, kept up to date as pieces are placed
+     * and removed so check detection never has to search for it
+     * added 10/18/26 for attack-map check detection
+     *
+     * @return king square index, or -1 if the team has no king on the board
+     */
+    public int kingSquare(ChessGame.TeamColor color) {
+        return kingSquare[color.ordinal()];
+    }
+
+    /**
+     * Reverse attack lookup: probes outward from the target square with each
+     * piece's attack pattern and intersects with the attacker's piece sets.
+     * A pawn of the defending color on the target square would attack exactly
+     * the squares an attacking pawn must stand on, so the pawn table is read
+     * for the opposite color.
+     * added 10/18/26 for attack-map check detection
+     *
+     * @return true if any piece of byTeam attacks the square
+     */
+    public boolean isSquareAttacked(int square, ChessGame.TeamColor byTeam) {
+        ChessGame.TeamColor defender = (byTeam == ChessGame.TeamColor.WHITE)
+                ? ChessGame.TeamColor.BLACK
+                : ChessGame.TeamColor.WHITE;
+        int base = byTeam.ordinal() * TYPE_COUNT;
+        long queens = pieces[base + ChessPiece.PieceType.QUEEN.ordinal()];
+        if ((Attacks.pawn(defender, square) & pieces[base + ChessPiece.PieceType.PAWN.ordinal()]) != 0
+                || (Attacks.knight(square) & pieces[base + ChessPiece.PieceType.KNIGHT.ordinal()]) != 0
+                || (Attacks.king(square) & pieces[base + ChessPiece.PieceType.KING.ordinal()]) != 0) {
+            return true;
+        }
+        long rookLike = pieces[base + ChessPiece.PieceType.ROOK.ordinal()] | queens;
+        if (rookLike != 0 && (Attacks.rook(square, occupied) & rookLike) != 0) {
+            return true;
+        }
+        long bishopLike = pieces[base + ChessPiece.PieceType.BISHOP.ordinal()] | queens;
+        return bishopLike != 0 && (Attacks.bishop(square, occupied) & bishopLike) != 0;
+    }
+}
@@ -1,6 +1,5 @@
 package chess;
 
-import java.util.Arrays;
 import java.util.Objects;
 
 /**
@@ -13,10 +12,26 @@ public class ChessBoard {
 
     ChessPiece[][] squares = new ChessPiece[8][8]; // added 1/20/26, phase 0 video
 
+    // bitboard mirror of squares, added 10/18/26; transient so it is rebuilt after Gson deserialization
+    private transient BitBoard bitBoard;
+
     public ChessBoard() {
 
     }
 
+    /**
+     * Deep copy of another board, with copies of its pieces
+     * added 10/18/26 for copying games
+     */
+    public ChessBoard(ChessBoard other) {
+        for (int square = 0; square < 64; square++) {
+            ChessPiece piece = other.getPiece(square);
+            if (piece != null) {
+                setPiece(square, new ChessPiece(piece));
+            }
+        }
+    }
+
     /**
      * Adds a chess piece to the chessboard
      *
@@ -24,7 +39,7 @@ public class ChessBoard {
      * @param piece    the piece to add
      */
     public void addPiece(ChessPosition position, ChessPiece piece) {
-        squares[position.getRow() - 1][position.getColumn() - 1] = piece; // added 1/20/26, phase 0 video
+        setPiece(position.getSquare(), piece); // updated 10/18/26 for bitboards
     }
 
     /**
@@ -33,7 +48,7 @@ public class ChessBoard {
      * @param position where to remove the piece from
      */
     public void removePiece(ChessPosition position) {
-        squares[position.getRow() - 1][position.getColumn() - 1] = null; // added 2/3/26, phase 1 implementation
+        setPiece(position.getSquare(), null); // updated 10/18/26 for bitboards
     }
 
     /**
@@ -47,6 +62,49 @@ public class ChessBoard {
         return squares[position.getRow() - 1][position.getColumn() - 1]; // added 1/20/26, phase 0 video
     }
 
+    /**
+     * Gets a chess piece by 0-63 square index, without building a ChessPosition
+     * added 10/18/26 for bitboards
+     */
+    public ChessPiece getPiece(int square) {
+        return squares[square >>> 3][square & 7];
+    }
+
+    /**
+     * Places (or with null, clears) a piece by 0-63 square index,
+     * keeping the bitboards in step with the squares array
+     * added 10/18/26 for bitboards
+     */
+    void setPiece(int square, ChessPiece piece) {
+        BitBoard bits = getBitBoard();
+        ChessPiece old = squares[square >>> 3][square & 7];
+        if (old != null) {
+            bits.remove(square, old);
+        }
+        squares[square >>> 3][square & 7] = piece;
+        if (piece != null) {
+            bits.add(square, piece);
+        }
+    }
+
+    /**
+     * Gets the bitboard view of this board, building it from the squares
+     * array the first time it is needed
+     * added 10/18/26 for bitboards
+     */
+    public BitBoard getBitBoard() {
+        if (bitBoard == null) {
+            bitBoard = new BitBoard();
+            for (int square = 0; square < 64; square++) {
+                ChessPiece piece = getPiece(square);
+                if (piece != null) {
+                    bitBoard.add(square, piece);
+                }
+            }
+        }
+        return bitBoard;
+    }
+
     /**
      * Sets up the back rank
      * Pass in color, row number
@@ -54,17 +112,17 @@ public class ChessBoard {
      */
     public void backRank(ChessGame.TeamColor color, int row) {
         // ROOKS
-        addPiece(new ChessPosition(row, 1), new ChessPiece(color, ChessPiece.PieceType.ROOK));
-        addPiece(new ChessPosition(row, 8), new ChessPiece(color, ChessPiece.PieceType.ROOK));
+        addPiece(ChessPosition.of(row, 1), new ChessPiece(color, ChessPiece.PieceType.ROOK));
+        addPiece(ChessPosition.of(row, 8), new ChessPiece(color, ChessPiece.PieceType.ROOK));
         // KNIGHTS
-        addPiece(new ChessPosition(row, 2), new ChessPiece(color, ChessPiece.PieceType.KNIGHT));
-        addPiece(new ChessPosition(row, 7), new ChessPiece(color, ChessPiece.PieceType.KNIGHT));
+        addPiece(ChessPosition.of(row, 2), new ChessPiece(color, ChessPiece.PieceType.KNIGHT));
+        addPiece(ChessPosition.of(row, 7), new ChessPiece(color, ChessPiece.PieceType.KNIGHT));
         // BISHOPS
-        addPiece(new ChessPosition(row, 3), new ChessPiece(color, ChessPiece.PieceType.BISHOP));
-        addPiece(new ChessPosition(row, 6), new ChessPiece(color, ChessPiece.PieceType.BISHOP));
+        addPiece(ChessPosition.of(row, 3), new ChessPiece(color, ChessPiece.PieceType.BISHOP));
+        addPiece(ChessPosition.of(row, 6), new ChessPiece(color, ChessPiece.PieceType.BISHOP));
         // ROYAL
-        addPiece(new ChessPosition(row, 4), new ChessPiece(color, ChessPiece.PieceType.QUEEN));
-        addPiece(new ChessPosition(row, 5), new ChessPiece(color, ChessPiece.PieceType.KING));
+        addPiece(ChessPosition.of(row, 4), new ChessPiece(color, ChessPiece.PieceType.QUEEN));
+        addPiece(ChessPosition.of(row, 5), new ChessPiece(color, ChessPiece.PieceType.KING));
     }
 
     /**
@@ -75,7 +133,7 @@ public class ChessBoard {
     public void pawnRank(ChessGame.TeamColor color, int row) {
         // PAWNS
         for (int i = 1; i < 9; i++) {
-            addPiece(new ChessPosition(row, i), new ChessPiece(color, ChessPiece.PieceType.PAWN));
+            addPiece(ChessPosition.of(row, i), new ChessPiece(color, ChessPiece.PieceType.PAWN));
         }
     }
 
@@ -90,6 +148,7 @@ public class ChessBoard {
                 squares[i][j] = null;
             }
         }
+        getBitBoard().clear();
         backRank(ChessGame.TeamColor.WHITE, 1); // WHITE BACK RANK
         pawnRank(ChessGame.TeamColor.WHITE, 2); // WHITE PAWN RANK
         pawnRank(ChessGame.TeamColor.BLACK, 7); // BLACK PAWN RANK
@@ -111,9 +170,10 @@ public class ChessBoard {
     /**
      * equality and hashcode
      * updated 1/27/26 from p0 implementation
+     * updated 10/18/26 to fold the incrementally kept Zobrist key instead of hashing all 64 squares
      */
     @Override
     public int hashCode() {
-        return Arrays.deepHashCode(squares);
+        return Long.hashCode(getBitBoard().pieceKey());
     }
 }
@@ -1,6 +1,7 @@
 package chess;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Objects;
 
@@ -18,12 +19,104 @@ public class ChessGame {
     // Extra Credit Variable - En Passant
     private ChessPosition enPassantTarget;
 
+    // Castling rights bitmask, added 10/18/26; UNKNOWN_RIGHTS until derived from the pieces' moved flags
+    private int castlingRights = UNKNOWN_RIGHTS;
+    // Half-moves since the last capture or pawn move, added 10/18/26
+    private int halfmoveClock;
+    // Move number, starting at 1 and going up after each black move, added 10/18/26 for FEN
+    private int fullmoveNumber = 1;
+    // Ring of Zobrist keys of the positions before each move, and how many moves were pushed, added 10/18/26;
+    // grown up to HISTORY_CAPACITY as moves are made, so a saved game only stores the keys it has (10/18/26)
+    private long[] positionHistory = new long[0];
+    private int historyCount;
+    // Packed moves played since startFen, which is filled in at the first move, added 10/18/26 for PGN export
+    private int[] moveLog = new int[0];
+    private int moveCount;
+    private String startFen;
+    // PGN result of a game that ended off the board, by resignation, agreement or adjudication; null when the
+    // position decides it, added 10/18/26 for PGN
+    private String result;
+
+    // Undo record stack for doMove/undoMove, added 10/18/26
+    private transient long[] undoRecords = new long[UNDO_CAPACITY];
+    private transient ChessPiece[] undoMoved = new ChessPiece[UNDO_CAPACITY];
+    private transient ChessPiece[] undoCaptured = new ChessPiece[UNDO_CAPACITY];
+    private transient int undoCount;
+    // Reused move buffer for validMoves/makeMove/status checks, added 10/18/26
+    private transient MoveList scratchMoves = new MoveList();
+
+    static final int WHITE_KINGSIDE = 1;
+    static final int WHITE_QUEENSIDE = 2;
+    static final int BLACK_KINGSIDE = 4;
+    static final int BLACK_QUEENSIDE = 8;
+    private static final int UNKNOWN_RIGHTS = -1;
+    private static final int UNDO_CAPACITY = 64;
+    // a power of two above the 100 half-moves the fifty-move rule can look back
+    private static final int HISTORY_CAPACITY = 128;
+    private static final int FIFTY_MOVE_PLIES = 100;
+    private static final int NO_SQUARE = MoveGenerator.NO_SQUARE;
+
+    // castling rights that survive a move touching each square
+    private static final int[] RIGHTS_KEPT = new int[64];
+
+    static {
+        Arrays.fill(RIGHTS_KEPT, 0xF);
+        RIGHTS_KEPT[BitBoard.square(1, 1)] = ~WHITE_QUEENSIDE & 0xF;
+        RIGHTS_KEPT[BitBoard.square(1, 5)] = ~(WHITE_KINGSIDE | WHITE_QUEENSIDE) & 0xF;
+        RIGHTS_KEPT[BitBoard.square(1, 8)] = ~WHITE_KINGSIDE & 0xF;
+        RIGHTS_KEPT[BitBoard.square(8, 1)] = ~BLACK_QUEENSIDE & 0xF;
+        RIGHTS_KEPT[BitBoard.square(8, 5)] = ~(BLACK_KINGSIDE | BLACK_QUEENSIDE) & 0xF;
+        RIGHTS_KEPT[BitBoard.square(8, 8)] = ~BLACK_KINGSIDE & 0xF;
+    }
+
+    // undo record layout: packed move (15 bits), previous en passant square (7), previous castling
+    // rights (4), previous halfmove clock (16), previous turn (1)
+    private static final int UNDO_EP_SHIFT = 15;
+    private static final int UNDO_RIGHTS_SHIFT = 22;
+    private static final int UNDO_CLOCK_SHIFT = 26;
+    private static final int UNDO_TURN_SHIFT = 42;
+    // set on a makeMove record when makeMove marked the moved piece, or the castling rook, as moved
+    private static final long UNDO_PIECE_MARKED = 1L << 43;
+    private static final long UNDO_ROOK_MARKED = 1L << 44;
+    // makeMove keeps this many moves undoable at most, so a live game does not grow the stack for good
+    private static final int MAX_UNDO_KEPT = 256;
+
     public ChessGame() {
         currBoard = new ChessBoard();
         currBoard.resetBoard();
         turn = TeamColor.WHITE;
     }
 
+    /**
+     * Game on a given board, for fromFen, without setting up the starting position first
+     * added 10/18/26 for FEN
+     */
+    private ChessGame(ChessBoard board, TeamColor turn) {
+        currBoard = board;
+        this.turn = turn;
+    }
+
+    /**
+     * Copy of another game's position, castling rights, clocks and repetition
+     * history, so the copy can be searched on another thread. Moves made before
+     * the copy cannot be undone on it.
+     * added 10/18/26 for perft
+     */
+    public ChessGame(ChessGame other) {
+        currBoard = new ChessBoard(other.currBoard);
+        turn = other.turn;
+        enPassantTarget = other.enPassantTarget;
+        castlingRights = other.getCastlingRights();
+        halfmoveClock = other.halfmoveClock;
+        fullmoveNumber = other.fullmoveNumber;
+        positionHistory = other.positionHistory.clone();
+        historyCount = other.historyCount;
+        moveLog = Arrays.copyOf(other.moveLog, other.moveCount);
+        moveCount = other.moveCount;
+        startFen = other.startFen;
+        result = other.result;
+    }
+
     /**
      * @return Which team's turn it is
      */
@@ -59,6 +152,26 @@ public class ChessGame {
         BLACK
     }
 
+    /**
+     * Enum for the state of the game from the side to move's point of view
+     * added 10/18/26 for single-pass status evaluation
+     */
+    public enum GameStatus {
+        ONGOING,
+        CHECK,
+        CHECKMATE,
+        STALEMATE,
+        DRAW_REPETITION,
+        DRAW_FIFTY_MOVES;
+
+        /**
+         * @return True if no more moves can be made
+         */
+        public boolean isGameOver() {
+            return this != ONGOING && this != CHECK;
+        }
+    }
+
     /**
      * helper function to get opposing color
      * added 2/4/26 for p1 implementation
@@ -70,27 +183,6 @@ public class ChessGame {
         return TeamColor.WHITE;
     }
 
-    /**
-     * Square is under attack
-     * added 2/6/26 for castling
-     */
-    private boolean squareUnderAttack(ChessPosition pos, TeamColor byTeam) {
-        for (int i = 1; i < 9; i++) {
-            for (int j = 1; j < 9; j++) {
-                Collection<ChessMove> moves = getMoves(i, j, byTeam);
-                if (moves == null) { continue; }
-
-                for (ChessMove move : moves) {
-                    if (move.getEndPosition().equals(pos)) {
-                        return false;
-                    }
-                }
-            }
-        }
-        return true;
-    }
-
-
     /**
      * Gets a valid moves for a piece at the given location
      *
@@ -99,88 +191,19 @@ public class ChessGame {
      * startPosition
      * added 2/3/26 for phase 1 implementation
      * updated 2/4/26 for phase 1 implementation
+     * updated 10/18/26: generated and filtered as packed moves, converted to ChessMove only here
      */
     public Collection<ChessMove> validMoves(ChessPosition startPosition) {
         ChessPiece currPiece = currBoard.getPiece(startPosition);
         if (currPiece == null) { return null; }
 
-        Collection<ChessMove> validatedMoves = new ArrayList<>();
-        Collection<ChessMove> unfilteredMoves = currPiece.pieceMoves(currBoard, startPosition);
-
-        for (ChessMove move : unfilteredMoves) {
-            if (movePutsKingInCheck(startPosition, move, currPiece, currPiece.getTeamColor())) {
-                continue;
-            }
-            validatedMoves.add(move);
-        }
-
-        // En passant
-        if (enPassantTarget != null) {
-            ChessPosition target = enPassantTarget;
-            // Pawn must be next to the en passant pawn
-            if (Math.abs(startPosition.getColumn() - target.getColumn()) == 1) {
-                validatedMoves.add(new ChessMove(startPosition, target, null));
-            }
-        }
-
-        // Castling
-        if (currPiece.getPieceType() == ChessPiece.PieceType.KING && currPiece.getPieceMoved()) {
-            TeamColor team = currPiece.getTeamColor();
-            TeamColor opponent = opponentColor(team);
-            int row = (team == TeamColor.WHITE) ? 1 : 8;
+        MoveList moves = scratchMoves;
+        moves.clear();
+        legalPieceMoves(startPosition.getSquare(), currPiece, moves);
 
-            // King must not be in check
-            if (!isInCheck(team)) {
-
-                // ======================
-                // Kingside castling
-                // ======================
-                ChessPosition rookPosK = new ChessPosition(row, 8);
-                ChessPiece rookK = currBoard.getPiece(rookPosK);
-
-                if (rookK != null &&
-                        rookK.getPieceType() == ChessPiece.PieceType.ROOK &&
-                        rookK.getPieceMoved()) {
-
-                    ChessPosition f = new ChessPosition(row, 6);
-                    ChessPosition g = new ChessPosition(row, 7);
-
-                    if (currBoard.getPiece(f) == null &&
-                            currBoard.getPiece(g) == null &&
-                            squareUnderAttack(f, opponent) &&
-                            squareUnderAttack(g, opponent)) {
-
-                        validatedMoves.add(
-                                new ChessMove(startPosition, g, null)
-                        );
-                    }
-                }
-
-                // ======================
-                // Queenside castling
-                // ======================
-                ChessPosition rookPosQ = new ChessPosition(row, 1);
-                ChessPiece rookQ = currBoard.getPiece(rookPosQ);
-
-                if (rookQ != null &&
-                        rookQ.getPieceType() == ChessPiece.PieceType.ROOK &&
-                        rookQ.getPieceMoved()) {
-                    ChessPosition d = new ChessPosition(row, 4);
-                    ChessPosition c = new ChessPosition(row, 3);
-                    ChessPosition b = new ChessPosition(row, 2);
-
-                    if (currBoard.getPiece(d) == null &&
-                            currBoard.getPiece(c) == null &&
-                            currBoard.getPiece(b) == null &&
-                            squareUnderAttack(d, opponent) &&
-                            squareUnderAttack(c, opponent)) {
-
-                        validatedMoves.add(
-                                new ChessMove(startPosition, c, null)
-                        );
-                    }
-                }
-            }
+        Collection<ChessMove> validatedMoves = new ArrayList<>(moves.size());
+        for (int i = 0; i < moves.size(); i++) {
+            validatedMoves.add(Move.toChessMove(moves.get(i)));
         }
         return validatedMoves;
     }
@@ -191,6 +214,7 @@ public class ChessGame {
      * @param move chess move to perform
      * @throws InvalidMoveException if move is invalid
      * added 2/3/26 for phase 1 implementation
+     * updated 10/18/26 to apply the move through doMove
      */
     public void makeMove(ChessMove move) throws InvalidMoveException {
         ChessPosition startPos = move.getStartPosition();
@@ -200,141 +224,541 @@ public class ChessGame {
         if ((piece == null) || (piece.getTeamColor() != currColor)) {
             throw new InvalidMoveException("Invalid position: empty or wrong color piece");
         }
-        Collection<ChessMove> validMoves = validMoves(startPos);
+        MoveList validMoves = scratchMoves;
+        validMoves.clear();
+        legalPieceMoves(startPos.getSquare(), piece, validMoves);
         if (validMoves.isEmpty()) {
             throw new InvalidMoveException("No valid moves");
         }
-        if (!validMoves.contains(move)) {
+        int packed = encodeMove(move);
+        if (!validMoves.contains(packed)) {
             throw new InvalidMoveException("Not valid move!");
         }
 
         // Piece exists and is valid move; make move
+        doMove(packed);
+
+        // Castling updates, still recorded on the pieces for games saved before castling rights were
+        // updated 10/18/26: the undo record notes which flags this set, so undoMove can clear them again
+        long marked = 0;
+        if (piece.getPieceType() == ChessPiece.PieceType.KING || piece.getPieceType() == ChessPiece.PieceType.ROOK) {
+            marked |= piece.getPieceMoved() ? UNDO_PIECE_MARKED : 0;
+            piece.setPieceMoved(true);
+        }
+        if (Move.flag(packed) == Move.FLAG_CASTLE) {
+            int rookCol = (endPos.getColumn() == 7) ? 6 : 4;
+            ChessPiece rook = currBoard.getPiece(BitBoard.square(startPos.getRow(), rookCol));
+            marked |= rook.getPieceMoved() ? UNDO_ROOK_MARKED : 0;
+            rook.setPieceMoved(true);
+        }
+        undoRecords[undoCount - 1] |= marked;
+        trimUndo();
+    }
+
+    /**
+     * Packs a ChessMove for this position, working out the special-move flag
+     * (double push, castling, en passant) from the piece on its start square
+     * added 10/18/26 for compact move encoding
+     *
+     * @return packed move, or Move.NONE if the move cannot be encoded (no piece,
+     * or a promotion to a king or pawn)
+     */
+    public int encodeMove(ChessMove move) {
+        ChessPosition startPos = move.getStartPosition();
+        ChessPosition endPos = move.getEndPosition();
+        int from = startPos.getSquare();
+        int to = endPos.getSquare();
+        ChessPiece piece = currBoard.getPiece(from);
+        if (piece == null) {
+            return Move.NONE;
+        }
         ChessPiece.PieceType promoType = move.getPromotionPiece();
-        if (promoType != null) {
-            piece = new ChessPiece(piece.getTeamColor(), promoType);
+        if (promoType == ChessPiece.PieceType.KING || promoType == ChessPiece.PieceType.PAWN) {
+            return Move.NONE;
         }
+        int flag = Move.promotionFlag(promoType);
+        if (piece.getPieceType() == ChessPiece.PieceType.PAWN) {
+            if (Math.abs(to - from) == 16) {
+                flag = Move.FLAG_DOUBLE_PUSH;
+            } else if (to == getEnPassantSquare() && (to - from) % 8 != 0) {
+                flag = Move.FLAG_EN_PASSANT;
+            }
+        } else if (piece.getPieceType() == ChessPiece.PieceType.KING && Math.abs(to - from) == 2) {
+            flag = Move.FLAG_CASTLE;
+        }
+        return Move.of(from, to, flag);
+    }
+
+    /**
+     * Plays a move on the board without checking that it is legal, pushing an
+     * undo record so {@link #undoMove()} can restore the exact prior state.
+     * The move must be at least pseudo-legal for the piece on its start square.
+     * added 10/18/26 for make/unmake
+     *
+     * @param move chess move to perform
+     */
+    public void doMove(ChessMove move) {
+        doMove(encodeMove(move));
+    }
 
-        // Handle enpassant updates
-        if (piece.getPieceType() == ChessPiece.PieceType.PAWN &&
-                endPos.equals(enPassantTarget)) {
+    /**
+     * Plays a packed move (see {@link Move}) without checking that it is legal.
+     * Handles captures, en passant, castling (moving the rook), promotion,
+     * castling rights, the en passant target, the halfmove clock and the turn,
+     * and pushes an undo record for {@link #undoMove()}.
+     * added 10/18/26 for compact move encoding
+     *
+     * @param move packed move to perform
+     */
+    public void doMove(int move) {
+        int from = Move.from(move);
+        int to = Move.to(move);
+        int flag = Move.flag(move);
 
-            // Captured pawn is behind the target square
-            int capturedRow = (piece.getTeamColor() == TeamColor.WHITE)
-                    ? endPos.getRow() - 1
-                    : endPos.getRow() + 1;
+        ChessPiece piece = currBoard.getPiece(from);
+        TeamColor color = piece.getTeamColor();
+        int rights = getCastlingRights();
 
-            ChessPosition capturedPawnPos =
-                    new ChessPosition(capturedRow, endPos.getColumn());
-            currBoard.removePiece(capturedPawnPos);
+        // Captured pawn is behind the target square when capturing en passant
+        int capturedSquare = to;
+        if (flag == Move.FLAG_EN_PASSANT) {
+            capturedSquare = (color == TeamColor.WHITE) ? to - 8 : to + 8;
         }
+        ChessPiece captured = currBoard.getPiece(capturedSquare);
 
-        // Castling updates
-        if (piece.getPieceType() == ChessPiece.PieceType.KING || piece.getPieceType() == ChessPiece.PieceType.ROOK) {
-            piece.setPieceMoved(true);
+        pushUndo(move, rights, piece, captured);
+        if (historyCount == positionHistory.length && historyCount < HISTORY_CAPACITY) {
+            int grown = Math.min(HISTORY_CAPACITY, Math.max(16, historyCount * 2));
+            positionHistory = Arrays.copyOf(positionHistory, grown);
         }
+        positionHistory[historyCount & (HISTORY_CAPACITY - 1)] = getZobristKey();
+        historyCount++;
+        logMove(move);
 
-        // Phase 1 existing implementation
-        currBoard.removePiece(startPos);
-        currBoard.addPiece(endPos, piece);
+        if (captured != null) {
+            currBoard.setPiece(capturedSquare, null);
+        }
+        currBoard.setPiece(from, null);
+        currBoard.setPiece(to, Move.isPromotion(move) ? new ChessPiece(color, Move.promotionType(move)) : piece);
+
+        // Castling moving rook
+        if (flag == Move.FLAG_CASTLE) {
+            boolean kingside = to > from;
+            int rookFrom = kingside ? from + 3 : from - 4;
+            int rookTo = kingside ? from + 1 : from - 1;
+            ChessPiece rook = currBoard.getPiece(rookFrom);
+            currBoard.setPiece(rookFrom, null);
+            currBoard.setPiece(rookTo, rook);
+        }
 
-        // Update team turn
-        TeamColor opposingColor = opponentColor(currColor);
-        setTeamTurn(opposingColor);
+        castlingRights = rights & RIGHTS_KEPT[from] & RIGHTS_KEPT[to];
 
-        // Detect en passant for opposing team
+        // Detect en passant for opposing team: pawn moved two squares
         enPassantTarget = null;
-        if (piece.getPieceType() == ChessPiece.PieceType.PAWN) {
-            int startRow = startPos.getRow();
-            int endRow = endPos.getRow();
+        if (flag == Move.FLAG_DOUBLE_PUSH) {
+            int passed = (from + to) / 2;
+            enPassantTarget = ChessPosition.of(passed);
+        }
+
+        boolean pawnMove = piece.getPieceType() == ChessPiece.PieceType.PAWN;
+        halfmoveClock = (pawnMove || captured != null) ? 0 : halfmoveClock + 1;
+        if (color == TeamColor.BLACK) {
+            fullmoveNumber++;
+        }
+        turn = opponentColor(color);
+    }
 
-            // Pawn moved two squares
-            if (Math.abs(startRow - endRow) == 2) {
-                int passedRow = (startRow + endRow) / 2;
-                enPassantTarget = new ChessPosition(passedRow, startPos.getColumn());
+    /**
+     * Reverts the most recent doMove (or makeMove), restoring pieces, castling
+     * rights, en passant target, halfmove clock and turn, and the moved flags
+     * makeMove set. Only the last MAX_UNDO_KEPT moves made with makeMove can be undone.
+     * added 10/18/26 for make/unmake
+     * updated 10/18/26: restores moved flags, and the makeMove history is capped
+     *
+     * @throws IllegalStateException if there is no move to undo
+     */
+    public void undoMove() {
+        if (undoCount == 0) {
+            throw new IllegalStateException("No move to undo");
+        }
+        undoCount--;
+        historyCount--;
+        moveCount--;
+        long record = undoRecords[undoCount];
+        ChessPiece piece = undoMoved[undoCount];
+        ChessPiece captured = undoCaptured[undoCount];
+        undoMoved[undoCount] = null;
+        undoCaptured[undoCount] = null;
+
+        int move = (int) (record & 0x7FFF);
+        int from = Move.from(move);
+        int to = Move.to(move);
+        int flag = Move.flag(move);
+        int prevEnPassant = (int) ((record >>> UNDO_EP_SHIFT) & 0x7F);
+        castlingRights = (int) ((record >>> UNDO_RIGHTS_SHIFT) & 0xF);
+        halfmoveClock = (int) ((record >>> UNDO_CLOCK_SHIFT) & 0xFFFF);
+        turn = ((record >>> UNDO_TURN_SHIFT) & 1) == 0 ? TeamColor.WHITE : TeamColor.BLACK;
+        if (turn == TeamColor.BLACK) {
+            fullmoveNumber--;
+        }
+
+        if (flag == Move.FLAG_CASTLE) {
+            boolean kingside = to > from;
+            int rookFrom = kingside ? from + 3 : from - 4;
+            int rookTo = kingside ? from + 1 : from - 1;
+            ChessPiece rook = currBoard.getPiece(rookTo);
+            currBoard.setPiece(rookTo, null);
+            currBoard.setPiece(rookFrom, rook);
+        }
+        currBoard.setPiece(to, null);
+        currBoard.setPiece(from, piece);
+        if ((record & UNDO_PIECE_MARKED) != 0) {
+            piece.setPieceMoved(false);
+        }
+        if ((record & UNDO_ROOK_MARKED) != 0) {
+            currBoard.getPiece(to > from ? from + 3 : from - 4).setPieceMoved(false);
+        }
+        if (captured != null) {
+            int capturedSquare = to;
+            if (flag == Move.FLAG_EN_PASSANT) {
+                capturedSquare = (piece.getTeamColor() == TeamColor.WHITE) ? to - 8 : to + 8;
             }
+            currBoard.setPiece(capturedSquare, captured);
         }
+        enPassantTarget = (prevEnPassant == NO_SQUARE) ? null
+                : ChessPosition.of(prevEnPassant);
+    }
 
-        // Castling moving rook
-        if (piece.getPieceType() == ChessPiece.PieceType.KING &&
-                Math.abs(startPos.getColumn() - endPos.getColumn()) == 2) {
+    /**
+     * Helper function to append a move to the move log, recording the start
+     * position first if this is the first move
+     * added 10/18/26 for PGN export
+     */
+    private void logMove(int move) {
+        if (moveCount == 0 && startFen == null) {
+            startFen = toFen();
+        }
+        if (moveCount == moveLog.length) {
+            moveLog = Arrays.copyOf(moveLog, Math.max(16, moveCount * 2));
+        }
+        moveLog[moveCount++] = move;
+    }
 
-            int row = startPos.getRow();
+    /**
+     * Gets the moves played so far, starting from {@link #getStartFen()}
+     * added 10/18/26 for PGN export
+     *
+     * @return packed moves (see {@link Move}) in the order played
+     */
+    public int[] getMoveLog() {
+        return Arrays.copyOf(moveLog, moveCount);
+    }
 
-            if (endPos.getColumn() == 7) { // Kingside
-                ChessPosition rookStart = new ChessPosition(row, 8);
-                ChessPosition rookEnd = new ChessPosition(row, 6);
+    /**
+     * Gets the position the move log starts from
+     * added 10/18/26 for PGN export
+     *
+     * @return FEN of the position before the first logged move
+     */
+    public String getStartFen() {
+        return (startFen == null) ? toFen() : startFen;
+    }
 
-                ChessPiece rook = currBoard.getPiece(rookStart);
-                currBoard.removePiece(rookStart);
-                currBoard.addPiece(rookEnd, rook);
-                rook.setPieceMoved(true);
+    /**
+     * Helper function to push a packed undo record, growing the stack if needed
+     * added 10/18/26 for make/unmake
+     */
+    private void pushUndo(int move, int rights, ChessPiece piece, ChessPiece captured) {
+        if (undoCount == undoRecords.length) {
+            undoRecords = Arrays.copyOf(undoRecords, undoCount * 2);
+            undoMoved = Arrays.copyOf(undoMoved, undoCount * 2);
+            undoCaptured = Arrays.copyOf(undoCaptured, undoCount * 2);
+        }
+        undoRecords[undoCount] = move
+                | ((long) getEnPassantSquare() << UNDO_EP_SHIFT)
+                | ((long) rights << UNDO_RIGHTS_SHIFT)
+                | ((long) (halfmoveClock & 0xFFFF) << UNDO_CLOCK_SHIFT)
+                | ((long) turn.ordinal() << UNDO_TURN_SHIFT);
+        undoMoved[undoCount] = piece;
+        undoCaptured[undoCount] = captured;
+        undoCount++;
+    }
+
+    /**
+     * Helper function to drop the oldest undo records once makeMove has pushed
+     * more than MAX_UNDO_KEPT, keeping the most recent half
+     * added 10/18/26 for make/unmake
+     */
+    private void trimUndo() {
+        if (undoCount <= MAX_UNDO_KEPT) {
+            return;
+        }
+        int kept = MAX_UNDO_KEPT / 2;
+        int dropped = undoCount - kept;
+        System.arraycopy(undoRecords, dropped, undoRecords, 0, kept);
+        System.arraycopy(undoMoved, dropped, undoMoved, 0, kept);
+        System.arraycopy(undoCaptured, dropped, undoCaptured, 0, kept);
+        Arrays.fill(undoMoved, kept, undoCount, null);
+        Arrays.fill(undoCaptured, kept, undoCount, null);
+        undoCount = kept;
+    }
+
+    /**
+     * Appends every legal move for the team to move
+     * added 10/18/26 for compact move encoding
+     */
+    public void generateLegalMoves(MoveList moves) {
+        generateLegalMoves(turn, moves);
+    }
+
+    /**
+     * Appends every pseudo-legal move for the team to move: moves that follow
+     * the piece rules but may leave the mover's king in check. Searches play
+     * these and reject the illegal ones afterwards, which is cheaper than
+     * testing each move up front.
+     * added 10/18/26 for the engine
+     */
+    public void generatePseudoLegalMoves(MoveList moves) {
+        MoveGenerator.generate(currBoard.getBitBoard(), turn, getCastlingRights(), getEnPassantSquare(), moves);
+    }
+
+    /**
+     * Helper function to append every legal move for a team
+     * added 10/18/26 for compact move encoding
+     */
+    private void generateLegalMoves(TeamColor teamColor, MoveList moves) {
+        int start = moves.size();
+        MoveGenerator.generate(currBoard.getBitBoard(), teamColor, getCastlingRights(), getEnPassantSquare(), moves);
+        removeIllegal(moves, start, teamColor);
+    }
 
-            } else { // Queenside
-                ChessPosition rookStart = new ChessPosition(row, 1);
-                ChessPosition rookEnd = new ChessPosition(row, 4);
+    /**
+     * Helper function to append the legal moves of one piece
+     * added 10/18/26 for compact move encoding
+     */
+    private void legalPieceMoves(int from, ChessPiece piece, MoveList moves) {
+        int start = moves.size();
+        MoveGenerator.generate(currBoard.getBitBoard(), piece.getTeamColor(), piece.getPieceType(), from,
+                getCastlingRights(), getEnPassantSquare(), moves);
+        removeIllegal(moves, start, piece.getTeamColor());
+    }
 
-                ChessPiece rook = currBoard.getPiece(rookStart);
-                currBoard.removePiece(rookStart);
-                currBoard.addPiece(rookEnd, rook);
-                rook.setPieceMoved(true);
+    /**
+     * Helper function to drop, in place, generated moves that leave the king in check
+     * added 10/18/26 for compact move encoding
+     */
+    private void removeIllegal(MoveList moves, int start, TeamColor teamColor) {
+        int kept = start;
+        for (int i = start; i < moves.size(); i++) {
+            int move = moves.get(i);
+            if (!movePutsKingInCheck(move, teamColor)) {
+                moves.set(kept++, move);
             }
         }
+        moves.truncate(kept);
     }
 
     /**
-     * Helper function to get piece moves
-     * added 2/4/26 for p1 implementation
+     * Counts the leaf nodes of the legal move tree to the given depth (perft),
+     * for checking the move generator against known counts. The last ply is
+     * counted without being played.
+     * added 10/18/26 for perft
+     *
+     * @param depth number of half-moves to search
+     * @return number of positions reached after exactly depth half-moves
      */
-    private Collection<ChessMove> getMoves(int row, int col, TeamColor tryColor) {
-        ChessPosition tryPos = new ChessPosition(row, col);
-        ChessPiece piece = currBoard.getPiece(tryPos);
+    public long perft(int depth) {
+        if (depth < 0) {
+            throw new IllegalArgumentException("depth must not be negative");
+        }
+        MoveList[] plies = new MoveList[depth];
+        for (int i = 0; i < depth; i++) {
+            plies[i] = new MoveList();
+        }
+        return perft(depth, plies);
+    }
 
-        if (piece != null && piece.getTeamColor() == tryColor) {
-            return piece.pieceMoves(currBoard, tryPos);
+    /**
+     * Helper function for perft, reusing one move list per ply
+     * added 10/18/26 for perft
+     */
+    private long perft(int depth, MoveList[] plies) {
+        if (depth == 0) {
+            return 1;
         }
-        return null;
+        MoveList moves = plies[depth - 1];
+        moves.clear();
+        generateLegalMoves(turn, moves);
+        if (depth == 1) {
+            return moves.size();
+        }
+        long nodes = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            doMove(moves.get(i));
+            nodes += perft(depth - 1, plies);
+            undoMove();
+        }
+        return nodes;
     }
 
     /**
-     * Helper function to simulate move
-     * added 2/4/26 for p1 implementation
+     * En passant target as a square index
+     * added 10/18/26 for compact move encoding
+     *
+     * @return target square, or MoveGenerator.NO_SQUARE if the last move was not a double pawn push
      */
-    private boolean movePutsKingInCheck(ChessPosition startPos, ChessMove move, ChessPiece piece, TeamColor teamColor) {
-        ChessPosition endPos = move.getEndPosition();
-        ChessPiece captured = currBoard.getPiece(endPos);
-        // simulate move
-        currBoard.removePiece(startPos);
-        currBoard.addPiece(endPos, piece);
-        boolean inCheck = isInCheck(teamColor);
-        // undo move
-        currBoard.removePiece(endPos);
-        currBoard.addPiece(startPos, piece);
-        if (captured != null) {
-            currBoard.addPiece(endPos, captured);
+    public int getEnPassantSquare() {
+        return (enPassantTarget == null) ? NO_SQUARE
+                : enPassantTarget.getSquare();
+    }
+
+    /**
+     * 64-bit Zobrist key of the position: piece placement, side to move,
+     * castling rights and en passant file. The piece part is kept up to date
+     * by the board on every move, so this is O(1). The en passant file only
+     * counts when a pawn of the side to move could actually capture, so
+     * positions that play the same hash the same.
+     * added 10/18/26 for Zobrist hashing
+     */
+    public long getZobristKey() {
+        BitBoard bits = currBoard.getBitBoard();
+        long key = bits.pieceKey() ^ Zobrist.castling(getCastlingRights());
+        if (turn == TeamColor.BLACK) {
+            key ^= Zobrist.blackToMove();
         }
+        int enPassant = getEnPassantSquare();
+        if (enPassant != NO_SQUARE &&
+                (Attacks.pawn(opponentColor(turn), enPassant) & bits.pieces(turn, ChessPiece.PieceType.PAWN)) != 0) {
+            key ^= Zobrist.enPassant(enPassant & 7);
+        }
+        return key;
+    }
 
-        // return if it found an escape move
-        return inCheck;
+    /**
+     * Determines if the current position has occurred three times (this one and
+     * two earlier). Only positions since the last capture or pawn move can repeat,
+     * and only every other one has the same side to move, so this compares
+     * stored Zobrist keys over that window instead of boards.
+     * added 10/18/26 for draw detection
+     *
+     * @return True if the position has been repeated three times
+     */
+    public boolean isDrawByRepetition() {
+        return hasRepeated(2);
+    }
+
+    /**
+     * Determines if the current position has occurred at least once before.
+     * Searches treat this as a draw, since a side that can repeat once can repeat again.
+     * added 10/18/26 for the engine
+     *
+     * @return True if the position is a repetition
+     */
+    public boolean isRepetition() {
+        return hasRepeated(1);
     }
 
     /**
-     * Helper function to find teamColor king
+     * helper function to find earlier occurrences of the current position
+     * added 10/18/26 for draw detection
+     */
+    private boolean hasRepeated(int times) {
+        int window = Math.min(Math.min(halfmoveClock, historyCount), HISTORY_CAPACITY);
+        if (window < 4) {
+            return false;
+        }
+        long key = getZobristKey();
+        int repeats = 0;
+        for (int back = 4; back <= window; back += 2) {
+            if (positionHistory[(historyCount - back) & (HISTORY_CAPACITY - 1)] == key && ++repeats == times) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Determines if fifty moves by each side have been played without a capture
+     * or pawn move
+     * added 10/18/26 for draw detection
+     *
+     * @return True if the fifty-move rule applies
+     */
+    public boolean isDrawByFiftyMoves() {
+        return halfmoveClock >= FIFTY_MOVE_PLIES;
+    }
+
+    /**
+     * Castling rights as a bitmask of WHITE_KINGSIDE, WHITE_QUEENSIDE, BLACK_KINGSIDE
+     * and BLACK_QUEENSIDE. Derived from the pieces' moved flags the first time
+     * it is needed after a new board is set (or an older saved game is loaded)
+     * added 10/18/26 for make/unmake
+     * updated 10/18/26 public for tablebase probing
+     */
+    public int getCastlingRights() {
+        if (castlingRights == UNKNOWN_RIGHTS) {
+            castlingRights = homeRights(1, TeamColor.WHITE, WHITE_KINGSIDE, WHITE_QUEENSIDE)
+                    | homeRights(8, TeamColor.BLACK, BLACK_KINGSIDE, BLACK_QUEENSIDE);
+        }
+        return castlingRights;
+    }
+
+    /**
+     * helper function to derive one team's castling rights from its home row
+     * added 10/18/26 for make/unmake
+     */
+    private int homeRights(int row, TeamColor team, int kingside, int queenside) {
+        ChessPiece king = currBoard.getPiece(BitBoard.square(row, 5));
+        if (king == null || king.getPieceType() != ChessPiece.PieceType.KING ||
+                king.getTeamColor() != team || !king.getPieceMoved()) {
+            return 0;
+        }
+        int rights = 0;
+        ChessPiece rookK = currBoard.getPiece(BitBoard.square(row, 8));
+        if (isRook(rookK, team) && rookK.getPieceMoved()) {
+            rights |= kingside;
+        }
+        ChessPiece rookQ = currBoard.getPiece(BitBoard.square(row, 1));
+        if (isRook(rookQ, team) && rookQ.getPieceMoved()) {
+            rights |= queenside;
+        }
+        return rights;
+    }
+
+    /**
+     * helper function for castling
+     * added 10/18/26
+     */
+    private boolean isRook(ChessPiece piece, TeamColor team) {
+        return piece != null && piece.getPieceType() == ChessPiece.PieceType.ROOK && piece.getTeamColor() == team;
+    }
+
+    /**
+     * Helper function to simulate move
      * added 2/4/26 for p1 implementation
+     * updated 10/18/26 to simulate packed moves through doMove/undoMove
      */
-    private ChessPosition findKing(TeamColor teamColor) {
-        for (int i = 1; i < 9; i++) {
-            for (int j = 1; j < 9; j++) {
-                ChessPosition tryPos = new ChessPosition(i, j);
-                ChessPiece tryPiece = currBoard.getPiece(tryPos);
+    private boolean movePutsKingInCheck(int move, TeamColor teamColor) {
+        doMove(move);
+        boolean inCheck = isInCheck(teamColor);
+        undoMove();
+        return inCheck;
+    }
 
-                if (tryPiece != null &&
-                        tryPiece.getTeamColor() == teamColor &&
-                        tryPiece.getPieceType() == ChessPiece.PieceType.KING) {
-                    return tryPos;
-                }
+    /**
+     * Helper function to find whether a team has any valid move, stopping at the first
+     * added 10/18/26, replaces the per-piece scans in isInCheckmate/isInStalemate
+     */
+    private boolean hasValidMove(TeamColor teamColor) {
+        MoveList moves = scratchMoves;
+        moves.clear();
+        MoveGenerator.generate(currBoard.getBitBoard(), teamColor, getCastlingRights(), getEnPassantSquare(), moves);
+        for (int i = 0; i < moves.size(); i++) {
+            if (!movePutsKingInCheck(moves.get(i), teamColor)) {
+                return true;
             }
         }
-        return null;
+        return false;
     }
 
     /**
@@ -343,25 +767,55 @@ public class ChessGame {
      * @param teamColor which team to check for check
      * @return True if the specified team is in check
      * added 2/4/26 for p1 implementation
+     * updated 10/18/26 to probe the tracked king square instead of generating opponent moves
      */
     public boolean isInCheck(TeamColor teamColor) {
-        TeamColor opposingColor = opponentColor(teamColor);
-        ChessPosition kingPos = findKing(teamColor);
+        BitBoard bits = currBoard.getBitBoard();
+        int kingSquare = bits.kingSquare(teamColor);
+        return kingSquare >= 0 && bits.isSquareAttacked(kingSquare, opponentColor(teamColor));
+    }
 
-        for (int i = 1; i < 9; i++) {
-            for (int j = 1; j < 9; j++) {
-                Collection<ChessMove> moves = getMoves(i, j, opposingColor);
-                if (moves == null) {
-                    continue;
-                }
-                for (ChessMove move : moves) {
-                    if (move.getEndPosition().equals(kingPos)) {
-                        return true;
-                    }
-                }
-            }
+    /**
+     * Result recorded for a game that ended off the board
+     * added 10/18/26 for PGN
+     *
+     * @return "1-0", "0-1" or "1/2-1/2", or null if none was recorded
+     */
+    public String getResult() {
+        return result;
+    }
+
+    /**
+     * Records how a game ended when the position does not show it, e.g. "0-1" when white resigns
+     * added 10/18/26 for PGN
+     *
+     * @param result "1-0", "0-1" or "1/2-1/2", or null to clear it
+     */
+    public void setResult(String result) {
+        this.result = result;
+    }
+
+    /**
+     * Works out the game status for the team to move in one pass: one check
+     * probe on the king square, then move generation stopping at the first
+     * legal move. Checkmate and stalemate take precedence over the draw rules,
+     * so mate on the hundredth half-move still wins.
+     * added 10/18/26 for single-pass status evaluation
+     *
+     * @return status of the team whose turn it is
+     */
+    public GameStatus evaluateStatus() {
+        boolean inCheck = isInCheck(turn);
+        if (!hasValidMove(turn)) {
+            return inCheck ? GameStatus.CHECKMATE : GameStatus.STALEMATE;
         }
-        return false;
+        if (isDrawByRepetition()) {
+            return GameStatus.DRAW_REPETITION;
+        }
+        if (isDrawByFiftyMoves()) {
+            return GameStatus.DRAW_FIFTY_MOVES;
+        }
+        return inCheck ? GameStatus.CHECK : GameStatus.ONGOING;
     }
 
     /**
@@ -370,31 +824,15 @@ public class ChessGame {
      * @param teamColor which team to check for checkmate
      * @return True if the specified team is in checkmate
      * added 2/4/26 for p1 implementation
+     * updated 10/18/26 so en passant escapes count
      */
     public boolean isInCheckmate(TeamColor teamColor) {
         // return false if the king isn't in check
         if (!isInCheck(teamColor)) {
             return false;
         }
-
-        // see if any moves could put the king out of check
-        for (int i = 1; i < 9; i++) {
-            for (int j = 1; j < 9; j++) {
-                Collection<ChessMove> moves = getMoves(i, j, teamColor);
-                if (moves == null) { continue; }
-                ChessPosition startPos = new ChessPosition(i, j);
-                ChessPiece piece = currBoard.getPiece(startPos);
-
-                for (ChessMove move : moves) {
-                    // found an escape move
-                    if (!movePutsKingInCheck(startPos, move, piece, teamColor)) {
-                       return false;
-                    }
-                }
-            }
-        }
-        // is checkmate if the function hasn't returned above
-        return true;
+        // is checkmate if no move gets the king out of check
+        return !hasValidMove(teamColor);
     }
 
     /**
@@ -403,25 +841,14 @@ public class ChessGame {
      *
      * @param teamColor which team to check for stalemate
      * @return True if the specified team is in stalemate, otherwise false
-     * added 2/3/26 for p1 implementation - TO UPDATE
+     * added 2/3/26 for p1 implementation
+     * updated 10/18/26 to stop at the first valid move
      */
     public boolean isInStalemate(TeamColor teamColor) {
         if (isInCheck(teamColor)) {
             return false;
         }
-        Collection<ChessMove> availableMoves = new ArrayList<>();
-        for (int i = 1; i < 9; i++) {
-            for (int j = 1; j < 9; j++) {
-                ChessPosition tryPos = new ChessPosition(i, j);
-                ChessPiece piece = currBoard.getPiece(tryPos);
-                if (piece != null && piece.getTeamColor() == teamColor) {
-                    Collection<ChessMove> posMoves = validMoves(tryPos);
-                    if (posMoves == null) { continue; }
-                    availableMoves.addAll(posMoves);
-                }
-            }
-        }
-        return (availableMoves.isEmpty());
+        return !hasValidMove(teamColor);
     }
 
     /**
@@ -432,6 +859,11 @@ public class ChessGame {
      */
     public void setBoard(ChessBoard board) {
         this.currBoard = board;
+        castlingRights = UNKNOWN_RIGHTS; // updated 10/18/26: re-derive for the new board
+        undoCount = 0;
+        historyCount = 0;
+        moveCount = 0;
+        startFen = null;
     }
 
     /**
@@ -443,4 +875,222 @@ public class ChessGame {
     public ChessBoard getBoard() {
         return currBoard;
     }
+
+    /**
+     * Builds a game from Forsyth-Edwards Notation: piece placement, side to move,
+     * castling rights, en passant target, halfmove clock and fullmove number.
+     * The two clocks may be left off and default to 0 and 1. Kings and rooks
+     * that have lost their castling rights are marked as moved, so the pieces
+     * agree with the rights. The record is read in place, with no splitting.
+     * added 10/18/26 for FEN
+     *
+     * @param fen FEN record, e.g. "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1"
+     * @return game at that position
+     * @throws IllegalArgumentException if the record is malformed
+     */
+    public static ChessGame fromFen(String fen) {
+        ChessBoard board = new ChessBoard();
+        int length = fen.length();
+        int i = 0;
+        int row = 8;
+        int col = 1;
+        for (; i < length && fen.charAt(i) != ' '; i++) {
+            char c = fen.charAt(i);
+            if (c == '/') {
+                if (col != 9 || row == 1) {
+                    throw new IllegalArgumentException("bad FEN rank " + (9 - row) + ": " + fen);
+                }
+                row--;
+                col = 1;
+            } else if (c >= '1' && c <= '8') {
+                col += c - '0';
+            } else {
+                ChessPiece.PieceType type = fenPieceType(Character.toLowerCase(c));
+                if (type == null || col > 8) {
+                    throw new IllegalArgumentException("bad FEN piece placement: " + fen);
+                }
+                TeamColor color = Character.isUpperCase(c) ? TeamColor.WHITE : TeamColor.BLACK;
+                board.setPiece(BitBoard.square(row, col), new ChessPiece(color, type));
+                col++;
+            }
+            if (col > 9) {
+                throw new IllegalArgumentException("bad FEN rank " + (9 - row) + ": " + fen);
+            }
+        }
+        if (row != 1 || col != 9 || i + 2 > length) {
+            throw new IllegalArgumentException("incomplete FEN: " + fen);
+        }
+
+        // side to move
+        char side = fen.charAt(++i);
+        if ((side != 'w' && side != 'b') || (i + 1 < length && fen.charAt(i + 1) != ' ')) {
+            throw new IllegalArgumentException("bad FEN side to move: " + fen);
+        }
+        ChessGame game = new ChessGame(board, side == 'w' ? TeamColor.WHITE : TeamColor.BLACK);
+        i += 2;
+
+        // castling rights
+        int rights = 0;
+        if (i < length && fen.charAt(i) == '-') {
+            i++;
+        } else {
+            for (; i < length && fen.charAt(i) != ' '; i++) {
+                rights |= switch (fen.charAt(i)) {
+                    case 'K' -> WHITE_KINGSIDE;
+                    case 'Q' -> WHITE_QUEENSIDE;
+                    case 'k' -> BLACK_KINGSIDE;
+                    case 'q' -> BLACK_QUEENSIDE;
+                    default -> throw new IllegalArgumentException("bad FEN castling rights: " + fen);
+                };
+            }
+        }
+        game.castlingRights = rights & game.homeRights(1, TeamColor.WHITE, WHITE_KINGSIDE, WHITE_QUEENSIDE)
+                | rights & game.homeRights(8, TeamColor.BLACK, BLACK_KINGSIDE, BLACK_QUEENSIDE);
+        game.markMovedPieces();
+        i++;
+
+        // en passant target
+        if (i < length && fen.charAt(i) != '-') {
+            if (i + 1 >= length) {
+                throw new IllegalArgumentException("bad FEN en passant square: " + fen);
+            }
+            int epCol = fen.charAt(i) - 'a' + 1;
+            int epRow = fen.charAt(i + 1) - '0';
+            if (epCol < 1 || epCol > 8 || (epRow != 3 && epRow != 6)) {
+                throw new IllegalArgumentException("bad FEN en passant square: " + fen);
+            }
+            game.enPassantTarget = ChessPosition.of(epRow, epCol);
+            i += 3;
+        } else {
+            i += 2;
+        }
+
+        // clocks, optional
+        if (i < length) {
+            int end = fen.indexOf(' ', i);
+            if (end < 0) {
+                end = length;
+            }
+            game.halfmoveClock = parseCount(fen, i, end);
+            if (end < length) {
+                game.fullmoveNumber = Math.max(1, parseCount(fen, end + 1, length));
+            }
+        }
+        return game;
+    }
+
+    /**
+     * Writes the position as Forsyth-Edwards Notation. Castling rights come from
+     * the tracked rights, which for older saved games are derived from the
+     * pieces' moved flags.
+     * added 10/18/26 for FEN
+     *
+     * @return FEN record of the current position
+     */
+    public String toFen() {
+        StringBuilder fen = new StringBuilder(90);
+        for (int row = 8; row >= 1; row--) {
+            int empty = 0;
+            for (int col = 1; col <= 8; col++) {
+                ChessPiece piece = currBoard.getPiece(BitBoard.square(row, col));
+                if (piece == null) {
+                    empty++;
+                    continue;
+                }
+                if (empty > 0) {
+                    fen.append((char) ('0' + empty));
+                    empty = 0;
+                }
+                char c = fenPieceChar(piece.getPieceType());
+                fen.append(piece.getTeamColor() == TeamColor.WHITE ? Character.toUpperCase(c) : c);
+            }
+            if (empty > 0) {
+                fen.append((char) ('0' + empty));
+            }
+            if (row > 1) {
+                fen.append('/');
+            }
+        }
+        fen.append(turn == TeamColor.WHITE ? " w " : " b ");
+
+        int rights = getCastlingRights();
+        if (rights == 0) {
+            fen.append('-');
+        } else {
+            if ((rights & WHITE_KINGSIDE) != 0) { fen.append('K'); }
+            if ((rights & WHITE_QUEENSIDE) != 0) { fen.append('Q'); }
+            if ((rights & BLACK_KINGSIDE) != 0) { fen.append('k'); }
+            if ((rights & BLACK_QUEENSIDE) != 0) { fen.append('q'); }
+        }
+        fen.append(' ');
+
+        if (enPassantTarget == null) {
+            fen.append('-');
+        } else {
+            fen.append((char) ('a' + enPassantTarget.getColumn() - 1)).append(enPassantTarget.getRow());
+        }
+        return fen.append(' ').append(halfmoveClock).append(' ').append(fullmoveNumber).toString();
+    }
+
+    /**
+     * helper function for fromFen: marks kings and rooks without castling rights as moved
+     * added 10/18/26 for FEN
+     */
+    private void markMovedPieces() {
+        markMoved(1, 5, WHITE_KINGSIDE | WHITE_QUEENSIDE);
+        markMoved(1, 8, WHITE_KINGSIDE);
+        markMoved(1, 1, WHITE_QUEENSIDE);
+        markMoved(8, 5, BLACK_KINGSIDE | BLACK_QUEENSIDE);
+        markMoved(8, 8, BLACK_KINGSIDE);
+        markMoved(8, 1, BLACK_QUEENSIDE);
+    }
+
+    private void markMoved(int row, int col, int rightsNeeded) {
+        ChessPiece piece = currBoard.getPiece(BitBoard.square(row, col));
+        if (piece != null && (castlingRights & rightsNeeded) == 0) {
+            piece.setPieceMoved(true);
+        }
+    }
+
+    /**
+     * helper function for fromFen: non-negative decimal between start and end
+     * added 10/18/26 for FEN
+     */
+    private static int parseCount(String fen, int start, int end) {
+        if (start >= end) {
+            throw new IllegalArgumentException("bad FEN move clock: " + fen);
+        }
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char c = fen.charAt(i);
+            if (c < '0' || c > '9' || value > 100_000) {
+                throw new IllegalArgumentException("bad FEN move clock: " + fen);
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static ChessPiece.PieceType fenPieceType(char c) {
+        return switch (c) {
+            case 'k' -> ChessPiece.PieceType.KING;
+            case 'q' -> ChessPiece.PieceType.QUEEN;
+            case 'r' -> ChessPiece.PieceType.ROOK;
+            case 'b' -> ChessPiece.PieceType.BISHOP;
+            case 'n' -> ChessPiece.PieceType.KNIGHT;
+            case 'p' -> ChessPiece.PieceType.PAWN;
+            default -> null;
+        };
+    }
+
+    private static char fenPieceChar(ChessPiece.PieceType type) {
+        return switch (type) {
+            case KING -> 'k';
+            case QUEEN -> 'q';
+            case ROOK -> 'r';
+            case BISHOP -> 'b';
+            case KNIGHT -> 'n';
+            case PAWN -> 'p';
+        };
+    }
 }
@@ -1,7 +1,5 @@
 package chess;
 
-import java.util.Objects;
-
 /**
  * Represents a single square position on a chess board
  * <p>
@@ -13,11 +11,40 @@ public class ChessPosition {
     private final int row; // added 1/20/26, phase 0 video
     private final int col; // added 1/20/26, phase 0 video
 
+    // one shared instance per board square, indexed by getSquare(), added 10/18/26
+    private static final ChessPosition[] SQUARES = new ChessPosition[64];
+
+    static {
+        for (int square = 0; square < 64; square++) {
+            SQUARES[square] = new ChessPosition((square >>> 3) + 1, (square & 7) + 1);
+        }
+    }
+
     public ChessPosition(int row, int col) {
         this.row = row; // added 1/20/26, phase 0 video
         this.col = col; // added 1/20/26, phase 0 video
     }
 
+    /**
+     * Gets the shared position for a square instead of allocating one.
+     * Positions off the board are still created fresh.
+     * added 10/18/26 for position flyweights
+     */
+    public static ChessPosition of(int row, int col) {
+        if (row >= 1 && row <= 8 && col >= 1 && col <= 8) {
+            return SQUARES[((row - 1) << 3) | (col - 1)];
+        }
+        return new ChessPosition(row, col);
+    }
+
+    /**
+     * Gets the shared position for a 0-63 square index (a1 = 0, h8 = 63)
+     * added 10/18/26 for position flyweights
+     */
+    public static ChessPosition of(int square) {
+        return SQUARES[square];
+    }
+
     /**
      * @return which row this position is in
      * 1 codes for the bottom row
@@ -34,6 +61,14 @@ public class ChessPosition {
         return col; // added 1/20/26, phase 0 video
     }
 
+    /**
+     * @return 0-63 square index of this position, (row - 1) * 8 + (column - 1)
+     * added 10/18/26 for position flyweights
+     */
+    public int getSquare() {
+        return ((row - 1) << 3) | (col - 1);
+    }
+
     /**
      * toString for readability in debugging
      * added 1/20/26, phase 0 video
@@ -58,9 +93,10 @@ public class ChessPosition {
     /**
      * equality and hashcode
      * updated 1/27/26 from p0 implementation
+     * updated 10/18/26 to avoid boxing through Objects.hash
      */
     @Override
     public int hashCode() {
-        return Objects.hash(row, col);
+        return 31 * row + col;
     }
 }
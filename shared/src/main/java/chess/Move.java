@@ -0,0 +1,105 @@
+package chess;
+
+/**
+ * Packed 16-bit move encoding used inside the engine
+ * <p>
+ * Bits 0-5 hold the start square, bits 6-11 the end square and bits 12-14 a
+ * flag for special moves and promotions. Squares use the {@link BitBoard}
+ * index. Moves are only turned into {@link ChessMove} objects at the public
+ * API boundary.
+ * added 10/18/26 for compact move encoding
+ */
+public final class Move {
+
+    public static final int NONE = 0;
+
+    public static final int FLAG_NORMAL = 0;
+    public static final int FLAG_DOUBLE_PUSH = 1;
+    public static final int FLAG_CASTLE = 2;
+    public static final int FLAG_EN_PASSANT = 3;
+    public static final int FLAG_PROMOTE_KNIGHT = 4;
+    public static final int FLAG_PROMOTE_BISHOP = 5;
+    public static final int FLAG_PROMOTE_ROOK = 6;
+    public static final int FLAG_PROMOTE_QUEEN = 7;
+
+    private static final ChessPiece.PieceType[] PROMOTION_TYPES = {
+            ChessPiece.PieceType.KNIGHT, ChessPiece.PieceType.BISHOP,
+            ChessPiece.PieceType.ROOK, ChessPiece.PieceType.QUEEN
+    };
+
+    private Move() {
+    }
+
+    /**
+     * @return packed move
+     */
+    public static int of(int from, int to, int flag) {
+        return from | (to << 6) | (flag << 12);
+    }
+
+    public static int from(int move) {
+        return move & 0x3F;
+    }
+
+    public static int to(int move) {
+        return (move >>> 6) & 0x3F;
+    }
+
+    public static int flag(int move) {
+        return (move >>> 12) & 0x7;
+    }
+
+    public static boolean isPromotion(int move) {
+        return flag(move) >= FLAG_PROMOTE_KNIGHT;
+    }
+
+    /**
+     * @return the piece type a promotion move promotes to, or null if not a promotion
+     */
+    public static ChessPiece.PieceType promotionType(int move) {
+        int flag = flag(move);
+        return (flag >= FLAG_PROMOTE_KNIGHT) ? PROMOTION_TYPES[flag - FLAG_PROMOTE_KNIGHT] : null;
+    }
+
+    /**
+     * @return promotion flag for a piece type, or FLAG_NORMAL for null
+     */
+    public static int promotionFlag(ChessPiece.PieceType type) {
+        if (type == null) {
+            return FLAG_NORMAL;
+        }
+        return switch (type) {
+            case KNIGHT -> FLAG_PROMOTE_KNIGHT;
+            case BISHOP -> FLAG_PROMOTE_BISHOP;
+            case ROOK -> FLAG_PROMOTE_ROOK;
+            case QUEEN -> FLAG_PROMOTE_QUEEN;
+            default -> throw new IllegalArgumentException("cannot promote to " + type);
+        };
+    }
+
+    /**
+     * @return coordinate notation for a packed move, e.g. "e2e4" or "e7e8q"
+     * added 10/18/26 for perft
+     */
+    public static String toText(int move) {
+        StringBuilder text = new StringBuilder(5);
+        appendSquare(text, from(move));
+        appendSquare(text, to(move));
+        ChessPiece.PieceType promotion = promotionType(move);
+        if (promotion != null) {
+            text.append(promotion == ChessPiece.PieceType.KNIGHT ? 'n' : Character.toLowerCase(promotion.name().charAt(0)));
+        }
+        return text.toString();
+    }
+
+    private static void appendSquare(StringBuilder text, int square) {
+        text.append((char) ('a' + (square & 7))).append((char) ('1' + (square >>> 3)));
+    }
+
+    /**
+     * @return the public API form of a packed move
+     */
+    public static ChessMove toChessMove(int move) {
+        return new ChessMove(ChessPosition.of(from(move)), ChessPosition.of(to(move)), promotionType(move));
+    }
+}
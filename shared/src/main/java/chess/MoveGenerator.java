@@ -0,0 +1,156 @@
+package chess;
+
+/**
+ * Pseudo-legal move generation on bitboards into a {@link MoveList}
+ * <p>
+ * Moves may still leave the mover's own king in check; callers filter them by
+ * playing each one with doMove and probing the king square. Castling is only
+ * generated when the king is not in check and does not pass through an
+ * attacked square, so the same filter also covers the landing square.
+ * added 10/18/26 for compact move encoding
+ */
+public final class MoveGenerator {
+
+    public static final int NO_SQUARE = 64;
+
+    private static final ChessPiece.PieceType[] TYPES = ChessPiece.PieceType.values();
+
+    private MoveGenerator() {
+    }
+
+    /**
+     * Generates moves for every piece of a team
+     *
+     * @param castlingRights ChessGame castling rights bitmask, 0 for none
+     * @param enPassant      en passant target square, or NO_SQUARE
+     */
+    public static void generate(BitBoard bits, ChessGame.TeamColor color, int castlingRights, int enPassant,
+                                MoveList moves) {
+        for (ChessPiece.PieceType type : TYPES) {
+            long set = bits.pieces(color, type);
+            while (set != 0) {
+                int from = Long.numberOfTrailingZeros(set);
+                set &= set - 1;
+                generate(bits, color, type, from, castlingRights, enPassant, moves);
+            }
+        }
+    }
+
+    /**
+     * Generates moves for the piece of the given color and type standing on a square
+     */
+    public static void generate(BitBoard bits, ChessGame.TeamColor color, ChessPiece.PieceType type, int from,
+                                int castlingRights, int enPassant, MoveList moves) {
+        long occupied = bits.occupied();
+        long notOwn = ~bits.occupied(color);
+        switch (type) {
+            case KING -> {
+                addMoves(moves, from, Attacks.king(from) & notOwn);
+                if (castlingRights != 0) {
+                    castlingMoves(bits, color, from, castlingRights, moves);
+                }
+            }
+            case QUEEN -> addMoves(moves, from, Attacks.queen(from, occupied) & notOwn);
+            case BISHOP -> addMoves(moves, from, Attacks.bishop(from, occupied) & notOwn);
+            case KNIGHT -> addMoves(moves, from, Attacks.knight(from) & notOwn);
+            case ROOK -> addMoves(moves, from, Attacks.rook(from, occupied) & notOwn);
+            case PAWN -> pawnMoves(bits, color, from, enPassant, moves);
+        }
+    }
+
+    private static void addMoves(MoveList moves, int from, long targets) {
+        while (targets != 0) {
+            int to = Long.numberOfTrailingZeros(targets);
+            targets &= targets - 1;
+            moves.add(Move.of(from, to, Move.FLAG_NORMAL));
+        }
+    }
+
+    /**
+     * Pawn pushes (two from the starting row), captures, promotions and en passant
+     */
+    private static void pawnMoves(BitBoard bits, ChessGame.TeamColor color, int from, int enPassant,
+                                  MoveList moves) {
+        boolean white = color == ChessGame.TeamColor.WHITE;
+        int row = BitBoard.row(from);
+        int step = white ? 8 : -8;
+        long occupied = bits.occupied();
+
+        int oneRow = white ? row + 1 : row - 1;
+        if (oneRow >= 1 && oneRow <= 8) {
+            int one = from + step;
+            if ((occupied & (1L << one)) == 0) {
+                addPawnMove(moves, from, one);
+                int two = one + step;
+                if (row == (white ? 2 : 7) && (occupied & (1L << two)) == 0) {
+                    moves.add(Move.of(from, two, Move.FLAG_DOUBLE_PUSH));
+                }
+            }
+        }
+
+        ChessGame.TeamColor opponent = white ? ChessGame.TeamColor.BLACK : ChessGame.TeamColor.WHITE;
+        long attacks = Attacks.pawn(color, from);
+        long captures = attacks & bits.occupied(opponent);
+        while (captures != 0) {
+            int to = Long.numberOfTrailingZeros(captures);
+            captures &= captures - 1;
+            addPawnMove(moves, from, to);
+        }
+
+        // target row 6 was passed by a black pawn, so only white can capture into it (and vice versa)
+        if (enPassant != NO_SQUARE && (attacks & (1L << enPassant)) != 0
+                && BitBoard.row(enPassant) == (white ? 6 : 3)) {
+            moves.add(Move.of(from, enPassant, Move.FLAG_EN_PASSANT));
+        }
+    }
+
+    private static void addPawnMove(MoveList moves, int from, int to) {
+        int toRow = BitBoard.row(to);
+        if (toRow == 1 || toRow == 8) { // promotion
+            moves.add(Move.of(from, to, Move.FLAG_PROMOTE_QUEEN));
+            moves.add(Move.of(from, to, Move.FLAG_PROMOTE_KNIGHT));
+            moves.add(Move.of(from, to, Move.FLAG_PROMOTE_BISHOP));
+            moves.add(Move.of(from, to, Move.FLAG_PROMOTE_ROOK));
+        } else {
+            moves.add(Move.of(from, to, Move.FLAG_NORMAL));
+        }
+    }
+
+    /**
+     * Castling from the king's home square when the right is held, the rook is
+     * home, the squares between are empty and the king neither starts in nor
+     * passes through check
+     */
+    private static void castlingMoves(BitBoard bits, ChessGame.TeamColor color, int from, int castlingRights,
+                                      MoveList moves) {
+        boolean white = color == ChessGame.TeamColor.WHITE;
+        int home = white ? BitBoard.square(1, 5) : BitBoard.square(8, 5);
+        int kingside = white ? ChessGame.WHITE_KINGSIDE : ChessGame.BLACK_KINGSIDE;
+        int queenside = white ? ChessGame.WHITE_QUEENSIDE : ChessGame.BLACK_QUEENSIDE;
+        if (from != home || (castlingRights & (kingside | queenside)) == 0) {
+            return;
+        }
+        ChessGame.TeamColor opponent = white ? ChessGame.TeamColor.BLACK : ChessGame.TeamColor.WHITE;
+        if (bits.isSquareAttacked(from, opponent)) {
+            return;
+        }
+        long occupied = bits.occupied();
+        long rooks = bits.pieces(color, ChessPiece.PieceType.ROOK);
+
+        // Kingside castling: f and g empty, rook on h, f not attacked
+        if ((castlingRights & kingside) != 0
+                && (rooks & (1L << (from + 3))) != 0
+                && (occupied & ((1L << (from + 1)) | (1L << (from + 2)))) == 0
+                && !bits.isSquareAttacked(from + 1, opponent)) {
+            moves.add(Move.of(from, from + 2, Move.FLAG_CASTLE));
+        }
+
+        // Queenside castling: b, c and d empty, rook on a, d not attacked
+        if ((castlingRights & queenside) != 0
+                && (rooks & (1L << (from - 4))) != 0
+                && (occupied & ((1L << (from - 1)) | (1L << (from - 2)) | (1L << (from - 3)))) == 0
+                && !bits.isSquareAttacked(from - 1, opponent)) {
+            moves.add(Move.of(from, from - 2, Move.FLAG_CASTLE));
+        }
+    }
+}
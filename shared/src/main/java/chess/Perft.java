@@ -0,0 +1,145 @@
+package chess;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Perft runner: move generator correctness against published node counts, and throughput
+ * <p>
+ * Usage:
+ * <pre>
+ *   java -cp shared.jar chess.Perft [maxDepth]              reference suite up to maxDepth (default 5)
+ *   java -cp shared.jar chess.Perft divide &lt;name&gt; &lt;depth&gt;  node count under each root move
+ * </pre>
+ * Root moves are split across a ForkJoinPool, each searched on its own copy of the game.
+ * added 10/18/26 for perft
+ */
+public final class Perft {
+
+    /**
+     * A reference position and its known node counts, nodes[0] being depth 1
+     */
+    public record Reference(String name, String fen, long... nodes) {
+    }
+
+    // the standard perft suite (chessprogramming.org "Perft Results")
+    public static final List<Reference> REFERENCES = List.of(
+            new Reference("start", "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+                    20, 400, 8_902, 197_281, 4_865_609, 119_060_324),
+            new Reference("kiwipete", "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+                    48, 2_039, 97_862, 4_085_603, 193_690_690),
+            new Reference("position3", "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+                    14, 191, 2_812, 43_238, 674_624, 11_030_083),
+            new Reference("position4", "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+                    6, 264, 9_467, 422_333, 15_833_292),
+            new Reference("position5", "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8",
+                    44, 1_486, 62_379, 2_103_487, 89_941_194),
+            new Reference("position6", "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10",
+                    46, 2_079, 89_890, 3_894_594, 164_075_551)
+    );
+
+    private Perft() {
+    }
+
+    /**
+     * Counts the nodes under each legal root move, searching the moves in parallel
+     *
+     * @return node count per root move, in move generation order
+     */
+    public static Map<String, Long> divide(ChessGame game, int depth, ForkJoinPool pool) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("divide needs a depth of at least 1");
+        }
+        MoveList moves = new MoveList();
+        game.generateLegalMoves(moves);
+
+        // copies are made here so the workers never touch the caller's game
+        List<ForkJoinTask<Long>> tasks = new ArrayList<>(moves.size());
+        for (int i = 0; i < moves.size(); i++) {
+            ChessGame copy = new ChessGame(game);
+            copy.doMove(moves.get(i));
+            tasks.add(pool.submit(() -> copy.perft(depth - 1)));
+        }
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (int i = 0; i < moves.size(); i++) {
+            counts.put(Move.toText(moves.get(i)), tasks.get(i).join());
+        }
+        return counts;
+    }
+
+    /**
+     * @return a game set up at a reference position
+     */
+    public static ChessGame load(Reference reference) {
+        return ChessGame.fromFen(reference.fen());
+    }
+
+    public static void main(String[] args) {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        try {
+            if (args.length == 3 && args[0].equals("divide")) {
+                runDivide(find(args[1]), Integer.parseInt(args[2]), pool);
+            } else if (args.length <= 1) {
+                int maxDepth = (args.length == 1) ? Integer.parseInt(args[0]) : 5;
+                if (!runSuite(maxDepth, pool)) {
+                    System.exit(1);
+                }
+            } else {
+                System.out.println("usage: Perft [maxDepth] | Perft divide <name> <depth>");
+            }
+        } catch (IllegalArgumentException e) {
+            System.out.println("Error: " + e.getMessage());
+            System.exit(2);
+        }
+    }
+
+    private static boolean runSuite(int maxDepth, ForkJoinPool pool) {
+        System.out.printf("perft on %d threads%n", pool.getParallelism());
+        boolean allPassed = true;
+        for (Reference reference : REFERENCES) {
+            for (int depth = 1; depth <= Math.min(maxDepth, reference.nodes().length); depth++) {
+                long start = System.nanoTime();
+                long nodes = total(divide(load(reference), depth, pool));
+                long elapsed = Math.max(System.nanoTime() - start, 1);
+                long expected = reference.nodes()[depth - 1];
+                boolean passed = nodes == expected;
+                allPassed &= passed;
+                System.out.printf("%-10s depth %d %,14d nodes %9.1f ms %,14d nodes/s  %s%n",
+                        reference.name(), depth, nodes, elapsed / 1e6, nodes * 1_000_000_000L / elapsed,
+                        passed ? "ok" : "FAIL (expected " + expected + ")");
+            }
+        }
+        return allPassed;
+    }
+
+    private static void runDivide(Reference reference, int depth, ForkJoinPool pool) {
+        long start = System.nanoTime();
+        Map<String, Long> counts = divide(load(reference), depth, pool);
+        long elapsed = Math.max(System.nanoTime() - start, 1);
+        counts.forEach((move, nodes) -> System.out.printf("%s: %d%n", move, nodes));
+        long nodes = total(counts);
+        System.out.printf("%nmoves %d, nodes %,d, %.1f ms, %,d nodes/s%n",
+                counts.size(), nodes, elapsed / 1e6, nodes * 1_000_000_000L / elapsed);
+    }
+
+    private static long total(Map<String, Long> counts) {
+        long nodes = 0;
+        for (long count : counts.values()) {
+            nodes += count;
+        }
+        return nodes;
+    }
+
+    private static Reference find(String name) {
+        for (Reference reference : REFERENCES) {
+            if (reference.name().equals(name)) {
+                return reference;
+            }
+        }
+        throw new IllegalArgumentException("unknown position " + name);
+    }
+}
@@ -0,0 +1,142 @@
+package chess;
+
+/**
+ * Material plus piece-square values for the engine's evaluation, kept up to
+ * date by {@link BitBoard} as pieces are added and removed
+ * <p>
+ * Every (piece kind, square) pair has a middlegame and an endgame value:
+ * the piece's worth plus a bonus for where it stands, positive for white and
+ * negative for black. A board's score is the sum over its pieces, so a move
+ * changes it by the few entries of the pieces it moves. The evaluation blends
+ * the two sums by {@link BitBoard#phase()}, which falls from
+ * {@link #MAX_PHASE} toward 0 as the pieces come off.
+ * added 10/18/26 for incremental evaluation
+ */
+public final class PieceSquare {
+
+    public static final int MAX_PHASE = 24;
+
+    // indexed by PieceType ordinal: KING, QUEEN, BISHOP, KNIGHT, ROOK, PAWN
+    public static final int[] MIDDLEGAME_VALUES = {0, 900, 330, 320, 500, 100};
+    public static final int[] ENDGAME_VALUES = {0, 940, 310, 290, 530, 120};
+    private static final int[] PHASE = {0, 4, 1, 1, 2, 0};
+
+    private static final int[][] MIDDLEGAME = new int[BitBoard.PIECE_KINDS][64];
+    private static final int[][] ENDGAME = new int[BitBoard.PIECE_KINDS][64];
+
+    // bonus tables from white's side, a1 first; black reads them mirrored by rank
+    private static final int[] KING_MIDDLEGAME = {
+            20, 30, 10, 0, 0, 10, 30, 20,
+            20, 20, 0, 0, 0, 0, 20, 20,
+            -10, -20, -20, -20, -20, -20, -20, -10,
+            -20, -30, -30, -40, -40, -30, -30, -20,
+            -30, -40, -40, -50, -50, -40, -40, -30,
+            -30, -40, -40, -50, -50, -40, -40, -30,
+            -30, -40, -40, -50, -50, -40, -40, -30,
+            -30, -40, -40, -50, -50, -40, -40, -30};
+    // with the queens gone the king walks to the centre
+    private static final int[] KING_ENDGAME = {
+            -50, -30, -30, -30, -30, -30, -30, -50,
+            -30, -30, 0, 0, 0, 0, -30, -30,
+            -30, -10, 20, 30, 30, 20, -10, -30,
+            -30, -10, 30, 40, 40, 30, -10, -30,
+            -30, -10, 30, 40, 40, 30, -10, -30,
+            -30, -10, 20, 30, 30, 20, -10, -30,
+            -30, -20, -10, 0, 0, -10, -20, -30,
+            -50, -40, -30, -20, -20, -30, -40, -50};
+    private static final int[] QUEEN = {
+            -20, -10, -10, -5, -5, -10, -10, -20,
+            -10, 0, 5, 0, 0, 0, 0, -10,
+            -10, 5, 5, 5, 5, 5, 0, -10,
+            0, 0, 5, 5, 5, 5, 0, -5,
+            -5, 0, 5, 5, 5, 5, 0, -5,
+            -10, 0, 5, 5, 5, 5, 0, -10,
+            -10, 0, 0, 0, 0, 0, 0, -10,
+            -20, -10, -10, -5, -5, -10, -10, -20};
+    private static final int[] BISHOP = {
+            -20, -10, -10, -10, -10, -10, -10, -20,
+            -10, 5, 0, 0, 0, 0, 5, -10,
+            -10, 10, 10, 10, 10, 10, 10, -10,
+            -10, 0, 10, 10, 10, 10, 0, -10,
+            -10, 5, 5, 10, 10, 5, 5, -10,
+            -10, 0, 5, 10, 10, 5, 0, -10,
+            -10, 0, 0, 0, 0, 0, 0, -10,
+            -20, -10, -10, -10, -10, -10, -10, -20};
+    private static final int[] KNIGHT = {
+            -50, -40, -30, -30, -30, -30, -40, -50,
+            -40, -20, 0, 5, 5, 0, -20, -40,
+            -30, 5, 10, 15, 15, 10, 5, -30,
+            -30, 0, 15, 20, 20, 15, 0, -30,
+            -30, 5, 15, 20, 20, 15, 5, -30,
+            -30, 0, 10, 15, 15, 10, 0, -30,
+            -40, -20, 0, 0, 0, 0, -20, -40,
+            -50, -40, -30, -30, -30, -30, -40, -50};
+    private static final int[] ROOK = {
+            0, 0, 0, 5, 5, 0, 0, 0,
+            -5, 0, 0, 0, 0, 0, 0, -5,
+            -5, 0, 0, 0, 0, 0, 0, -5,
+            -5, 0, 0, 0, 0, 0, 0, -5,
+            -5, 0, 0, 0, 0, 0, 0, -5,
+            -5, 0, 0, 0, 0, 0, 0, -5,
+            5, 10, 10, 10, 10, 10, 10, 5,
+            0, 0, 0, 0, 0, 0, 0, 0};
+    private static final int[] PAWN_MIDDLEGAME = {
+            0, 0, 0, 0, 0, 0, 0, 0,
+            5, 10, 10, -20, -20, 10, 10, 5,
+            5, -5, -10, 0, 0, -10, -5, 5,
+            0, 0, 0, 20, 20, 0, 0, 0,
+            5, 5, 10, 25, 25, 10, 5, 5,
+            10, 10, 20, 30, 30, 20, 10, 10,
+            50, 50, 50, 50, 50, 50, 50, 50,
+            0, 0, 0, 0, 0, 0, 0, 0};
+    // in the endgame every step towards promotion counts, whatever the file
+    private static final int[] PAWN_ENDGAME = {
+            0, 0, 0, 0, 0, 0, 0, 0,
+            0, 0, 0, 0, 0, 0, 0, 0,
+            5, 5, 5, 5, 5, 5, 5, 5,
+            15, 15, 15, 15, 15, 15, 15, 15,
+            30, 30, 30, 30, 30, 30, 30, 30,
+            50, 50, 50, 50, 50, 50, 50, 50,
+            80, 80, 80, 80, 80, 80, 80, 80,
+            0, 0, 0, 0, 0, 0, 0, 0};
+
+    static {
+        int[][] middlegame = {KING_MIDDLEGAME, QUEEN, BISHOP, KNIGHT, ROOK, PAWN_MIDDLEGAME};
+        int[][] endgame = {KING_ENDGAME, QUEEN, BISHOP, KNIGHT, ROOK, PAWN_ENDGAME};
+        for (ChessPiece.PieceType type : ChessPiece.PieceType.values()) {
+            int t = type.ordinal();
+            int white = BitBoard.pieceIndex(ChessGame.TeamColor.WHITE, type);
+            int black = BitBoard.pieceIndex(ChessGame.TeamColor.BLACK, type);
+            for (int square = 0; square < 64; square++) {
+                MIDDLEGAME[white][square] = MIDDLEGAME_VALUES[t] + middlegame[t][square];
+                ENDGAME[white][square] = ENDGAME_VALUES[t] + endgame[t][square];
+                MIDDLEGAME[black][square] = -(MIDDLEGAME_VALUES[t] + middlegame[t][square ^ 56]);
+                ENDGAME[black][square] = -(ENDGAME_VALUES[t] + endgame[t][square ^ 56]);
+            }
+        }
+    }
+
+    private PieceSquare() {
+    }
+
+    /**
+     * @return middlegame value of a piece kind (0-11) on a square, positive for white
+     */
+    public static int middlegame(int pieceIndex, int square) {
+        return MIDDLEGAME[pieceIndex][square];
+    }
+
+    /**
+     * @return endgame value of a piece kind (0-11) on a square, positive for white
+     */
+    public static int endgame(int pieceIndex, int square) {
+        return ENDGAME[pieceIndex][square];
+    }
+
+    /**
+     * @return how much a piece kind (0-11) counts towards the game phase
+     */
+    public static int phase(int pieceIndex) {
+        return PHASE[pieceIndex % PHASE.length];
+    }
+}
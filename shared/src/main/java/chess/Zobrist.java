@@ -0,0 +1,82 @@
+package chess;
+
+/**
+ * Zobrist keys for 64-bit position hashing
+ * <p>
+ * A position's key is the XOR of one random key per (piece, square) plus keys
+ * for black to move, the castling rights and the en passant file, so a move
+ * updates it by XOR-ing out what changed. The keys come from a fixed seed and
+ * are the same in every JVM, which keeps keys stored with a game (or in a
+ * book file) valid after a restart.
+ * added 10/18/26 for Zobrist hashing
+ */
+public final class Zobrist {
+
+    private static final long[][] PIECE_SQUARE = new long[BitBoard.PIECE_KINDS][64];
+    private static final long[] CASTLING = new long[16];
+    private static final long[] EN_PASSANT_FILE = new long[8];
+    private static final long BLACK_TO_MOVE;
+
+    static {
+        long[] seed = {0x9E3779B97F4A7C15L};
+        for (int kind = 0; kind < BitBoard.PIECE_KINDS; kind++) {
+            for (int square = 0; square < 64; square++) {
+                PIECE_SQUARE[kind][square] = next(seed);
+            }
+        }
+        // each right gets its own key; a set of rights is the XOR of its members
+        long[] rightKeys = {next(seed), next(seed), next(seed), next(seed)};
+        for (int rights = 0; rights < 16; rights++) {
+            for (int bit = 0; bit < 4; bit++) {
+                if ((rights & (1 << bit)) != 0) {
+                    CASTLING[rights] ^= rightKeys[bit];
+                }
+            }
+        }
+        for (int file = 0; file < 8; file++) {
+            EN_PASSANT_FILE[file] = next(seed);
+        }
+        BLACK_TO_MOVE = next(seed);
+    }
+
+    private Zobrist() {
+    }
+
+    /**
+     * @return key for a piece kind (BitBoard.pieceIndex) on a square
+     */
+    public static long piece(int pieceIndex, int square) {
+        return PIECE_SQUARE[pieceIndex][square];
+    }
+
+    /**
+     * @return key for a ChessGame castling rights bitmask
+     */
+    public static long castling(int rights) {
+        return CASTLING[rights];
+    }
+
+    /**
+     * @return key for an en passant target on the given 0-7 file
+     */
+    public static long enPassant(int file) {
+        return EN_PASSANT_FILE[file];
+    }
+
+    /**
+     * @return key XOR-ed in when black is to move
+     */
+    public static long blackToMove() {
+        return BLACK_TO_MOVE;
+    }
+
+    /**
+     * splitmix64 step
+     */
+    private static long next(long[] seed) {
+        long z = (seed[0] += 0x9E3779B97F4A7C15L);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
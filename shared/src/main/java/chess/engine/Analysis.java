@@ -0,0 +1,39 @@
+package chess.engine;
+
+import chess.Move;
+
+import java.util.List;
+
+/**
+ * Outcome of an analysis: the best few moves of a position with their scores
+ * added 10/18/26 for move hints
+ *
+ * @param lines        best moves first, each with its exact score at the depth reached
+ * @param depth        depth of the last finished iteration, 0 if the budget ran out before the first
+ * @param nodes        positions visited
+ * @param elapsedNanos wall-clock time of the search
+ */
+public record Analysis(List<Line> lines, int depth, long nodes, long elapsedNanos) {
+
+    /**
+     * @param move  packed move (see {@link Move})
+     * @param score centipawns from the side to move's point of view; mates are near +-Search.MATE
+     */
+    public record Line(int move, int score) {
+
+        /**
+         * @return the move in coordinate form, e.g. "e2e4" or "e7e8q"
+         */
+        public String text() {
+            return Move.toText(move);
+        }
+    }
+
+    /**
+     * @return the same analysis cut to its best count lines
+     */
+    public Analysis top(int count) {
+        return (count >= lines.size()) ? this
+                : new Analysis(lines.subList(0, Math.max(0, count)), depth, nodes, elapsedNanos);
+    }
+}
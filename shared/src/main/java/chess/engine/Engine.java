@@ -0,0 +1,362 @@
+package chess.engine;
+
+import chess.ChessGame;
+import chess.Move;
+import chess.MoveList;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Entry point for the computer player
+ * added 10/18/26 for the engine
+ * updated 10/18/26 for the engine transposition table: one table shared by every search
+ * updated 10/18/26 for Lazy SMP: helper threads search the same root through the shared table
+ * updated 10/18/26 for the opening book: one mapped book shared by every game
+ * updated 10/18/26 for endgame tablebases: one mapped set of tables shared by every search
+ * updated 10/18/26 for move hints: multi-line analysis
+ * updated 10/18/26 for virtual threads: first-use loading holds a ReentrantLock rather than the class monitor,
+ * so a virtual thread reading the book or tables from disk does not pin its carrier
+ * updated 10/18/26 for the engine: a book or tablebase that fails to load is kept as a failure for load() to
+ * report, instead of printed here, so the embedding program decides how to tell its operator
+ */
+public final class Engine {
+
+    /**
+     * Username the server seats in a game for the computer player; not a valid
+     * username to register, so it cannot belong to a person
+     */
+    public static final String BOT_USERNAME = "@engine";
+
+    // shared table budget and policy, overridable with -Dchess.engine.hashMb=... and -Dchess.engine.replacement=...
+    public static final String HASH_MB_PROPERTY = "chess.engine.hashMb";
+    public static final String REPLACEMENT_PROPERTY = "chess.engine.replacement";
+    private static final int DEFAULT_HASH_MB = 64;
+    // most helper threads one search may use, -Dchess.engine.maxHelpers=...; defaults to one less than the cores
+    public static final String MAX_HELPERS_PROPERTY = "chess.engine.maxHelpers";
+
+    // book file mapped on first use, -Dchess.engine.book=...; no book if unset
+    public static final String BOOK_PROPERTY = "chess.engine.book";
+    // directory of tablebase files mapped on first use, -Dchess.engine.tablebases=...; no tables if unset
+    public static final String TABLEBASES_PROPERTY = "chess.engine.tablebases";
+
+    private static volatile TranspositionTable sharedTable;
+    private static volatile OpeningBook sharedBook;
+    private static volatile boolean bookLoaded;
+    private static volatile Tablebase sharedTablebase;
+    private static volatile boolean tablebaseLoaded;
+    // why the configured book or tables could not be read, null if they were or none is configured
+    private static volatile IOException bookFailure;
+    private static volatile IOException tablebaseFailure;
+    // guards first-use loading of the shared table, book and tablebase
+    private static final ReentrantLock LOAD_LOCK = new ReentrantLock();
+    private static final AtomicInteger ACTIVE_SEARCHES = new AtomicInteger();
+    private static final ExecutorService HELPERS = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "engine-helper");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Engine() {
+    }
+
+    /**
+     * Picks the computer player's move: a move from the shared opening book
+     * if the position is in it, otherwise a search
+     *
+     * @return book move (depth 0, no nodes) or the best move found within the limits
+     */
+    public static SearchResult chooseMove(ChessGame game, SearchLimits limits) {
+        int bookMove = bookMove(game);
+        if (bookMove != Move.NONE) {
+            return new SearchResult(bookMove, 0, 0, 0, 0, 1, new long[0]);
+        }
+        return search(game, limits);
+    }
+
+    /**
+     * @return a legal move from the shared opening book, chosen by weight, or Move.NONE
+     */
+    public static int bookMove(ChessGame game) {
+        OpeningBook book = openingBook();
+        if (book == null) {
+            return Move.NONE;
+        }
+        int move = book.pick(game.getZobristKey(), ThreadLocalRandom.current().nextLong());
+        if (move == Move.NONE) {
+            return Move.NONE;
+        }
+        MoveList legal = new MoveList();
+        game.generateLegalMoves(legal);
+        return legal.contains(move) ? move : Move.NONE;
+    }
+
+    /**
+     * Searches a copy of the game with the shared transposition table, so the
+     * caller's game is left untouched and may be read by other threads
+     * meanwhile. Helper threads are added while the machine has cores to
+     * spare: the cores are split between the searches running at the time.
+     *
+     * @return best move found within the limits
+     */
+    public static SearchResult search(ChessGame game, SearchLimits limits) {
+        int active = ACTIVE_SEARCHES.incrementAndGet();
+        try {
+            return search(game, limits, sharedTable(), helperCount(active));
+        } finally {
+            ACTIVE_SEARCHES.decrementAndGet();
+        }
+    }
+
+    /**
+     * Searches a copy of the game with the given transposition table on the calling thread only
+     *
+     * @return best move found within the limits
+     */
+    public static SearchResult search(ChessGame game, SearchLimits limits, TranspositionTable table) {
+        return search(game, limits, table, 0);
+    }
+
+    /**
+     * Lazy SMP search: the calling thread runs the main search while each
+     * helper searches its own copy of the same root, sharing only the
+     * transposition table. Helpers alternate between starting at depth 1 and
+     * 2 so they fill the table ahead of the main search. The move comes from
+     * the main search; the helpers are stopped as soon as it finishes.
+     *
+     * @param helpers extra threads, 0 to search on the calling thread only
+     * @return best move found within the limits, with nodes counted over every thread
+     */
+    public static SearchResult search(ChessGame game, SearchLimits limits, TranspositionTable table, int helpers) {
+        Tablebase tablebase = tablebase();
+        Search main = new Search(new ChessGame(game), limits, table);
+        main.useTablebase(tablebase);
+        if (helpers <= 0) {
+            return main.run();
+        }
+        // helpers run until the main search stops them, whatever its node budget
+        SearchLimits helperLimits = new SearchLimits(limits.maxDepth(), limits.timeMillis(), Long.MAX_VALUE);
+        List<Search> helperSearches = new ArrayList<>(helpers);
+        List<Future<SearchResult>> helperResults = new ArrayList<>(helpers);
+        for (int i = 0; i < helpers; i++) {
+            Search helper = new Search(new ChessGame(game), helperLimits, table);
+            helper.asHelper(1 + ((i + 1) & 1));
+            helper.useTablebase(tablebase);
+            helperSearches.add(helper);
+            helperResults.add(HELPERS.submit(helper::run));
+        }
+        SearchResult result;
+        try {
+            result = main.run();
+        } finally {
+            helperSearches.forEach(Search::stop);
+        }
+        long nodes = result.nodes();
+        for (Future<SearchResult> helperResult : helperResults) {
+            try {
+                nodes += helperResult.get().nodes();
+            } catch (Exception e) {
+                // a helper that failed only cost its share of the nodes
+            }
+        }
+        return result.withThreads(helpers + 1, nodes);
+    }
+
+    /**
+     * Finds the best few moves of a copy of the game, each with an exact
+     * score, on the calling thread with the shared table. Every root move
+     * is searched with a full window, so this reaches less depth than
+     * {@link #search(ChessGame, SearchLimits)} in the same time.
+     *
+     * @param count most lines to return
+     * @return best moves first, as deep as the limits allowed
+     */
+    public static Analysis analyze(ChessGame game, int count, SearchLimits limits) {
+        Search search = new Search(new ChessGame(game), limits, sharedTable());
+        search.useTablebase(tablebase());
+        search.scoreRootMovesExactly();
+        SearchResult result = search.run();
+        return new Analysis(search.rootLines(count), result.depth(), result.nodes(), result.elapsedNanos());
+    }
+
+    /**
+     * Helper function to share the cores between the searches running now
+     *
+     * @param activeSearches searches running, counting the one asking
+     * @return helper threads the asking search may use
+     */
+    static int helperCount(int activeSearches) {
+        int cores = Runtime.getRuntime().availableProcessors();
+        int max = Integer.getInteger(MAX_HELPERS_PROPERTY, cores - 1);
+        return Math.max(0, Math.min(max, cores / Math.max(1, activeSearches) - 1));
+    }
+
+    /**
+     * @return searches running through {@link #search(ChessGame, SearchLimits)} right now
+     */
+    public static int activeSearches() {
+        return ACTIVE_SEARCHES.get();
+    }
+
+    /**
+     * Gets the table every game's searches share, created on first use from
+     * the system properties
+     */
+    public static TranspositionTable sharedTable() {
+        TranspositionTable table = sharedTable;
+        if (table == null) {
+            LOAD_LOCK.lock();
+            try {
+                table = sharedTable;
+                if (table == null) {
+                    table = new TranspositionTable(
+                            Integer.getInteger(HASH_MB_PROPERTY, DEFAULT_HASH_MB),
+                            TranspositionTable.Replacement.valueOf(System.getProperty(
+                                    REPLACEMENT_PROPERTY, TranspositionTable.Replacement.DEPTH_AND_AGE.name())));
+                    sharedTable = table;
+                }
+            } finally {
+                LOAD_LOCK.unlock();
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Maps the configured book and tablebases now rather than at the first move, so a program can check
+     * them at startup. The engine still plays without whichever could not be read.
+     *
+     * @throws IOException if a configured book or tablebase path could not be read; a second failure is
+     *                     attached as suppressed
+     */
+    public static void load() throws IOException {
+        openingBook();
+        tablebase();
+        IOException failure = bookFailure;
+        if (tablebaseFailure != null) {
+            if (failure == null) {
+                failure = tablebaseFailure;
+            } else {
+                failure.addSuppressed(tablebaseFailure);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Gets the book every game shares, mapped on first use from the system property
+     *
+     * @return the book, or null if none is configured or it cannot be read (see load())
+     */
+    public static OpeningBook openingBook() {
+        if (!bookLoaded) {
+            LOAD_LOCK.lock();
+            try {
+                if (!bookLoaded) {
+                    String path = System.getProperty(BOOK_PROPERTY);
+                    if (path != null) {
+                        try {
+                            sharedBook = OpeningBook.open(Path.of(path));
+                        } catch (IOException e) {
+                            // play without a book rather than fail every move
+                            bookFailure = new IOException("opening book " + path + " not loaded: "
+                                    + e.getMessage(), e);
+                        }
+                    }
+                    bookLoaded = true;
+                }
+            } finally {
+                LOAD_LOCK.unlock();
+            }
+        }
+        return sharedBook;
+    }
+
+    /**
+     * Replaces the shared book, e.g. with one opened from a configured path; null for no book
+     */
+    public static void setOpeningBook(OpeningBook book) {
+        LOAD_LOCK.lock();
+        try {
+            sharedBook = book;
+            bookFailure = null;
+            bookLoaded = true;
+        } finally {
+            LOAD_LOCK.unlock();
+        }
+    }
+
+    /**
+     * Gets the tables every search shares, mapped on first use from the system property
+     *
+     * @return the tablebase, or null if none is configured or it cannot be read (see load())
+     */
+    public static Tablebase tablebase() {
+        if (!tablebaseLoaded) {
+            LOAD_LOCK.lock();
+            try {
+                if (!tablebaseLoaded) {
+                    String path = System.getProperty(TABLEBASES_PROPERTY);
+                    if (path != null) {
+                        try {
+                            sharedTablebase = Tablebase.open(Path.of(path));
+                        } catch (IOException | IllegalArgumentException e) {
+                            // play without tables rather than fail every move
+                            tablebaseFailure = new IOException("tablebases " + path + " not loaded: "
+                                    + e.getMessage(), e);
+                        }
+                    }
+                    tablebaseLoaded = true;
+                }
+            } finally {
+                LOAD_LOCK.unlock();
+            }
+        }
+        return sharedTablebase;
+    }
+
+    /**
+     * Replaces the shared tablebase; null for none
+     */
+    public static void setTablebase(Tablebase tablebase) {
+        LOAD_LOCK.lock();
+        try {
+            sharedTablebase = tablebase;
+            tablebaseFailure = null;
+            tablebaseLoaded = true;
+        } finally {
+            LOAD_LOCK.unlock();
+        }
+    }
+
+    /**
+     * Forgets the loaded book and tablebase, so the next use reads the system properties again; for tests
+     */
+    static void unload() {
+        LOAD_LOCK.lock();
+        try {
+            sharedBook = null;
+            bookFailure = null;
+            bookLoaded = false;
+            sharedTablebase = null;
+            tablebaseFailure = null;
+            tablebaseLoaded = false;
+        } finally {
+            LOAD_LOCK.unlock();
+        }
+    }
+
+    public static boolean isBot(String username) {
+        return BOT_USERNAME.equals(username);
+    }
+}
@@ -0,0 +1,211 @@
+package chess.engine;
+
+import chess.Attacks;
+import chess.BitBoard;
+import chess.ChessGame;
+import chess.ChessPiece;
+import chess.PieceSquare;
+
+/**
+ * Static evaluation: material and piece-square values, mobility, pawn
+ * structure and king safety, blended between middlegame and endgame weights
+ * by the game phase
+ * <p>
+ * Material and piece-square values are not recounted here: the board's
+ * {@link BitBoard} keeps their sums up to date on every piece it adds or
+ * removes, so doMove/undoMove maintain them for free. Pawn structure
+ * depends on the pawns alone and is cached in a {@link PawnTable} by pawn
+ * key. Mobility and king attacks share one pass over the pieces' attacks.
+ * Terms are built as packed scores, a middlegame and an endgame part in one
+ * int, and split only for the final blend.
+ * added 10/18/26 for the engine
+ * updated 10/18/26 for incremental evaluation: mobility, pawn structure, king safety, pawn hash
+ */
+public final class Evaluation {
+
+    // indexed by PieceType ordinal: KING, QUEEN, BISHOP, KNIGHT, ROOK, PAWN
+    static final int[] PIECE_VALUES = PieceSquare.MIDDLEGAME_VALUES;
+
+    // no packed score is this far out, so PawnTable uses it for a miss
+    static final int NO_SCORE = Integer.MIN_VALUE;
+
+    private static final ChessPiece.PieceType[] TYPES = ChessPiece.PieceType.values();
+
+    // per attacked square beyond a typical count, by PieceType ordinal
+    private static final int[] MOBILITY_MIDDLEGAME = {0, 1, 5, 4, 2, 0};
+    private static final int[] MOBILITY_ENDGAME = {0, 2, 5, 4, 4, 0};
+    private static final int[] MOBILITY_BASE = {0, 14, 7, 4, 7, 0};
+    // per attacked square next to the enemy king, by PieceType ordinal
+    private static final int[] KING_ATTACK = {0, 5, 2, 2, 3, 0};
+    private static final int SHIELD_PAWN = 12;
+
+    private static final int DOUBLED = pack(-10, -20);
+    private static final int ISOLATED = pack(-15, -20);
+    // by ranks advanced from the mover's own back rank
+    private static final int[] PASSED = {
+            0, pack(5, 10), pack(10, 20), pack(20, 40), pack(35, 70), pack(60, 120), pack(100, 200), 0};
+
+    private static final long[] FILES = new long[8];
+    private static final long[] ADJACENT_FILES = new long[8];
+    // squares ahead on the same and adjacent files, by color ordinal and square
+    private static final long[][] PASSED_MASK = new long[2][64];
+    // the two ranks in front of a king on its own and adjacent files, by color ordinal and square
+    private static final long[][] SHIELD = new long[2][64];
+
+    static {
+        for (int file = 0; file < 8; file++) {
+            FILES[file] = 0x0101010101010101L << file;
+        }
+        for (int file = 0; file < 8; file++) {
+            ADJACENT_FILES[file] = (file > 0 ? FILES[file - 1] : 0) | (file < 7 ? FILES[file + 1] : 0);
+        }
+        for (int square = 0; square < 64; square++) {
+            int file = square & 7;
+            int rank = square >>> 3;
+            long span = FILES[file] | ADJACENT_FILES[file];
+            long above = (rank == 7) ? 0 : -1L << (8 * (rank + 1));
+            long below = (rank == 0) ? 0 : -1L >>> (8 * (8 - rank));
+            PASSED_MASK[ChessGame.TeamColor.WHITE.ordinal()][square] = span & above;
+            PASSED_MASK[ChessGame.TeamColor.BLACK.ordinal()][square] = span & below;
+            long whiteFront = (rank >= 6) ? 0 : (0xFFFFL << (8 * (rank + 1)));
+            long blackFront = (rank <= 1) ? 0 : (0xFFFFL << (8 * (rank - 2)));
+            SHIELD[ChessGame.TeamColor.WHITE.ordinal()][square] = span & whiteFront;
+            SHIELD[ChessGame.TeamColor.BLACK.ordinal()][square] = span & blackFront;
+        }
+    }
+
+    private Evaluation() {
+    }
+
+    /**
+     * Evaluates without a pawn cache, e.g. for a single position
+     *
+     * @return score in centipawns from the point of view of the side to move
+     */
+    public static int evaluate(ChessGame game) {
+        return evaluate(game, null);
+    }
+
+    /**
+     * @param pawns cache of pawn structure scores, or null to score the pawns every time
+     * @return score in centipawns from the point of view of the side to move
+     */
+    public static int evaluate(ChessGame game, PawnTable pawns) {
+        BitBoard bits = game.getBoard().getBitBoard();
+        int score = pack(bits.middlegameScore(), bits.endgameScore())
+                + pawnStructure(bits, pawns)
+                + pieces(bits, ChessGame.TeamColor.WHITE) - pieces(bits, ChessGame.TeamColor.BLACK);
+        int phase = Math.min(bits.phase(), PieceSquare.MAX_PHASE);
+        int blended = (middlegame(score) * phase + endgame(score) * (PieceSquare.MAX_PHASE - phase))
+                / PieceSquare.MAX_PHASE;
+        return game.getTeamTurn() == ChessGame.TeamColor.WHITE ? blended : -blended;
+    }
+
+    /**
+     * Helper function to score one side's mobility and king safety, which share the pieces' attack sets
+     */
+    private static int pieces(BitBoard bits, ChessGame.TeamColor color) {
+        ChessGame.TeamColor enemy = (color == ChessGame.TeamColor.WHITE)
+                ? ChessGame.TeamColor.BLACK : ChessGame.TeamColor.WHITE;
+        long occupied = bits.occupied();
+        long own = bits.occupied(color);
+        int enemyKing = bits.kingSquare(enemy);
+        long kingZone = (enemyKing < 0) ? 0 : Attacks.king(enemyKing) | (1L << enemyKing);
+        int middlegame = 0;
+        int endgame = 0;
+        int kingAttack = 0;
+        for (int t = ChessPiece.PieceType.QUEEN.ordinal(); t <= ChessPiece.PieceType.ROOK.ordinal(); t++) {
+            ChessPiece.PieceType type = TYPES[t];
+            long set = bits.pieces(color, type);
+            while (set != 0) {
+                int square = Long.numberOfTrailingZeros(set);
+                set &= set - 1;
+                long attacks = switch (type) {
+                    case QUEEN -> Attacks.queen(square, occupied);
+                    case BISHOP -> Attacks.bishop(square, occupied);
+                    case KNIGHT -> Attacks.knight(square);
+                    default -> Attacks.rook(square, occupied);
+                };
+                int reach = Long.bitCount(attacks & ~own) - MOBILITY_BASE[t];
+                middlegame += reach * MOBILITY_MIDDLEGAME[t];
+                endgame += reach * MOBILITY_ENDGAME[t];
+                kingAttack += Long.bitCount(attacks & kingZone) * KING_ATTACK[t];
+            }
+        }
+        // king safety only counts while there are pieces to attack with, so it is a middlegame term
+        middlegame += kingAttack + kingShelter(bits, color);
+        return pack(middlegame, endgame);
+    }
+
+    private static int kingShelter(BitBoard bits, ChessGame.TeamColor color) {
+        int king = bits.kingSquare(color);
+        if (king < 0) {
+            return 0;
+        }
+        long shield = SHIELD[color.ordinal()][king] & bits.pieces(color, ChessPiece.PieceType.PAWN);
+        return Math.min(3, Long.bitCount(shield)) * SHIELD_PAWN;
+    }
+
+    /**
+     * Helper function to score both sides' pawns, through the cache when there is one
+     */
+    private static int pawnStructure(BitBoard bits, PawnTable pawns) {
+        if (pawns == null) {
+            return scorePawns(bits);
+        }
+        long key = bits.pawnKey();
+        int score = pawns.probe(key);
+        if (score == NO_SCORE) {
+            score = scorePawns(bits);
+            pawns.store(key, score);
+        }
+        return score;
+    }
+
+    private static int scorePawns(BitBoard bits) {
+        long white = bits.pieces(ChessGame.TeamColor.WHITE, ChessPiece.PieceType.PAWN);
+        long black = bits.pieces(ChessGame.TeamColor.BLACK, ChessPiece.PieceType.PAWN);
+        return scorePawns(ChessGame.TeamColor.WHITE, white, black)
+                - scorePawns(ChessGame.TeamColor.BLACK, black, white);
+    }
+
+    private static int scorePawns(ChessGame.TeamColor color, long own, long enemy) {
+        int score = 0;
+        for (int file = 0; file < 8; file++) {
+            int count = Long.bitCount(own & FILES[file]);
+            if (count > 1) {
+                score += (count - 1) * DOUBLED;
+            }
+            if (count > 0 && (own & ADJACENT_FILES[file]) == 0) {
+                score += count * ISOLATED;
+            }
+        }
+        long set = own;
+        while (set != 0) {
+            int square = Long.numberOfTrailingZeros(set);
+            set &= set - 1;
+            if ((PASSED_MASK[color.ordinal()][square] & enemy) == 0) {
+                int rank = (color == ChessGame.TeamColor.WHITE) ? square >>> 3 : 7 - (square >>> 3);
+                score += PASSED[rank];
+            }
+        }
+        return score;
+    }
+
+    /**
+     * Helper function to hold a middlegame and an endgame score in one int;
+     * packed scores add and subtract like plain ints
+     */
+    static int pack(int middlegame, int endgame) {
+        return (endgame << 16) + middlegame;
+    }
+
+    static int middlegame(int packed) {
+        return (short) packed;
+    }
+
+    static int endgame(int packed) {
+        // round away the borrow a negative middlegame part took from the endgame part
+        return (packed + 0x8000) >> 16;
+    }
+}
@@ -0,0 +1,260 @@
+package chess.engine;
+
+import chess.BitBoard;
+import chess.ChessGame;
+import chess.ChessPiece;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The pieces of one tablebase, such as "KQK" or "KRKP", and the indexing of
+ * their positions
+ * <p>
+ * The name lists white's pieces then black's, each starting with the king
+ * and the rest in the order Q, R, B, N, P. Tables are only built with the
+ * stronger side as white; the other color arrangement is probed by swapping
+ * colors and mirroring ranks. A position's index is
+ * side * 64^n + sum of square(i) * 64^i over the pieces in name order, so a
+ * table holds 2 * 64^n entries, which limits tables to {@link #MAX_PIECES}.
+ * added 10/18/26 for endgame tablebases
+ */
+public final class Material {
+
+    public static final int MAX_PIECES = 4;
+
+    private static final String ORDER = "KQRBNP";
+    private static final ChessPiece.PieceType[] TYPES = {
+            ChessPiece.PieceType.KING, ChessPiece.PieceType.QUEEN, ChessPiece.PieceType.ROOK,
+            ChessPiece.PieceType.BISHOP, ChessPiece.PieceType.KNIGHT, ChessPiece.PieceType.PAWN
+    };
+    private static final int[] VALUES = {0, 9, 5, 3, 3, 1};
+
+    private final String name;
+    private final ChessGame.TeamColor[] colors;
+    private final ChessPiece.PieceType[] types;
+
+    private Material(String name, ChessGame.TeamColor[] colors, ChessPiece.PieceType[] types) {
+        this.name = name;
+        this.colors = colors;
+        this.types = types;
+    }
+
+    /**
+     * @param name white's pieces then black's, e.g. "KQK"; the stronger side must be white
+     * @throws IllegalArgumentException if the name is malformed, not canonical or too large
+     */
+    public static Material of(String name) {
+        int split = name.indexOf('K', 1);
+        if (name.isEmpty() || name.charAt(0) != 'K' || split < 0 || !sorted(name, 1, split)
+                || !sorted(name, split + 1, name.length())) {
+            throw new IllegalArgumentException("bad material: " + name);
+        }
+        if (name.length() > MAX_PIECES) {
+            throw new IllegalArgumentException("tablebases hold at most " + MAX_PIECES + " pieces: " + name);
+        }
+        if (!canonical(name.substring(0, split), name.substring(split)).equals(name)) {
+            throw new IllegalArgumentException("stronger side must be white: " + name);
+        }
+        ChessGame.TeamColor[] colors = new ChessGame.TeamColor[name.length()];
+        ChessPiece.PieceType[] types = new ChessPiece.PieceType[name.length()];
+        for (int i = 0; i < name.length(); i++) {
+            colors[i] = (i < split) ? ChessGame.TeamColor.WHITE : ChessGame.TeamColor.BLACK;
+            types[i] = TYPES[ORDER.indexOf(name.charAt(i))];
+        }
+        return new Material(name, colors, types);
+    }
+
+    /**
+     * Helper function to check that the pieces after a king are known and in ORDER
+     */
+    private static boolean sorted(String name, int start, int end) {
+        int last = 1;
+        for (int i = start; i < end; i++) {
+            int rank = ORDER.indexOf(name.charAt(i));
+            if (rank < last) {
+                return false;
+            }
+            last = rank;
+        }
+        return true;
+    }
+
+    /**
+     * @return the table name for two sides' pieces, stronger side first
+     */
+    static String canonical(String white, String black) {
+        int compare = Integer.compare(value(white), value(black));
+        if (compare == 0) {
+            compare = Integer.compare(white.length(), black.length());
+        }
+        if (compare == 0) {
+            // same value and count: the side with the earlier (heavier) pieces comes first
+            compare = black.compareTo(white);
+        }
+        return (compare >= 0) ? white + black : black + white;
+    }
+
+    private static int value(String side) {
+        int value = 0;
+        for (int i = 0; i < side.length(); i++) {
+            value += VALUES[ORDER.indexOf(side.charAt(i))];
+        }
+        return value;
+    }
+
+    /**
+     * Helper function to key a color arrangement of pieces by its counts, 4 bits per piece kind
+     */
+    static long countsKey(BitBoard bits) {
+        long key = 0;
+        for (int kind = 0; kind < BitBoard.PIECE_KINDS; kind++) {
+            key |= (long) Long.bitCount(bits.pieces(kind)) << (4 * kind);
+        }
+        return key;
+    }
+
+    /**
+     * @param flipped true for the arrangement with the colors swapped
+     * @return counts key of this material's pieces, as {@link #countsKey} computes it on a board
+     */
+    long countsKey(boolean flipped) {
+        long key = 0;
+        for (int i = 0; i < types.length; i++) {
+            ChessGame.TeamColor color = flipped ? opposite(colors[i]) : colors[i];
+            key += 1L << (4 * BitBoard.pieceIndex(color, types[i]));
+        }
+        return key;
+    }
+
+    /**
+     * @return the smaller materials a capture, a promotion or both at once lead to
+     */
+    public List<Material> successors() {
+        int split = name.indexOf('K', 1);
+        String white = name.substring(0, split);
+        String black = name.substring(split);
+        Set<String> names = new LinkedHashSet<>();
+        addSuccessors(white, black, names, true);
+        addSuccessors(black, white, names, false);
+        List<Material> successors = new ArrayList<>();
+        for (String successor : names) {
+            successors.add(of(successor));
+        }
+        return successors;
+    }
+
+    /**
+     * Helper function for successors: every capture, promotion and capturing promotion by the mover
+     */
+    private static void addSuccessors(String mover, String other, Set<String> names, boolean moverWhite) {
+        List<String> movers = new ArrayList<>();
+        movers.add(mover);
+        int pawn = mover.indexOf('P');
+        if (pawn >= 0) {
+            for (char promoted : "QRBN".toCharArray()) {
+                movers.add(sort(mover.substring(0, pawn) + mover.substring(pawn + 1) + promoted));
+            }
+        }
+        for (int m = 0; m < movers.size(); m++) {
+            String moved = movers.get(m);
+            if (m > 0) {
+                names.add(moverWhite ? canonical(moved, other) : canonical(other, moved));
+            }
+            for (int c = 1; c < other.length(); c++) {
+                String captured = other.substring(0, c) + other.substring(c + 1);
+                names.add(moverWhite ? canonical(moved, captured) : canonical(captured, moved));
+            }
+        }
+    }
+
+    private static String sort(String side) {
+        char[] pieces = side.toCharArray();
+        StringBuilder sorted = new StringBuilder();
+        for (char kind : ORDER.toCharArray()) {
+            for (char piece : pieces) {
+                if (piece == kind) {
+                    sorted.append(piece);
+                }
+            }
+        }
+        return sorted.toString();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int pieces() {
+        return types.length;
+    }
+
+    public ChessGame.TeamColor color(int piece) {
+        return colors[piece];
+    }
+
+    public ChessPiece.PieceType type(int piece) {
+        return types[piece];
+    }
+
+    /**
+     * @return number of indexes: both sides to move times 64 squares per piece
+     */
+    public int size() {
+        return 2 << (6 * types.length);
+    }
+
+    /**
+     * @return index of the pieces on the given squares with the given side to move
+     */
+    public int index(int[] squares, ChessGame.TeamColor turn) {
+        int index = turn.ordinal();
+        for (int i = types.length - 1; i >= 0; i--) {
+            index = (index << 6) | squares[i];
+        }
+        return index;
+    }
+
+    /**
+     * Fills squares with the piece squares of an index
+     *
+     * @return side to move
+     */
+    public ChessGame.TeamColor decode(int index, int[] squares) {
+        for (int i = 0; i < types.length; i++) {
+            squares[i] = index & 63;
+            index >>>= 6;
+        }
+        return ChessGame.TeamColor.values()[index];
+    }
+
+    /**
+     * Indexes a board holding exactly this material, possibly with colors swapped
+     *
+     * @param flipped true if the board's colors are the reverse of this material's
+     * @return index, with the side to move and squares mirrored when flipped
+     */
+    int index(BitBoard bits, ChessGame.TeamColor turn, boolean flipped) {
+        int index = (flipped ? opposite(turn) : turn).ordinal() << (6 * types.length);
+        long taken = 0;
+        for (int i = 0; i < types.length; i++) {
+            ChessGame.TeamColor color = flipped ? opposite(colors[i]) : colors[i];
+            // pieces of one kind fill their slots in square order
+            int square = Long.numberOfTrailingZeros(bits.pieces(color, types[i]) & ~taken);
+            taken |= 1L << square;
+            index |= (flipped ? square ^ 56 : square) << (6 * i);
+        }
+        return index;
+    }
+
+    static ChessGame.TeamColor opposite(ChessGame.TeamColor color) {
+        return color == ChessGame.TeamColor.WHITE ? ChessGame.TeamColor.BLACK : ChessGame.TeamColor.WHITE;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
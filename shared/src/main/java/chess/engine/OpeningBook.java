@@ -0,0 +1,165 @@
+package chess.engine;
+
+import chess.ChessGame;
+import chess.Move;
+import chess.MoveList;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Opening book read straight from a memory-mapped file
+ * <p>
+ * The file is a {@link #HEADER_BYTES} byte header (magic, version, entry
+ * count) followed by fixed-size entries sorted by position key: the
+ * {@link ChessGame#getZobristKey()} of the position (8 bytes), the packed
+ * move played from it (2 bytes) and its weight (2 bytes). Entries for one
+ * position are adjacent, heaviest first. Lookups binary search the mapping
+ * with absolute reads, so they allocate nothing, never copy the file onto
+ * the heap and are safe from any number of threads at once.
+ * <p>
+ * {@link OpeningBookBuilder} writes the file.
+ * added 10/18/26 for the opening book
+ */
+public final class OpeningBook implements Closeable {
+
+    public static final int MAGIC = 0x43424B31; // "CBK1"
+    public static final int VERSION = 1;
+    public static final int HEADER_BYTES = 16;
+    public static final int ENTRY_BYTES = 12;
+    public static final int MAX_WEIGHT = 0xFFFF;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer mapping;
+    private final int size;
+
+    private OpeningBook(FileChannel channel, MappedByteBuffer mapping, int size) {
+        this.channel = channel;
+        this.mapping = mapping;
+        this.size = size;
+    }
+
+    /**
+     * Maps a book file read-only
+     *
+     * @throws IOException if the file cannot be read or is not a book
+     */
+    public static OpeningBook open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long length = channel.size();
+            if (length < HEADER_BYTES || length > Integer.MAX_VALUE) {
+                throw new IOException("not an opening book: " + path);
+            }
+            MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            mapping.order(ByteOrder.BIG_ENDIAN);
+            long entries = mapping.getLong(8);
+            if (mapping.getInt(0) != MAGIC || mapping.getInt(4) != VERSION
+                    || entries < 0 || HEADER_BYTES + entries * ENTRY_BYTES != length) {
+                throw new IOException("not an opening book: " + path);
+            }
+            return new OpeningBook(channel, mapping, (int) entries);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return number of (position, move) entries
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Finds the first entry for a position
+     *
+     * @return entry index, or -1 if the position is not in the book
+     */
+    public int find(long key) {
+        int low = 0;
+        int high = size;
+        // lower bound: first entry whose key is not below the one searched for
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Long.compareUnsigned(keyAt(mid), key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return (low < size && keyAt(low) == key) ? low : -1;
+    }
+
+    public long keyAt(int index) {
+        return mapping.getLong(HEADER_BYTES + index * ENTRY_BYTES);
+    }
+
+    public int moveAt(int index) {
+        return mapping.getShort(HEADER_BYTES + index * ENTRY_BYTES + 8) & 0xFFFF;
+    }
+
+    public int weightAt(int index) {
+        return mapping.getShort(HEADER_BYTES + index * ENTRY_BYTES + 10) & 0xFFFF;
+    }
+
+    /**
+     * Appends the book moves for a position, heaviest first
+     *
+     * @return number of moves appended
+     */
+    public int moves(long key, MoveList moves) {
+        int index = find(key);
+        if (index < 0) {
+            return 0;
+        }
+        int added = 0;
+        for (; index < size && keyAt(index) == key; index++, added++) {
+            moves.add(moveAt(index));
+        }
+        return added;
+    }
+
+    /**
+     * Picks a book move for the position, at random in proportion to the
+     * weights so the computer player varies its openings. A key collision
+     * could pick a move that is illegal in the caller's position, so callers
+     * check the move before playing it.
+     *
+     * @param random any value; the same value picks the same move
+     * @return packed move, or Move.NONE if the position is not in the book
+     */
+    public int pick(long key, long random) {
+        int first = find(key);
+        if (first < 0) {
+            return Move.NONE;
+        }
+        long total = 0;
+        int end = first;
+        for (; end < size && keyAt(end) == key; end++) {
+            total += weightAt(end);
+        }
+        if (total == 0) {
+            return Move.NONE;
+        }
+        long target = Math.floorMod(random, total);
+        for (int index = first; index < end; index++) {
+            target -= weightAt(index);
+            if (target < 0) {
+                return moveAt(index);
+            }
+        }
+        return Move.NONE;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
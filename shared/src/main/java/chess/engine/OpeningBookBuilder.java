@@ -0,0 +1,161 @@
+package chess.engine;
+
+import chess.ChessGame;
+import chess.pgn.PgnGame;
+import chess.pgn.PgnReader;
+import chess.pgn.San;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds an {@link OpeningBook} file from PGN archives
+ * <p>
+ * Every game is replayed for its first maxPlies half-moves, and each
+ * (position, move) pair seen is scored from the mover's point of view: two
+ * points for a game the mover went on to win, one for a draw or unfinished
+ * game, none for a loss. Pairs seen fewer than minGames times are dropped;
+ * the rest become the entries, with the score as weight. Games that fail to
+ * parse or replay are skipped.
+ * added 10/18/26 for the opening book
+ */
+public final class OpeningBookBuilder {
+
+    private static final int WRITE_BUFFER = 64 * 1024;
+
+    private record Key(long position, int move) {
+    }
+
+    private final int maxPlies;
+    private final int minGames;
+    private final Map<Key, int[]> counts = new HashMap<>();
+    private long games;
+    private long skipped;
+
+    /**
+     * @param maxPlies half-moves of each game to take into the book
+     * @param minGames fewest games a move must appear in to be kept
+     */
+    public OpeningBookBuilder(int maxPlies, int minGames) {
+        this.maxPlies = maxPlies;
+        this.minGames = minGames;
+    }
+
+    /**
+     * Adds every game of a PGN file
+     */
+    public void addPgn(Path path) throws IOException {
+        try (PgnReader reader = PgnReader.open(path)) {
+            PgnGame pgn;
+            while ((pgn = reader.next()) != null) {
+                addGame(pgn);
+            }
+        }
+    }
+
+    /**
+     * Adds the opening of one game
+     */
+    public void addGame(PgnGame pgn) {
+        int whitePoints = switch (pgn.result()) {
+            case "1-0" -> 2;
+            case "0-1" -> 0;
+            default -> 1;
+        };
+        try {
+            String fen = pgn.tags().get("FEN");
+            ChessGame game = (fen == null) ? new ChessGame() : ChessGame.fromFen(fen);
+            int plies = Math.min(maxPlies, pgn.moves().size());
+            for (int ply = 0; ply < plies; ply++) {
+                int move = San.parse(game, pgn.moves().get(ply));
+                int points = (game.getTeamTurn() == ChessGame.TeamColor.WHITE) ? whitePoints : 2 - whitePoints;
+                int[] count = counts.computeIfAbsent(new Key(game.getZobristKey(), move), key -> new int[2]);
+                count[0]++;
+                count[1] += points;
+                game.doMove(move);
+            }
+            games++;
+        } catch (IllegalArgumentException e) {
+            skipped++;
+        }
+    }
+
+    public long games() {
+        return games;
+    }
+
+    public long skipped() {
+        return skipped;
+    }
+
+    /**
+     * Writes the book: entries sorted by unsigned position key, heaviest move first
+     *
+     * @return number of entries written
+     */
+    public int write(Path out) throws IOException {
+        List<Map.Entry<Key, int[]>> kept = new ArrayList<>();
+        for (Map.Entry<Key, int[]> entry : counts.entrySet()) {
+            if (entry.getValue()[0] >= minGames) {
+                kept.add(entry);
+            }
+        }
+        kept.sort(Comparator.<Map.Entry<Key, int[]>, Long>comparing(entry -> entry.getKey().position(),
+                        Long::compareUnsigned)
+                .thenComparing(entry -> -entry.getValue()[1])
+                .thenComparing(entry -> entry.getKey().move()));
+
+        try (FileChannel channel = FileChannel.open(out, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER).order(ByteOrder.BIG_ENDIAN);
+            buffer.putInt(OpeningBook.MAGIC).putInt(OpeningBook.VERSION).putLong(kept.size());
+            for (Map.Entry<Key, int[]> entry : kept) {
+                if (buffer.remaining() < OpeningBook.ENTRY_BYTES) {
+                    drain(channel, buffer);
+                }
+                // a move that scored nothing still gets weight 1, so it can be picked now and then
+                int weight = Math.max(1, Math.min(OpeningBook.MAX_WEIGHT, entry.getValue()[1]));
+                buffer.putLong(entry.getKey().position())
+                        .putShort((short) entry.getKey().move())
+                        .putShort((short) weight);
+            }
+            drain(channel, buffer);
+        }
+        return kept.size();
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Usage: OpeningBookBuilder &lt;out&gt; &lt;maxPlies&gt; &lt;minGames&gt; &lt;pgn&gt;...
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 4) {
+            System.out.println("usage: OpeningBookBuilder <out> <maxPlies> <minGames> <pgn>...");
+            return;
+        }
+        OpeningBookBuilder builder = new OpeningBookBuilder(Integer.parseInt(args[1]), Integer.parseInt(args[2]));
+        long start = System.nanoTime();
+        for (int i = 3; i < args.length; i++) {
+            builder.addPgn(Path.of(args[i]));
+        }
+        int entries = builder.write(Path.of(args[0]));
+        System.out.printf("%d games (%d skipped), %d entries, %.1f s%n",
+                builder.games(), builder.skipped(), entries, (System.nanoTime() - start) / 1e9);
+    }
+}
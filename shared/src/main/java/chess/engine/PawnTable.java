@@ -0,0 +1,66 @@
+package chess.engine;
+
+/**
+ * Cache of pawn structure scores keyed by {@link chess.BitBoard#pawnKey()}
+ * <p>
+ * Pawns move rarely compared with the other pieces, so most positions a
+ * search visits share their pawn structure with one already scored. The
+ * table is direct-mapped: a position's slot is the low bits of its pawn key
+ * and a newer structure simply overwrites the slot. It is not thread-safe;
+ * each {@link Search} owns one.
+ * added 10/18/26 for the evaluation pawn hash
+ */
+public final class PawnTable {
+
+    private final long[] keys;
+    private final int[] scores;
+    private final int mask;
+    private long hits;
+    private long misses;
+
+    /**
+     * @param entries slots, rounded down to a power of two
+     */
+    public PawnTable(int entries) {
+        int size = Integer.highestOneBit(Math.max(1, entries));
+        keys = new long[size];
+        scores = new int[size];
+        mask = size - 1;
+    }
+
+    /**
+     * @return the packed score stored for the pawn key, or {@link Evaluation#NO_SCORE} on a miss
+     */
+    int probe(long key) {
+        int slot = (int) key & mask;
+        // an empty slot reads as key 0, the structure with no pawns, whose score is 0 as well
+        if (keys[slot] == key) {
+            hits++;
+            return scores[slot];
+        }
+        misses++;
+        return Evaluation.NO_SCORE;
+    }
+
+    void store(long key, int score) {
+        int slot = (int) key & mask;
+        keys[slot] = key;
+        scores[slot] = score;
+    }
+
+    public long hits() {
+        return hits;
+    }
+
+    public long misses() {
+        return misses;
+    }
+
+    /**
+     * @return fraction of probes that found their structure, 0 before any probe
+     */
+    public double hitRate() {
+        long probes = hits + misses;
+        return (probes == 0) ? 0 : (double) hits / probes;
+    }
+}
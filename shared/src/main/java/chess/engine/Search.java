@@ -0,0 +1,469 @@
+package chess.engine;
+
+import chess.ChessGame;
+import chess.ChessPiece;
+import chess.Move;
+import chess.MoveList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Alpha-beta search over one game: iterative deepening with principal
+ * variation search, a check extension, quiescence over captures and
+ * promotions, MVV-LVA capture ordering and two killer moves per ply
+ * <p>
+ * Results are shared through a {@link TranspositionTable}, which cuts off
+ * positions already searched deeply enough and otherwise supplies the move
+ * to try first.
+ * <p>
+ * Moves are played on the game with doMove/undoMove, so a Search owns its
+ * game for the duration of {@link #run()}; {@link Engine} hands it a copy.
+ * Pseudo-legal moves are played and rejected if they leave the mover in
+ * check. The result is always the best move of the last iteration that
+ * finished, so stopping on the time or node budget never returns a move from
+ * a half-searched tree.
+ * <p>
+ * With a {@link Tablebase}, positions it covers below the root are scored
+ * from it exactly instead of searched.
+ * added 10/18/26 for the engine
+ * updated 10/18/26 for the engine transposition table
+ * updated 10/18/26 for endgame tablebases
+ * updated 10/18/26 for incremental evaluation: each search keeps its own pawn hash
+ * updated 10/18/26 for move hints: optionally scores every root move exactly
+ */
+public final class Search {
+
+    public static final int MATE = 30000;
+    public static final int INFINITY = 32000;
+    // scores beyond this are mates, with the distance in plies folded in
+    public static final int MATE_BOUND = MATE - 1000;
+
+    static final int MAX_PLY = 128;
+
+    // check the clock once every this many nodes (a power of two)
+    private static final int CHECK_INTERVAL = 1024;
+
+    private static final int PV_SCORE = 2_000_000;
+    private static final int CAPTURE_SCORE = 1_000_000;
+    private static final int KILLER_SCORE = 900_000;
+    private static final int PAWN_ENTRIES = 1 << 13;
+
+    private final ChessGame game;
+    private final SearchLimits limits;
+    private final TranspositionTable table;
+    private Tablebase tablebase;
+    private final MoveList[] plyMoves = new MoveList[MAX_PLY];
+    private final int[][] plyScores = new int[MAX_PLY][];
+    private final int[][] killers = new int[MAX_PLY][2];
+    private final PawnTable pawns = new PawnTable(PAWN_ENTRIES);
+
+    private long nodes;
+    private long startNanos;
+    private long deadline;
+    private boolean stopped;
+    private volatile boolean stopRequested;
+    private int rootBest;
+    private boolean helper;
+    private int firstDepth = 1;
+    // with exact root scores, every root move gets a full window; moves and scores of the iteration
+    // running and of the last one finished
+    private boolean exactRootScores;
+    private final MoveList iterationMoves = new MoveList();
+    private final int[] iterationScores = new int[256];
+    private final MoveList finishedMoves = new MoveList();
+    private final int[] finishedScores = new int[256];
+
+    public Search(ChessGame game, SearchLimits limits, TranspositionTable table) {
+        this.game = game;
+        this.limits = limits;
+        this.table = table;
+        for (int ply = 0; ply < MAX_PLY; ply++) {
+            plyMoves[ply] = new MoveList();
+            plyScores[ply] = new int[256];
+        }
+    }
+
+    /**
+     * Asks a running search to stop at its next clock check; safe to call from another thread
+     */
+    public void stop() {
+        stopRequested = true;
+    }
+
+    /**
+     * Searches with iterative deepening until a limit is reached
+     *
+     * @return best move of the deepest finished iteration
+     */
+    public SearchResult run() {
+        startNanos = System.nanoTime();
+        long budget = Math.min(limits.timeMillis(), Long.MAX_VALUE / 1_000_000L) * 1_000_000L;
+        deadline = (budget > Long.MAX_VALUE - startNanos) ? Long.MAX_VALUE : startNanos + budget;
+        nodes = 0;
+        stopped = false;
+        rootBest = firstLegalMove();
+        if (!helper) {
+            table.newSearch();
+        }
+
+        int bestMove = rootBest;
+        int bestScore = 0;
+        int finishedDepth = 0;
+        long[] depthNanos = new long[limits.maxDepth()];
+        if (bestMove != Move.NONE) {
+            for (int depth = firstDepth; depth <= limits.maxDepth(); depth++) {
+                iterationMoves.clear();
+                int score = search(depth, -INFINITY, INFINITY, 0);
+                if (stopped) {
+                    break;
+                }
+                finishedMoves.clear();
+                for (int i = 0; i < iterationMoves.size(); i++) {
+                    finishedMoves.add(iterationMoves.get(i));
+                    finishedScores[i] = iterationScores[i];
+                }
+                bestMove = rootBest;
+                bestScore = score;
+                finishedDepth = depth;
+                depthNanos[depth - 1] = System.nanoTime() - startNanos;
+                // a forced mate found at this depth cannot get shorter by going deeper
+                if (Math.abs(score) >= MATE_BOUND && MATE - Math.abs(score) <= depth) {
+                    break;
+                }
+            }
+        } else {
+            bestScore = game.isInCheck(game.getTeamTurn()) ? -MATE : 0;
+        }
+        return new SearchResult(bestMove, bestScore, finishedDepth, nodes, System.nanoTime() - startNanos, 1,
+                Arrays.copyOf(depthNanos, finishedDepth));
+    }
+
+    /**
+     * Makes this a Lazy SMP helper: it starts at the given depth so helpers
+     * spread over neighbouring depths, and it leaves the table's search
+     * generation to the main search
+     */
+    void asHelper(int firstDepth) {
+        this.helper = true;
+        this.firstDepth = Math.max(1, Math.min(firstDepth, limits.maxDepth()));
+    }
+
+    /**
+     * Searches every root move with a full window, so each gets an exact
+     * score rather than only a bound; slower, and only for analysis
+     */
+    void scoreRootMovesExactly() {
+        this.exactRootScores = true;
+    }
+
+    /**
+     * @return root moves of the last finished iteration with their exact scores, best first, at most count of them;
+     * empty unless {@link #scoreRootMovesExactly()} was called
+     */
+    List<Analysis.Line> rootLines(int count) {
+        List<Analysis.Line> lines = new ArrayList<>(finishedMoves.size());
+        for (int i = 0; i < finishedMoves.size(); i++) {
+            lines.add(new Analysis.Line(finishedMoves.get(i), finishedScores[i]));
+        }
+        lines.sort(Comparator.comparingInt(line -> -line.score()));
+        return List.copyOf(lines.subList(0, Math.min(count, lines.size())));
+    }
+
+    /**
+     * Scores positions the tablebase covers from it rather than by searching them
+     */
+    void useTablebase(Tablebase tablebase) {
+        this.tablebase = tablebase;
+    }
+
+    /**
+     * Negamax alpha-beta with principal variation search: the first move gets
+     * the full window and the rest a null window, re-searched only if they
+     * beat alpha
+     *
+     * @return score from the side to move's point of view
+     */
+    private int search(int depth, int alpha, int beta, int ply) {
+        if (ply > 0 && (game.isRepetition() || game.isDrawByFiftyMoves())) {
+            return 0;
+        }
+        if (ply > 0 && tablebase != null) {
+            int value = tablebase.probe(game);
+            if (value != Tablebase.NOT_FOUND) {
+                return tablebaseScore(value, ply);
+            }
+        }
+        if (depth <= 0) {
+            return quiesce(alpha, beta, ply);
+        }
+        if (countNode()) {
+            return 0;
+        }
+        if (ply >= MAX_PLY - 1) {
+            return Evaluation.evaluate(game, pawns);
+        }
+
+        long key = game.getZobristKey();
+        int hashMove = Move.NONE;
+        long entry = table.probe(key);
+        if (entry != 0) {
+            hashMove = TranspositionTable.move(entry);
+            if (ply > 0 && TranspositionTable.depth(entry) >= depth) {
+                int stored = fromTable(TranspositionTable.score(entry), ply);
+                int bound = TranspositionTable.bound(entry);
+                if (bound == TranspositionTable.BOUND_EXACT
+                        || (bound == TranspositionTable.BOUND_LOWER && stored >= beta)
+                        || (bound == TranspositionTable.BOUND_UPPER && stored <= alpha)) {
+                    return stored;
+                }
+            }
+        }
+
+        ChessGame.TeamColor mover = game.getTeamTurn();
+        boolean inCheck = game.isInCheck(mover);
+        MoveList moves = plyMoves[ply];
+        moves.clear();
+        game.generatePseudoLegalMoves(moves);
+        int[] scores = scoreMoves(moves, ply, ply == 0 ? rootBest : hashMove);
+
+        int originalAlpha = alpha;
+        int best = -INFINITY;
+        int bestMove = Move.NONE;
+        int legal = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            int move = pickNext(moves, scores, i);
+            boolean quiet = !isCapture(move) && !Move.isPromotion(move);
+            game.doMove(move);
+            if (game.isInCheck(mover)) {
+                game.undoMove();
+                continue;
+            }
+            legal++;
+            int extension = (ply < MAX_PLY / 2 && game.isInCheck(game.getTeamTurn())) ? 1 : 0;
+            int score;
+            if (ply == 0 && exactRootScores) {
+                score = -search(depth - 1 + extension, -INFINITY, INFINITY, ply + 1);
+            } else if (legal == 1) {
+                score = -search(depth - 1 + extension, -beta, -alpha, ply + 1);
+            } else {
+                score = -search(depth - 1 + extension, -alpha - 1, -alpha, ply + 1);
+                if (score > alpha && score < beta) {
+                    score = -search(depth - 1 + extension, -beta, -alpha, ply + 1);
+                }
+            }
+            game.undoMove();
+            if (stopped) {
+                return 0;
+            }
+            if (ply == 0 && exactRootScores) {
+                iterationScores[iterationMoves.size()] = score;
+                iterationMoves.add(move);
+            }
+            if (score > best) {
+                best = score;
+                bestMove = move;
+                if (ply == 0) {
+                    rootBest = move;
+                }
+                if (score > alpha) {
+                    alpha = score;
+                    if (alpha >= beta) {
+                        if (quiet) {
+                            storeKiller(ply, move);
+                        }
+                        break;
+                    }
+                }
+            }
+        }
+        if (legal == 0) {
+            return inCheck ? -MATE + ply : 0;
+        }
+        int bound = (best >= beta) ? TranspositionTable.BOUND_LOWER
+                : (best > originalAlpha) ? TranspositionTable.BOUND_EXACT
+                : TranspositionTable.BOUND_UPPER;
+        table.store(key, bound == TranspositionTable.BOUND_UPPER ? Move.NONE : bestMove,
+                toTable(best, ply), depth, bound);
+        return best;
+    }
+
+    /**
+     * Helper function to turn a tablebase result into a search score, mates counted from the root
+     */
+    private static int tablebaseScore(int value, int ply) {
+        if (Tablebase.isWin(value)) {
+            return MATE - (ply + Tablebase.distanceToMate(value));
+        }
+        if (Tablebase.isLoss(value)) {
+            return -(MATE - (ply + Tablebase.distanceToMate(value)));
+        }
+        return 0;
+    }
+
+    /**
+     * Helper function to store mate scores as distance from the stored
+     * position instead of from the root, so they stay right when the
+     * position is reached again at another ply
+     */
+    private static int toTable(int score, int ply) {
+        if (score >= MATE_BOUND) {
+            return score + ply;
+        }
+        return (score <= -MATE_BOUND) ? score - ply : score;
+    }
+
+    private static int fromTable(int score, int ply) {
+        if (score >= MATE_BOUND) {
+            return score - ply;
+        }
+        return (score <= -MATE_BOUND) ? score + ply : score;
+    }
+
+    /**
+     * Searches captures and promotions only until the position is quiet, so
+     * the static evaluation is never taken in the middle of an exchange
+     */
+    private int quiesce(int alpha, int beta, int ply) {
+        if (countNode()) {
+            return 0;
+        }
+        int standPat = Evaluation.evaluate(game, pawns);
+        if (standPat >= beta || ply >= MAX_PLY - 1) {
+            return standPat;
+        }
+        if (standPat > alpha) {
+            alpha = standPat;
+        }
+
+        ChessGame.TeamColor mover = game.getTeamTurn();
+        MoveList moves = plyMoves[ply];
+        moves.clear();
+        game.generatePseudoLegalMoves(moves);
+        int kept = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.get(i);
+            if (isCapture(move) || Move.flag(move) == Move.FLAG_PROMOTE_QUEEN) {
+                moves.set(kept++, move);
+            }
+        }
+        moves.truncate(kept);
+        int[] scores = scoreMoves(moves, ply, Move.NONE);
+
+        for (int i = 0; i < moves.size(); i++) {
+            int move = pickNext(moves, scores, i);
+            game.doMove(move);
+            if (game.isInCheck(mover)) {
+                game.undoMove();
+                continue;
+            }
+            int score = -quiesce(-beta, -alpha, ply + 1);
+            game.undoMove();
+            if (stopped) {
+                return 0;
+            }
+            if (score > alpha) {
+                alpha = score;
+                if (alpha >= beta) {
+                    break;
+                }
+            }
+        }
+        return alpha;
+    }
+
+    /**
+     * Counts a node and, every CHECK_INTERVAL nodes, checks the budget
+     *
+     * @return true if the search has to stop
+     */
+    private boolean countNode() {
+        nodes++;
+        if ((nodes & (CHECK_INTERVAL - 1)) == 0) {
+            if (stopRequested || nodes >= limits.maxNodes() || System.nanoTime() - deadline >= 0) {
+                stopped = true;
+            }
+        } else if (nodes >= limits.maxNodes()) {
+            stopped = true;
+        }
+        return stopped;
+    }
+
+    /**
+     * Gives every move an ordering score: the previous best move first, then
+     * captures by most valuable victim and least valuable attacker, queen
+     * promotions, killers and finally quiet moves
+     */
+    private int[] scoreMoves(MoveList moves, int ply, int pvMove) {
+        int[] scores = plyScores[ply];
+        if (scores.length < moves.size()) {
+            scores = new int[moves.size()];
+            plyScores[ply] = scores;
+        }
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.get(i);
+            int score = 0;
+            if (move == pvMove) {
+                score = PV_SCORE;
+            } else if (isCapture(move)) {
+                int victim = Move.flag(move) == Move.FLAG_EN_PASSANT
+                        ? Evaluation.PIECE_VALUES[ChessPiece.PieceType.PAWN.ordinal()]
+                        : Evaluation.PIECE_VALUES[game.getBoard().getPiece(Move.to(move)).getPieceType().ordinal()];
+                int attacker = Evaluation.PIECE_VALUES[game.getBoard().getPiece(Move.from(move)).getPieceType().ordinal()];
+                score = CAPTURE_SCORE + victim * 16 - attacker / 16;
+            } else if (Move.flag(move) == Move.FLAG_PROMOTE_QUEEN) {
+                score = CAPTURE_SCORE;
+            } else if (move == killers[ply][0]) {
+                score = KILLER_SCORE;
+            } else if (move == killers[ply][1]) {
+                score = KILLER_SCORE - 1;
+            }
+            scores[i] = score;
+        }
+        return scores;
+    }
+
+    /**
+     * Selection sort step: swaps the best scoring of the remaining moves into slot i
+     *
+     * @return move now at slot i
+     */
+    private static int pickNext(MoveList moves, int[] scores, int i) {
+        int best = i;
+        for (int j = i + 1; j < moves.size(); j++) {
+            if (scores[j] > scores[best]) {
+                best = j;
+            }
+        }
+        if (best != i) {
+            moves.swap(i, best);
+            int score = scores[i];
+            scores[i] = scores[best];
+            scores[best] = score;
+        }
+        return moves.get(i);
+    }
+
+    private void storeKiller(int ply, int move) {
+        if (killers[ply][0] != move) {
+            killers[ply][1] = killers[ply][0];
+            killers[ply][0] = move;
+        }
+    }
+
+    private boolean isCapture(int move) {
+        return Move.flag(move) == Move.FLAG_EN_PASSANT || game.getBoard().getPiece(Move.to(move)) != null;
+    }
+
+    /**
+     * @return first legal move, the fallback if not even depth 1 finishes, or Move.NONE
+     */
+    private int firstLegalMove() {
+        MoveList moves = plyMoves[0];
+        moves.clear();
+        game.generateLegalMoves(moves);
+        return moves.isEmpty() ? Move.NONE : moves.get(0);
+    }
+}
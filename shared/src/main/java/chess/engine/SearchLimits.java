@@ -0,0 +1,34 @@
+package chess.engine;
+
+/**
+ * Budget for one search: it stops at whichever limit is reached first
+ * added 10/18/26 for the engine
+ *
+ * @param maxDepth   deepest iteration to start, in half-moves
+ * @param timeMillis wall-clock budget in milliseconds
+ * @param maxNodes   node budget, counting every position visited including quiescence; under
+ *                   Lazy SMP it limits the main search, and the helpers stop with it
+ */
+public record SearchLimits(int maxDepth, long timeMillis, long maxNodes) {
+
+    public static final int MAX_DEPTH = 64;
+
+    public SearchLimits {
+        if (maxDepth < 1 || timeMillis < 1 || maxNodes < 1) {
+            throw new IllegalArgumentException("search limits must be positive");
+        }
+        maxDepth = Math.min(maxDepth, MAX_DEPTH);
+    }
+
+    public static SearchLimits time(long timeMillis) {
+        return new SearchLimits(MAX_DEPTH, timeMillis, Long.MAX_VALUE);
+    }
+
+    public static SearchLimits nodes(long maxNodes) {
+        return new SearchLimits(MAX_DEPTH, Long.MAX_VALUE, maxNodes);
+    }
+
+    public static SearchLimits depth(int maxDepth) {
+        return new SearchLimits(maxDepth, Long.MAX_VALUE, Long.MAX_VALUE);
+    }
+}
@@ -0,0 +1,53 @@
+package chess.engine;
+
+import chess.ChessMove;
+import chess.Move;
+
+/**
+ * Outcome of a search: the best move of the last finished iteration
+ * added 10/18/26 for the engine
+ * updated 10/18/26 for Lazy SMP: thread count and time to each depth
+ *
+ * @param bestMove     packed move (see {@link Move}), Move.NONE if the side to move has no legal move
+ * @param score        centipawns from the side to move's point of view; mates are near +-Search.MATE
+ * @param depth        depth of the last finished iteration
+ * @param nodes        positions visited, summed over every thread
+ * @param elapsedNanos wall-clock time of the search
+ * @param threads      threads that searched, the main search plus its helpers
+ * @param depthNanos   time from the start until each depth finished, depth 1 first
+ */
+public record SearchResult(int bestMove, int score, int depth, long nodes, long elapsedNanos, int threads,
+                           long[] depthNanos) {
+
+    /**
+     * @return best move as a ChessMove, or null if there is none
+     */
+    public ChessMove bestChessMove() {
+        return bestMove == Move.NONE ? null : Move.toChessMove(bestMove);
+    }
+
+    public long nodesPerSecond() {
+        return elapsedNanos == 0 ? 0 : nodes * 1_000_000_000L / elapsedNanos;
+    }
+
+    /**
+     * @return nanoseconds until the given depth finished, or -1 if it did not
+     */
+    public long timeToDepth(int depth) {
+        return (depth >= 1 && depth <= depthNanos.length) ? depthNanos[depth - 1] : -1;
+    }
+
+    /**
+     * @return the same result with another thread count and node total, for the main search of a Lazy SMP group
+     */
+    SearchResult withThreads(int threads, long nodes) {
+        return new SearchResult(bestMove, score, depth, nodes, elapsedNanos, threads, depthNanos);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s score %d depth %d nodes %d (%d nodes/s, %d threads)",
+                bestMove == Move.NONE ? "none" : Move.toText(bestMove), score, depth, nodes, nodesPerSecond(),
+                threads);
+    }
+}
@@ -0,0 +1,167 @@
+package chess.engine;
+
+import chess.Attacks;
+import chess.BitBoard;
+import chess.ChessGame;
+import chess.ChessPiece;
+import chess.MoveGenerator;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Distance-to-mate endgame tables, memory-mapped from a directory of files
+ * written by {@link TablebaseGenerator}
+ * <p>
+ * A file holds a {@link #HEADER_BYTES} byte header (magic, piece count) and
+ * one byte per {@link Material} index: {@link #DRAW}, {@link #INVALID}, or
+ * the distance to mate in half-moves plus {@link #DTM_OFFSET}. An odd
+ * distance means the side to move mates; an even one means it is mated.
+ * Probing reads the mapping with absolute gets, so it is safe from any
+ * thread and allocates nothing. Positions with castling rights or an en
+ * passant capture are not covered, since the tables assume neither.
+ * added 10/18/26 for endgame tablebases
+ */
+public final class Tablebase {
+
+    public static final String SUFFIX = ".dtm";
+    public static final int MAGIC = 0x43544231; // "CTB1"
+    public static final int HEADER_BYTES = 8;
+
+    public static final int NOT_FOUND = -1;
+    public static final int DRAW = 0;
+    public static final int INVALID = 1;
+    public static final int DTM_OFFSET = 2;
+    public static final int MAX_DTM = 255 - DTM_OFFSET;
+
+    private record Table(Material material, MappedByteBuffer data, boolean flipped) {
+    }
+
+    private final Path directory;
+    // both color arrangements of every loaded table, keyed by Material.countsKey
+    private final Map<Long, Table> tables = new ConcurrentHashMap<>();
+    private volatile int maxPieces;
+
+    private Tablebase(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Maps every table file in a directory
+     *
+     * @throws IOException if the directory or a table cannot be read
+     */
+    public static Tablebase open(Path directory) throws IOException {
+        Tablebase tablebase = new Tablebase(directory);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                tablebase.load(Material.of(name.substring(0, name.length() - SUFFIX.length())));
+            }
+        }
+        return tablebase;
+    }
+
+    /**
+     * @return path of a material's table file in this tablebase's directory
+     */
+    public Path file(Material material) {
+        return directory.resolve(material.name() + SUFFIX);
+    }
+
+    /**
+     * Maps a material's table file, e.g. one the generator just wrote
+     *
+     * @throws IOException if the file cannot be read or is not a table of that material
+     */
+    public void load(Material material) throws IOException {
+        Path path = file(material);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() != HEADER_BYTES + (long) material.size()) {
+                throw new IOException("not a " + material + " table: " + path);
+            }
+            MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            data.order(ByteOrder.BIG_ENDIAN);
+            if (data.getInt(0) != MAGIC || data.getInt(4) != material.pieces()) {
+                throw new IOException("not a " + material + " table: " + path);
+            }
+            tables.put(material.countsKey(false), new Table(material, data, false));
+            tables.putIfAbsent(material.countsKey(true), new Table(material, data, true));
+            maxPieces = Math.max(maxPieces, material.pieces());
+        }
+    }
+
+    /**
+     * @return true if a table for the material is loaded
+     */
+    public boolean has(Material material) {
+        return tables.containsKey(material.countsKey(false));
+    }
+
+    /**
+     * @return most pieces of any loaded table; positions with more are never found
+     */
+    public int maxPieces() {
+        return maxPieces;
+    }
+
+    /**
+     * Looks a position up
+     *
+     * @return DRAW, or DTM_OFFSET plus the distance to mate in half-moves
+     * (odd: the side to move wins), or NOT_FOUND if no table covers it
+     */
+    public int probe(ChessGame game) {
+        BitBoard bits = game.getBoard().getBitBoard();
+        if (Long.bitCount(bits.occupied()) > maxPieces || game.getCastlingRights() != 0
+                || canCaptureEnPassant(game, bits)) {
+            return NOT_FOUND;
+        }
+        Table table = tables.get(Material.countsKey(bits));
+        if (table == null) {
+            return NOT_FOUND;
+        }
+        int index = table.material().index(bits, game.getTeamTurn(), table.flipped());
+        int value = table.data().get(HEADER_BYTES + index) & 0xFF;
+        return (value == INVALID) ? NOT_FOUND : value;
+    }
+
+    private static boolean canCaptureEnPassant(ChessGame game, BitBoard bits) {
+        int target = game.getEnPassantSquare();
+        if (target == MoveGenerator.NO_SQUARE) {
+            return false;
+        }
+        ChessGame.TeamColor turn = game.getTeamTurn();
+        // a pawn of the side to move captures onto the target from where an opposing pawn there would attack
+        return (Attacks.pawn(Material.opposite(turn), target) & bits.pieces(turn, ChessPiece.PieceType.PAWN)) != 0;
+    }
+
+    /**
+     * @return true if a probe result is a win for the side to move
+     */
+    public static boolean isWin(int value) {
+        return value >= DTM_OFFSET && ((value - DTM_OFFSET) & 1) == 1;
+    }
+
+    /**
+     * @return true if a probe result is a loss for the side to move
+     */
+    public static boolean isLoss(int value) {
+        return value >= DTM_OFFSET && ((value - DTM_OFFSET) & 1) == 0;
+    }
+
+    /**
+     * @return half-moves to mate of a win or loss probe result
+     */
+    public static int distanceToMate(int value) {
+        return value - DTM_OFFSET;
+    }
+}
@@ -0,0 +1,463 @@
+package chess.engine;
+
+import chess.Attacks;
+import chess.BitBoard;
+import chess.ChessBoard;
+import chess.ChessGame;
+import chess.ChessPiece;
+import chess.ChessPosition;
+import chess.Move;
+import chess.MoveList;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Builds distance-to-mate tables by retrograde analysis
+ * <p>
+ * A table is built in two stages. The first visits every index once with the
+ * {@link ChessGame} rules: it marks impossible positions, mates and
+ * stalemates, counts the moves that stay inside the table, and scores the
+ * captures and promotions that leave it from the smaller tables, which are
+ * built first. The second works backwards one half-move at a time: from
+ * every position decided at distance d, it un-moves a piece of the side that
+ * just moved to find the positions that lead to it. Those positions win at
+ * d + 1 if it was a loss, and lose once every one of their moves is known to
+ * lose. Whatever is undecided at the end is a draw. Both stages split the
+ * indexes across a ForkJoinPool.
+ * <p>
+ * Finished tables are never rebuilt, and the state of the table in progress
+ * is saved every {@link #CHECKPOINT_PLIES} half-moves, so an interrupted run
+ * resumes where it stopped. Tables assume no castling rights and no en
+ * passant capture.
+ * added 10/18/26 for endgame tablebases
+ */
+public final class TablebaseGenerator {
+
+    public static final String CHECKPOINT_SUFFIX = ".partial";
+    public static final int CHECKPOINT_PLIES = 8;
+
+    private static final int CHUNK = 1 << 14;
+    // remaining moves of a position that cannot lose: it has a drawing or winning way out of the table
+    private static final int CANNOT_LOSE = 1 << 30;
+    private static final int CHECKPOINT_MAGIC = 0x43545031; // "CTP1"
+
+    private final Tablebase tablebase;
+    private final ForkJoinPool pool;
+
+    /**
+     * @param tablebase tables already built, and where new ones are written and loaded
+     * @param threads   worker threads
+     */
+    public TablebaseGenerator(Tablebase tablebase, int threads) {
+        this.tablebase = tablebase;
+        this.pool = new ForkJoinPool(threads);
+    }
+
+    /**
+     * Builds a material's table and every smaller table it depends on, skipping tables already built
+     */
+    public void generate(Material material) throws IOException {
+        if (tablebase.has(material)) {
+            return;
+        }
+        for (Material successor : material.successors()) {
+            generate(successor);
+        }
+        new Build(material).run();
+        tablebase.load(material);
+    }
+
+    /**
+     * State of one table being built: the result per index, the earliest
+     * win through a move out of the table, the latest loss through such
+     * moves, and the moves inside the table not yet known to lose (negative:
+     * the position loses at that distance once reached)
+     */
+    private final class Build {
+
+        private final Material material;
+        private final Path checkpoint;
+        private byte[] values;
+        private byte[] exitWin;
+        private byte[] exitLoss;
+        private AtomicIntegerArray remaining;
+        private int ply;
+
+        Build(Material material) {
+            this.material = material;
+            this.checkpoint = tablebase.file(material).resolveSibling(material.name() + CHECKPOINT_SUFFIX);
+        }
+
+        void run() throws IOException {
+            int size = material.size();
+            if (Files.exists(checkpoint)) {
+                readCheckpoint(size);
+            } else {
+                values = new byte[size];
+                exitWin = new byte[size];
+                exitLoss = new byte[size];
+                remaining = new AtomicIntegerArray(size);
+                parallel(size, new InitialScan()::scan);
+                ply = 0;
+                writeCheckpoint();
+            }
+
+            int latestExit = latestExit();
+            int lastDecided = ply;
+            for (; ply <= Math.max(lastDecided + 1, latestExit); ply++) {
+                if (ply > Tablebase.MAX_DTM - 1) {
+                    throw new IllegalStateException(material + " has mates longer than " + Tablebase.MAX_DTM);
+                }
+                int current = ply;
+                AtomicLong decided = new AtomicLong();
+                parallel(size, index -> {
+                    if (decide(index, current)) {
+                        decided.incrementAndGet();
+                    }
+                });
+                parallel(size, index -> {
+                    if (values[index] == (byte) (current + Tablebase.DTM_OFFSET)) {
+                        decided.incrementAndGet();
+                        retract(index, current);
+                    }
+                });
+                if (decided.get() > 0) {
+                    lastDecided = current;
+                }
+                if (current > 0 && current % CHECKPOINT_PLIES == 0) {
+                    ply = current + 1;
+                    writeCheckpoint();
+                    ply = current;
+                }
+            }
+            write();
+            Files.deleteIfExists(checkpoint);
+        }
+
+        /**
+         * Helper function to settle a position whose win or loss through a
+         * move out of the table, or loss once all moves inside are known, falls at this ply
+         *
+         * @return true if the position was decided
+         */
+        private boolean decide(int index, int current) {
+            if (values[index] != Tablebase.DRAW || current == 0) {
+                return false;
+            }
+            if ((exitWin[index] & 0xFF) == current || remaining.get(index) == -current) {
+                values[index] = (byte) (current + Tablebase.DTM_OFFSET);
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Helper function to pass a position decided at this ply back to
+         * every position one move before it
+         */
+        private void retract(int index, int current) {
+            int pieces = material.pieces();
+            int[] squares = new int[pieces];
+            ChessGame.TeamColor turn = material.decode(index, squares);
+            ChessGame.TeamColor mover = Material.opposite(turn);
+            int moverBit = mover.ordinal() << (6 * pieces);
+            long occupied = 0;
+            for (int square : squares) {
+                occupied |= 1L << square;
+            }
+            boolean won = (current & 1) == 1;
+            for (int i = 0; i < pieces; i++) {
+                if (material.color(i) != mover) {
+                    continue;
+                }
+                int to = squares[i];
+                long origins = origins(material.type(i), mover, to, occupied);
+                int base = (index & ~(1 << (6 * pieces)) & ~(63 << (6 * i))) | moverBit;
+                while (origins != 0) {
+                    int from = Long.numberOfTrailingZeros(origins);
+                    origins &= origins - 1;
+                    int previous = base | (from << (6 * i));
+                    if (values[previous] != Tablebase.DRAW) {
+                        continue;
+                    }
+                    if (!won) {
+                        // the mover found a move into a lost position
+                        int win = current + 1;
+                        int known = exitWin[previous] & 0xFF;
+                        if (known == 0 || known > win) {
+                            exitWin[previous] = (byte) win;
+                        }
+                    } else if (remaining.decrementAndGet(previous) == 0) {
+                        // every move inside the table loses; the slowest loss, inside or out, sets the distance
+                        remaining.set(previous, -Math.max(current + 1, exitLoss[previous] & 0xFF));
+                    }
+                }
+            }
+        }
+
+        /**
+         * @return the squares a piece now on "to" could have come from with a quiet move
+         */
+        private long origins(ChessPiece.PieceType type, ChessGame.TeamColor color, int to, long occupied) {
+            long empty = ~occupied;
+            return switch (type) {
+                case KING -> Attacks.king(to) & empty;
+                case QUEEN -> Attacks.queen(to, occupied) & empty;
+                case ROOK -> Attacks.rook(to, occupied) & empty;
+                case BISHOP -> Attacks.bishop(to, occupied) & empty;
+                case KNIGHT -> Attacks.knight(to) & empty;
+                case PAWN -> pawnOrigins(color, to, occupied);
+            };
+        }
+
+        private long pawnOrigins(ChessGame.TeamColor color, int to, long occupied) {
+            boolean white = color == ChessGame.TeamColor.WHITE;
+            int step = white ? -8 : 8;
+            int one = to + step;
+            int row = BitBoard.row(to);
+            long origins = 0;
+            // a pawn never stands on its own back row, so a single push starts on row 2 at the earliest
+            if ((white ? row >= 3 : row <= 6) && (occupied & (1L << one)) == 0) {
+                origins |= 1L << one;
+                int two = one + step;
+                if (row == (white ? 4 : 5) && (occupied & (1L << two)) == 0) {
+                    origins |= 1L << two;
+                }
+            }
+            return origins;
+        }
+
+        private int latestExit() {
+            int latest = 0;
+            for (int index = 0; index < values.length; index++) {
+                latest = Math.max(latest, Math.max(exitWin[index] & 0xFF, exitLoss[index] & 0xFF));
+            }
+            return latest;
+        }
+
+        /**
+         * First stage, run once per index with one reused game per worker thread
+         */
+        private final class InitialScan {
+
+            private final ThreadLocal<Worker> workers = ThreadLocal.withInitial(Worker::new);
+
+            void scan(int index) {
+                workers.get().scan(index);
+            }
+        }
+
+        private final class Worker {
+
+            private final ChessBoard board = new ChessBoard();
+            private final ChessGame game = new ChessGame();
+            private final ChessPiece[] pieces = new ChessPiece[material.pieces()];
+            private final int[] squares = new int[material.pieces()];
+            private final int[] placed = new int[material.pieces()];
+            private final MoveList moves = new MoveList();
+
+            Worker() {
+                for (int i = 0; i < pieces.length; i++) {
+                    pieces[i] = new ChessPiece(material.color(i), material.type(i));
+                    // moved, so no castling rights are derived
+                    pieces[i].setPieceMoved(true);
+                }
+                Arrays.fill(placed, -1);
+                game.setBoard(board);
+            }
+
+            void scan(int index) {
+                ChessGame.TeamColor turn = material.decode(index, squares);
+                long occupied = 0;
+                for (int i = 0; i < squares.length; i++) {
+                    long bit = 1L << squares[i];
+                    int row = BitBoard.row(squares[i]);
+                    if ((occupied & bit) != 0
+                            || (material.type(i) == ChessPiece.PieceType.PAWN && (row == 1 || row == 8))) {
+                        values[index] = Tablebase.INVALID;
+                        return;
+                    }
+                    occupied |= bit;
+                }
+                place();
+                game.setTeamTurn(turn);
+                if (game.isInCheck(Material.opposite(turn))) {
+                    values[index] = Tablebase.INVALID;
+                    return;
+                }
+
+                moves.clear();
+                game.generateLegalMoves(moves);
+                if (moves.isEmpty()) {
+                    if (game.isInCheck(turn)) {
+                        values[index] = (byte) Tablebase.DTM_OFFSET;
+                    } else {
+                        remaining.set(index, CANNOT_LOSE);
+                    }
+                    return;
+                }
+                int inside = 0;
+                int win = 0;
+                int loss = 0;
+                boolean canLose = true;
+                for (int m = 0; m < moves.size(); m++) {
+                    int move = moves.get(m);
+                    if (!Move.isPromotion(move) && game.getBoard().getPiece(Move.to(move)) == null) {
+                        inside++;
+                        continue;
+                    }
+                    game.doMove(move);
+                    int value = tablebase.probe(game);
+                    game.undoMove();
+                    if (value == Tablebase.NOT_FOUND) {
+                        throw new IllegalStateException("missing table after " + Move.toText(move));
+                    }
+                    if (Tablebase.isLoss(value)) {
+                        int distance = Tablebase.distanceToMate(value) + 1;
+                        win = (win == 0) ? distance : Math.min(win, distance);
+                        canLose = false;
+                    } else if (Tablebase.isWin(value)) {
+                        loss = Math.max(loss, Tablebase.distanceToMate(value) + 1);
+                    } else {
+                        canLose = false;
+                    }
+                }
+                exitWin[index] = (byte) win;
+                exitLoss[index] = (byte) loss;
+                if (!canLose) {
+                    remaining.set(index, CANNOT_LOSE);
+                } else {
+                    remaining.set(index, inside == 0 ? -loss : inside);
+                }
+            }
+
+            /**
+             * Helper function to move the reused pieces from the previous index's squares to this one's
+             */
+            private void place() {
+                for (int i = 0; i < placed.length; i++) {
+                    if (placed[i] >= 0) {
+                        board.removePiece(ChessPosition.of(placed[i]));
+                    }
+                }
+                for (int i = 0; i < squares.length; i++) {
+                    board.addPiece(ChessPosition.of(squares[i]), pieces[i]);
+                    placed[i] = squares[i];
+                }
+            }
+        }
+
+        private void parallel(int size, IntConsumer action) {
+            try {
+                pool.submit(() -> IntStream.range(0, (size + CHUNK - 1) / CHUNK).parallel().forEach(chunk -> {
+                    int end = Math.min(size, (chunk + 1) * CHUNK);
+                    for (int index = chunk * CHUNK; index < end; index++) {
+                        action.accept(index);
+                    }
+                })).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("generation interrupted", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+
+        /**
+         * Writes the finished table next to a temporary name and renames it, so a crash never leaves half a table
+         */
+        private void write() throws IOException {
+            Path file = tablebase.file(material);
+            Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer header = ByteBuffer.allocate(Tablebase.HEADER_BYTES).order(ByteOrder.BIG_ENDIAN);
+                header.putInt(Tablebase.MAGIC).putInt(material.pieces()).flip();
+                writeFully(channel, header);
+                writeFully(channel, ByteBuffer.wrap(values));
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        private void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+
+        private void writeCheckpoint() throws IOException {
+            Path temporary = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+            try (OutputStream file = Files.newOutputStream(temporary);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, 1 << 16))) {
+                out.writeInt(CHECKPOINT_MAGIC);
+                out.writeInt(values.length);
+                out.writeInt(ply);
+                out.write(values);
+                out.write(exitWin);
+                out.write(exitLoss);
+                for (int index = 0; index < values.length; index++) {
+                    out.writeInt(remaining.get(index));
+                }
+            }
+            Files.move(temporary, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        private void readCheckpoint(int size) throws IOException {
+            try (InputStream file = Files.newInputStream(checkpoint);
+                 DataInputStream in = new DataInputStream(new BufferedInputStream(file, 1 << 16))) {
+                if (in.readInt() != CHECKPOINT_MAGIC || in.readInt() != size) {
+                    throw new IOException("not a " + material + " checkpoint: " + checkpoint);
+                }
+                ply = in.readInt();
+                values = in.readNBytes(size);
+                exitWin = in.readNBytes(size);
+                exitLoss = in.readNBytes(size);
+                remaining = new AtomicIntegerArray(size);
+                for (int index = 0; index < size; index++) {
+                    remaining.set(index, in.readInt());
+                }
+            }
+        }
+    }
+
+    /**
+     * Usage: TablebaseGenerator &lt;directory&gt; &lt;threads&gt; &lt;material&gt;...
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.out.println("usage: TablebaseGenerator <directory> <threads> <material>...  e.g. tb 8 KQK KRK KPK");
+            return;
+        }
+        Path directory = Path.of(args[0]);
+        Files.createDirectories(directory);
+        TablebaseGenerator generator = new TablebaseGenerator(Tablebase.open(directory), Integer.parseInt(args[1]));
+        for (int i = 2; i < args.length; i++) {
+            long start = System.nanoTime();
+            generator.generate(Material.of(args[i]));
+            System.out.printf("%s done, %.1f s%n", args[i], (System.nanoTime() - start) / 1e9);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package chess.engine;
+
+import chess.ChessGame;
+import chess.Perft;
+
+/**
+ * Lazy SMP scaling report: searches each perft reference position to a fixed
+ * depth with 1, 2, 4, ... threads and prints the time to reach each depth
+ * and the speedup over one thread, for sizing the helper pool
+ * <p>
+ * Every run gets a fresh transposition table, so no run profits from the
+ * positions an earlier one stored.
+ * added 10/18/26 for Lazy SMP
+ */
+public final class TimeToDepth {
+
+    private static final int HASH_MB = 64;
+
+    private TimeToDepth() {
+    }
+
+    /**
+     * Usage: TimeToDepth [depth] [maxThreads]
+     */
+    public static void main(String[] args) {
+        if (args.length > 2) {
+            System.out.println("usage: TimeToDepth [depth] [maxThreads]");
+            return;
+        }
+        int depth = (args.length >= 1) ? Integer.parseInt(args[0]) : 8;
+        int maxThreads = (args.length == 2) ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+        long[] totals = new long[Integer.SIZE - Integer.numberOfLeadingZeros(maxThreads)];
+        for (Perft.Reference reference : Perft.REFERENCES) {
+            ChessGame game = Perft.load(reference);
+            long single = 0;
+            int run = 0;
+            for (int threads = 1; threads <= maxThreads; threads *= 2, run++) {
+                SearchResult result = Engine.search(game, SearchLimits.depth(depth),
+                        new TranspositionTable(HASH_MB, TranspositionTable.Replacement.DEPTH_AND_AGE), threads - 1);
+                long elapsed = result.timeToDepth(result.depth());
+                if (threads == 1) {
+                    single = elapsed;
+                }
+                totals[run] += elapsed;
+                System.out.printf("%-10s %2d threads depth %2d %9.1f ms %5.2fx %,14d nodes/s  %s%n",
+                        reference.name(), threads, result.depth(), elapsed / 1e6, (double) single / elapsed,
+                        result.nodesPerSecond(), depthTimes(result));
+            }
+        }
+        System.out.println();
+        for (int run = 0, threads = 1; run < totals.length; run++, threads *= 2) {
+            System.out.printf("all positions %2d threads %9.1f ms %5.2fx%n",
+                    threads, totals[run] / 1e6, (double) totals[0] / totals[run]);
+        }
+    }
+
+    /**
+     * @return milliseconds to each depth, e.g. "1:0.1 2:0.4 3:1.9"
+     */
+    private static String depthTimes(SearchResult result) {
+        StringBuilder text = new StringBuilder();
+        for (int depth = 1; depth <= result.depth(); depth++) {
+            if (depth > 1) {
+                text.append(' ');
+            }
+            text.append(depth).append(':').append(String.format("%.1f", result.timeToDepth(depth) / 1e6));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,248 @@
+package chess.engine;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-size transposition table shared by every search thread, keyed by
+ * {@link chess.ChessGame#getZobristKey()}
+ * <p>
+ * Each entry is two longs in one flat array: the key XORed with the data,
+ * then the data. Readers and writers never lock. A reader that sees a key
+ * from one write and data from another gets a mismatch when it XORs them
+ * back, and treats the slot as empty, so a torn entry costs a miss rather
+ * than a wrong move.
+ * <p>
+ * Entries are grouped in buckets of {@link #BUCKET_SIZE}; a store replaces
+ * the entry with the same key if there is one, otherwise the entry the
+ * {@link Replacement} policy picks.
+ * added 10/18/26 for the engine transposition table
+ * updated 10/18/26 for the engine transposition table: the generation advances at most once per
+ * {@link #GENERATION_NANOS} rather than on every search, so searches running side by side (hints and bot
+ * moves share one table) do not age out each other's entries, and it has 16 bits so it does not wrap
+ * around within a server's lifetime
+ */
+public final class TranspositionTable {
+
+    public static final int BUCKET_SIZE = 4;
+    public static final int ENTRY_BYTES = 16;
+    // shortest time between generations; longer than any hint or bot search
+    public static final long GENERATION_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    public static final int BOUND_EXACT = 1;
+    public static final int BOUND_LOWER = 2;
+    public static final int BOUND_UPPER = 3;
+
+    /**
+     * Which entry of a full bucket a new position replaces
+     */
+    public enum Replacement {
+        /** the oldest entry, ignoring depth */
+        ALWAYS,
+        /** the shallowest entry, so expensive deep results survive */
+        DEPTH_PREFERRED,
+        /** the shallowest entry, counting entries from earlier searches as shallower the older they are */
+        DEPTH_AND_AGE
+    }
+
+    // data layout: move (16 bits), score (16, signed), depth (8), bound (2), generation (16)
+    private static final int SCORE_SHIFT = 16;
+    private static final int DEPTH_SHIFT = 32;
+    private static final int BOUND_SHIFT = 40;
+    private static final int GENERATION_SHIFT = 42;
+    private static final int GENERATION_MASK = 0xFFFF;
+
+    private final long[] entries;
+    private final int bucketMask;
+    private final Replacement replacement;
+    private volatile int generation;
+    private final AtomicLong generationStart = new AtomicLong(System.nanoTime());
+
+    private final LongAdder probes = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+
+    /**
+     * @param megabytes   memory budget; the table takes the largest power of two buckets that fits
+     * @param replacement policy for full buckets
+     */
+    public TranspositionTable(int megabytes, Replacement replacement) {
+        if (megabytes < 1) {
+            throw new IllegalArgumentException("transposition table needs at least 1 MB");
+        }
+        long buckets = Long.highestOneBit((long) megabytes * 1024 * 1024 / (ENTRY_BYTES * BUCKET_SIZE));
+        // a Java array holds at most 2^31 - 1 longs
+        buckets = Math.min(buckets, 1L << 27);
+        this.entries = new long[(int) buckets * BUCKET_SIZE * 2];
+        this.bucketMask = (int) buckets - 1;
+        this.replacement = replacement;
+    }
+
+    /**
+     * Starts a new search. Once the current generation is GENERATION_NANOS old, the entries stored so far
+     * count as older under DEPTH_AND_AGE; searches started before then share the generation.
+     */
+    public void newSearch() {
+        long now = System.nanoTime();
+        long start = generationStart.get();
+        // only the thread that moves the start on advances the generation, so no advance is lost or doubled
+        if (now - start >= GENERATION_NANOS && generationStart.compareAndSet(start, now)) {
+            generation = (generation + 1) & GENERATION_MASK;
+        }
+    }
+
+    /**
+     * Looks up a position
+     *
+     * @return packed entry data (read it with the static accessors), or 0 if the position is not stored
+     */
+    public long probe(long key) {
+        probes.increment();
+        int base = bucketBase(key);
+        for (int i = 0; i < BUCKET_SIZE; i++) {
+            int slot = base + i * 2;
+            long data = entries[slot + 1];
+            if ((entries[slot] ^ data) == key && data != 0) {
+                hits.increment();
+                return data;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Stores a search result for a position
+     *
+     * @param move  best or refuting move, Move.NONE if none
+     * @param score score already adjusted by the caller to be independent of the ply
+     * @param depth remaining depth the score was searched to
+     * @param bound BOUND_EXACT, BOUND_LOWER or BOUND_UPPER
+     */
+    public void store(long key, int move, int score, int depth, int bound) {
+        int base = bucketBase(key);
+        int currentGeneration = generation;
+        int victim = base;
+        int victimValue = Integer.MAX_VALUE;
+        for (int i = 0; i < BUCKET_SIZE; i++) {
+            int slot = base + i * 2;
+            long data = entries[slot + 1];
+            if (data == 0 || (entries[slot] ^ data) == key) {
+                // keep the old move if the new result has none
+                if (move == 0 && data != 0 && (entries[slot] ^ data) == key) {
+                    move = move(data);
+                }
+                victim = slot;
+                break;
+            }
+            int value = replacementValue(data, currentGeneration);
+            if (value < victimValue) {
+                victimValue = value;
+                victim = slot;
+            }
+        }
+        long data = (move & 0xFFFFL)
+                | ((score & 0xFFFFL) << SCORE_SHIFT)
+                | ((long) (Math.max(0, Math.min(depth, 255))) << DEPTH_SHIFT)
+                | ((long) bound << BOUND_SHIFT)
+                | ((long) currentGeneration << GENERATION_SHIFT);
+        entries[victim] = key ^ data;
+        entries[victim + 1] = data;
+        stores.increment();
+    }
+
+    /**
+     * Helper function to rank a stored entry for replacement; the lowest value is replaced
+     */
+    private int replacementValue(long data, int currentGeneration) {
+        int age = (currentGeneration - generation(data)) & GENERATION_MASK;
+        return switch (replacement) {
+            case ALWAYS -> -age;
+            case DEPTH_PREFERRED -> depth(data);
+            case DEPTH_AND_AGE -> depth(data) - 8 * age;
+        };
+    }
+
+    private int bucketBase(long key) {
+        // the low bits of the key pick the bucket; mix in the high bits so keys differing there spread too
+        return ((int) (key ^ (key >>> 32)) & bucketMask) * BUCKET_SIZE * 2;
+    }
+
+    /**
+     * Empties the table and its statistics
+     */
+    public void clear() {
+        Arrays.fill(entries, 0L);
+        probes.reset();
+        hits.reset();
+        stores.reset();
+    }
+
+    public static int move(long data) {
+        return (int) (data & 0xFFFF);
+    }
+
+    public static int score(long data) {
+        return (short) (data >>> SCORE_SHIFT);
+    }
+
+    public static int depth(long data) {
+        return (int) ((data >>> DEPTH_SHIFT) & 0xFF);
+    }
+
+    public static int bound(long data) {
+        return (int) ((data >>> BOUND_SHIFT) & 0x3);
+    }
+
+    private static int generation(long data) {
+        return (int) ((data >>> GENERATION_SHIFT) & GENERATION_MASK);
+    }
+
+    /**
+     * @return number of entries the table can hold
+     */
+    public int capacity() {
+        return entries.length / 2;
+    }
+
+    public long probes() {
+        return probes.sum();
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long stores() {
+        return stores.sum();
+    }
+
+    /**
+     * @return share of probes that found their position, 0 before the first probe
+     */
+    public double hitRate() {
+        long probed = probes.sum();
+        return probed == 0 ? 0 : (double) hits.sum() / probed;
+    }
+
+    /**
+     * @return share of sampled slots in use, in thousandths
+     */
+    public int permill() {
+        int sample = Math.min(1000, capacity());
+        int used = 0;
+        for (int i = 0; i < sample; i++) {
+            if (entries[i * 2 + 1] != 0) {
+                used++;
+            }
+        }
+        return used * 1000 / sample;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d entries, %s, %d probes, %.1f%% hits, %d stores, %d permill full",
+                capacity(), replacement, probes(), 100 * hitRate(), stores(), permill());
+    }
+}
@@ -0,0 +1,88 @@
+package chess.pgn;
+
+import chess.ChessGame;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One game as read from or written to PGN: tag pairs in file order, SAN moves and the result
+ * added 10/18/26 for PGN
+ *
+ * @param tags   tag pairs, e.g. Event, White, Black, and FEN for games not from the start position
+ * @param moves  main line moves in SAN, without move numbers, comments or variations
+ * @param result "1-0", "0-1", "1/2-1/2" or "*"
+ */
+public record PgnGame(Map<String, String> tags, List<String> moves, String result) {
+
+    public static final String START_FEN = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+    public PgnGame {
+        tags = Collections.unmodifiableMap(new LinkedHashMap<>(tags));
+        moves = List.copyOf(moves);
+    }
+
+    /**
+     * Builds the PGN form of a game from its move log. A game that did not start
+     * from the standard position gets SetUp and FEN tags.
+     *
+     * @param game   game to export; left unchanged
+     * @param tags   tags to write, the Result tag is set from result
+     * @param result "1-0", "0-1", "1/2-1/2" or "*"
+     */
+    public static PgnGame fromGame(ChessGame game, Map<String, String> tags, String result) {
+        String startFen = game.getStartFen();
+        ChessGame replay = ChessGame.fromFen(startFen);
+        List<String> sanMoves = new ArrayList<>();
+        for (int move : game.getMoveLog()) {
+            sanMoves.add(San.toSan(replay, move));
+            replay.doMove(move);
+        }
+        Map<String, String> allTags = new LinkedHashMap<>(tags);
+        allTags.put("Result", result);
+        if (!startFen.equals(START_FEN)) {
+            allTags.put("SetUp", "1");
+            allTags.put("FEN", startFen);
+        }
+        return new PgnGame(allTags, sanMoves, result);
+    }
+
+    /**
+     * @return the result recorded with the game (e.g. for a resignation), else the one a finished position
+     * implies ("1-0", "0-1" or "1/2-1/2"), or "*" if neither says the game is over
+     */
+    public static String resultOf(ChessGame game) {
+        if (game.getResult() != null) {
+            return game.getResult();
+        }
+        return switch (game.evaluateStatus()) {
+            case CHECKMATE -> game.getTeamTurn() == ChessGame.TeamColor.WHITE ? "0-1" : "1-0";
+            case STALEMATE, DRAW_REPETITION, DRAW_FIFTY_MOVES -> "1/2-1/2";
+            default -> "*";
+        };
+    }
+
+    /**
+     * Plays the moves out from the start position (the FEN tag, if present)
+     *
+     * @return game after the last move
+     * @throws IllegalArgumentException if the FEN tag or a move is invalid
+     */
+    public ChessGame replay() {
+        String fen = tags.get("FEN");
+        ChessGame game = (fen == null) ? new ChessGame() : ChessGame.fromFen(fen);
+        for (String san : moves) {
+            game.doMove(San.parse(game, san));
+        }
+        return game;
+    }
+
+    @Override
+    public String toString() {
+        return tags.getOrDefault("White", "?") + " - " + tags.getOrDefault("Black", "?") + " " + result
+                + " (" + moves.size() + " plies)";
+    }
+}
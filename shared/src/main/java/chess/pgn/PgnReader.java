@@ -0,0 +1,282 @@
+package chess.pgn;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming PGN reader, one game at a time
+ * <p>
+ * Input is read through a fixed-size buffer from any channel, or for files
+ * through memory-mapped windows of at most {@link #MAP_WINDOW} bytes, so
+ * memory use does not depend on the file size: one buffer, one line and the
+ * game being read. Comments, variations, NAGs and move numbers are skipped;
+ * only the main line is kept.
+ * added 10/18/26 for PGN
+ */
+public class PgnReader implements Closeable {
+
+    public static final int BUFFER_SIZE = 64 * 1024;
+    public static final long MAP_WINDOW = 64L * 1024 * 1024;
+    // longest line and most moves accepted in one game, so a corrupt file cannot exhaust memory
+    public static final int MAX_LINE = 1024 * 1024;
+    public static final int MAX_PLIES = 10_000;
+
+    private final ReadableByteChannel channel;
+    private final FileChannel file;
+    private long mapPosition;
+    private ByteBuffer buffer;
+    private boolean endOfInput;
+
+    private byte[] line = new byte[256];
+    private int lineLength;
+    private long lineNumber;
+
+    // movetext state that carries across lines
+    private boolean inComment;
+    private int variationDepth;
+    // first tag line of the next game, when it came before this game's result
+    private String pendingTag;
+
+    /**
+     * Reads from a channel through a heap buffer
+     */
+    public PgnReader(ReadableByteChannel channel) {
+        this.channel = channel;
+        this.file = null;
+        this.buffer = ByteBuffer.allocate(BUFFER_SIZE).flip();
+    }
+
+    private PgnReader(FileChannel file) {
+        this.channel = file;
+        this.file = file;
+        this.buffer = ByteBuffer.allocate(0);
+    }
+
+    /**
+     * Opens a file read through memory-mapped windows
+     */
+    public static PgnReader open(Path path) throws IOException {
+        return new PgnReader(FileChannel.open(path, StandardOpenOption.READ));
+    }
+
+    /**
+     * Reads the next game. A game cut off by the next game's tags or by the end
+     * of the input is returned with the result "*".
+     *
+     * @return the game, or null at the end of the input
+     * @throws IOException if reading fails or a game breaks the size limits
+     */
+    public PgnGame next() throws IOException {
+        Map<String, String> tags = new LinkedHashMap<>();
+        List<String> moves = new ArrayList<>();
+        inComment = false;
+        variationDepth = 0;
+        boolean started = false;
+        if (pendingTag != null) {
+            parseTag(pendingTag, tags);
+            pendingTag = null;
+            started = true;
+        }
+
+        while (readLine()) {
+            String text = new String(line, 0, lineLength, StandardCharsets.UTF_8).strip();
+            if (!inComment && text.startsWith("[")) {
+                if (!moves.isEmpty()) {
+                    pendingTag = text;
+                    return new PgnGame(tags, moves, "*");
+                }
+                parseTag(text, tags);
+                started = true;
+            } else if (!inComment && (text.isEmpty() || text.startsWith("%"))) {
+                continue;
+            } else {
+                started = true;
+                String result = parseMovetext(text, moves);
+                if (result != null) {
+                    return new PgnGame(tags, moves, result);
+                }
+            }
+        }
+        return started ? new PgnGame(tags, moves, "*") : null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * [Name "value"], with \" and \\ escapes in the value
+     */
+    private void parseTag(String text, Map<String, String> tags) throws IOException {
+        int nameEnd = text.indexOf(' ');
+        int open = text.indexOf('"');
+        if (nameEnd < 2 || open < nameEnd) {
+            throw new IOException("line " + lineNumber + ": bad tag " + text);
+        }
+        StringBuilder value = new StringBuilder();
+        int i = open + 1;
+        for (; i < text.length() && text.charAt(i) != '"'; i++) {
+            char c = text.charAt(i);
+            if (c == '\\' && i + 1 < text.length()) {
+                c = text.charAt(++i);
+            }
+            value.append(c);
+        }
+        if (i >= text.length()) {
+            throw new IOException("line " + lineNumber + ": bad tag " + text);
+        }
+        tags.put(text.substring(1, nameEnd), value.toString());
+    }
+
+    /**
+     * Adds the main line moves on one line of movetext
+     *
+     * @return the result if the line ends the game, else null
+     */
+    private String parseMovetext(String text, List<String> moves) throws IOException {
+        int i = 0;
+        int length = text.length();
+        while (i < length) {
+            char c = text.charAt(i);
+            if (inComment) {
+                if (c == '}') {
+                    inComment = false;
+                }
+                i++;
+            } else if (c == '{') {
+                inComment = true;
+                i++;
+            } else if (c == ';') {
+                return null; // rest of line comment
+            } else if (c == '(') {
+                variationDepth++;
+                i++;
+            } else if (c == ')') {
+                variationDepth = Math.max(0, variationDepth - 1);
+                i++;
+            } else if (Character.isWhitespace(c)) {
+                i++;
+            } else {
+                int start = i;
+                while (i < length && " \t{}();".indexOf(text.charAt(i)) < 0) {
+                    i++;
+                }
+                String token = text.substring(start, i);
+                if (variationDepth > 0) {
+                    continue;
+                }
+                if (isResult(token)) {
+                    return token;
+                }
+                String san = stripMoveNumber(token);
+                if (!san.isEmpty() && san.charAt(0) != '$') {
+                    if (moves.size() == MAX_PLIES) {
+                        throw new IOException("line " + lineNumber + ": more than " + MAX_PLIES + " moves");
+                    }
+                    moves.add(san);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean isResult(String token) {
+        return token.equals("1-0") || token.equals("0-1") || token.equals("1/2-1/2") || token.equals("*");
+    }
+
+    /**
+     * "12.", "12..." and "12.e4" become "", "" and "e4"
+     */
+    private static String stripMoveNumber(String token) {
+        int i = 0;
+        while (i < token.length() && Character.isDigit(token.charAt(i))) {
+            i++;
+        }
+        if (i == 0 || i == token.length() || token.charAt(i) != '.') {
+            return token;
+        }
+        while (i < token.length() && token.charAt(i) == '.') {
+            i++;
+        }
+        return token.substring(i);
+    }
+
+    /**
+     * Reads bytes up to the next newline into the line buffer
+     *
+     * @return false at the end of the input
+     */
+    private boolean readLine() throws IOException {
+        lineLength = 0;
+        boolean any = false;
+        while (true) {
+            if (!buffer.hasRemaining() && !refill()) {
+                if (any) {
+                    lineNumber++;
+                }
+                return any;
+            }
+            any = true;
+            byte b = buffer.get();
+            if (b == '\n') {
+                lineNumber++;
+                return true;
+            }
+            if (b == '\r') {
+                continue;
+            }
+            if (lineLength == line.length) {
+                if (lineLength == MAX_LINE) {
+                    throw new IOException("line " + (lineNumber + 1) + " longer than " + MAX_LINE + " bytes");
+                }
+                line = Arrays.copyOf(line, Math.min(MAX_LINE, lineLength * 2));
+            }
+            line[lineLength++] = b;
+        }
+    }
+
+    /**
+     * Loads the next chunk: the next mapped window of a file, or the next read from a channel
+     *
+     * @return false at the end of the input
+     */
+    private boolean refill() throws IOException {
+        if (endOfInput) {
+            return false;
+        }
+        if (file != null) {
+            long size = file.size();
+            if (mapPosition >= size) {
+                endOfInput = true;
+                return false;
+            }
+            long length = Math.min(MAP_WINDOW, size - mapPosition);
+            buffer = file.map(FileChannel.MapMode.READ_ONLY, mapPosition, length);
+            mapPosition += length;
+            return true;
+        }
+        buffer.clear();
+        int read;
+        do {
+            read = channel.read(buffer);
+        } while (read == 0);
+        buffer.flip();
+        if (read < 0) {
+            endOfInput = true;
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,78 @@
+package chess.pgn;
+
+import chess.ChessGame;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Replays PGN games on several threads while one thread reads the file
+ * <p>
+ * The reader runs on the calling thread and hands each game to a worker pool.
+ * A semaphore caps the games read but not yet replayed, so memory stays
+ * bounded even when the workers fall behind the reader.
+ * added 10/18/26 for PGN
+ */
+public final class PgnReplay {
+
+    /**
+     * A replayed game: the final position, or the reason the game could not be replayed
+     *
+     * @param index 0-based position of the game in the input
+     * @param game  final position, null if replay failed
+     * @param error why replay failed, null if it succeeded
+     */
+    public record Replayed(long index, PgnGame pgn, ChessGame game, String error) {
+    }
+
+    private PgnReplay() {
+    }
+
+    /**
+     * Reads every game and replays it on a pool of threads. The sink is called
+     * from the worker threads, so it must be thread-safe; games reach it in no
+     * particular order.
+     *
+     * @param threads number of replay threads
+     * @return number of games read
+     * @throws IOException if reading fails; games already handed out still finish
+     */
+    public static long replayAll(PgnReader reader, int threads, Consumer<Replayed> sink)
+            throws IOException, InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        Semaphore inFlight = new Semaphore(threads * 4);
+        AtomicLong count = new AtomicLong();
+        try {
+            PgnGame pgn;
+            while ((pgn = reader.next()) != null) {
+                long index = count.getAndIncrement();
+                PgnGame next = pgn;
+                inFlight.acquire();
+                pool.execute(() -> {
+                    try {
+                        sink.accept(replay(index, next));
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        } finally {
+            pool.shutdown();
+            pool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        }
+        return count.get();
+    }
+
+    private static Replayed replay(long index, PgnGame pgn) {
+        try {
+            return new Replayed(index, pgn, pgn.replay(), null);
+        } catch (IllegalArgumentException e) {
+            return new Replayed(index, pgn, null, e.getMessage());
+        }
+    }
+}
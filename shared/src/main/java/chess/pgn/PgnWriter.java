@@ -0,0 +1,146 @@
+package chess.pgn;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming PGN writer
+ * <p>
+ * Games are encoded into a fixed-size buffer that is written to the channel
+ * whenever it fills, so a whole export never has to be held in memory. Tags
+ * come out Seven Tag Roster first, and movetext is wrapped at 80 columns.
+ * added 10/18/26 for PGN
+ */
+public class PgnWriter implements Closeable, Flushable {
+
+    private static final List<String> SEVEN_TAG_ROSTER =
+            List.of("Event", "Site", "Date", "Round", "White", "Black", "Result");
+    private static final int LINE_WIDTH = 80;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(PgnReader.BUFFER_SIZE);
+    private final StringBuilder text = new StringBuilder(1024);
+    private int column;
+
+    public PgnWriter(WritableByteChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Writes one game followed by a blank line
+     */
+    public void write(PgnGame game) throws IOException {
+        Map<String, String> tags = game.tags();
+        for (String name : SEVEN_TAG_ROSTER) {
+            String value = name.equals("Result") ? game.result() : tags.get(name);
+            if (value == null) {
+                value = name.equals("Date") ? "????.??.??" : "?";
+            }
+            appendTag(name, value);
+        }
+        for (Map.Entry<String, String> tag : tags.entrySet()) {
+            if (!SEVEN_TAG_ROSTER.contains(tag.getKey())) {
+                appendTag(tag.getKey(), tag.getValue());
+            }
+        }
+        text.append('\n');
+
+        // numbering continues from the FEN for games set up from a position
+        int moveNumber = 1;
+        boolean whiteToMove = true;
+        String fen = tags.get("FEN");
+        if (fen != null) {
+            String[] fields = fen.split(" ");
+            whiteToMove = fields.length < 2 || fields[1].equals("w");
+            if (fields.length >= 6) {
+                moveNumber = Integer.parseInt(fields[5]);
+            }
+        }
+
+        column = 0;
+        boolean first = true;
+        for (String san : game.moves()) {
+            if (whiteToMove) {
+                appendWord(moveNumber + ".");
+            } else if (first) {
+                appendWord(moveNumber + "...");
+            }
+            appendWord(san);
+            if (!whiteToMove) {
+                moveNumber++;
+            }
+            whiteToMove = !whiteToMove;
+            first = false;
+        }
+        appendWord(game.result());
+        text.append("\n\n");
+        drain();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        drain();
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        channel.close();
+    }
+
+    private void appendTag(String name, String value) {
+        text.append('[').append(name).append(" \"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                text.append('\\');
+            }
+            text.append(c);
+        }
+        text.append("\"]\n");
+    }
+
+    private void appendWord(String word) {
+        if (column > 0 && column + 1 + word.length() > LINE_WIDTH) {
+            text.append('\n');
+            column = 0;
+        } else if (column > 0) {
+            text.append(' ');
+            column++;
+        }
+        text.append(word);
+        column += word.length();
+    }
+
+    /**
+     * Moves the encoded game text into the buffer, writing the buffer out each time it fills
+     */
+    private void drain() throws IOException {
+        byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+        text.setLength(0);
+        int offset = 0;
+        while (offset < bytes.length) {
+            int count = Math.min(buffer.remaining(), bytes.length - offset);
+            buffer.put(bytes, offset, count);
+            offset += count;
+            if (!buffer.hasRemaining()) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                buffer.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package chess.pgn;
+
+import chess.BitBoard;
+import chess.ChessGame;
+import chess.ChessPiece;
+import chess.Move;
+import chess.MoveList;
+
+/**
+ * Standard Algebraic Notation (SAN) for packed moves
+ * <p>
+ * Both directions work from the game's legal moves (the same list validMoves
+ * is built from), so disambiguation, check and mate marks always match the
+ * position.
+ * added 10/18/26 for PGN
+ */
+public final class San {
+
+    private San() {
+    }
+
+    /**
+     * Writes a legal move in SAN, e.g. "Nbd7", "exd6", "e8=Q+", "O-O-O#"
+     *
+     * @param game position before the move; left unchanged
+     * @param move packed legal move
+     */
+    public static String toSan(ChessGame game, int move) {
+        StringBuilder san = new StringBuilder(8);
+        int from = Move.from(move);
+        int to = Move.to(move);
+        int flag = Move.flag(move);
+        ChessPiece piece = game.getBoard().getPiece(from);
+        ChessPiece.PieceType type = piece.getPieceType();
+
+        if (flag == Move.FLAG_CASTLE) {
+            san.append(to > from ? "O-O" : "O-O-O");
+        } else {
+            boolean capture = flag == Move.FLAG_EN_PASSANT || game.getBoard().getPiece(to) != null;
+            if (type == ChessPiece.PieceType.PAWN) {
+                if (capture) {
+                    san.append(fileChar(from));
+                }
+            } else {
+                san.append(pieceLetter(type));
+                appendDisambiguation(san, game, move, type);
+            }
+            if (capture) {
+                san.append('x');
+            }
+            san.append(fileChar(to)).append(rankChar(to));
+            if (Move.isPromotion(move)) {
+                san.append('=').append(pieceLetter(Move.promotionType(move)));
+            }
+        }
+
+        game.doMove(move);
+        ChessGame.TeamColor opponent = game.getTeamTurn();
+        if (game.isInCheck(opponent)) {
+            san.append(game.isInCheckmate(opponent) ? '#' : '+');
+        }
+        game.undoMove();
+        return san.toString();
+    }
+
+    /**
+     * Finds the legal move a SAN token names. Check, mate and annotation marks
+     * ("+", "#", "!", "?") are ignored, "0-0" is read as "O-O" and the "=" before
+     * a promotion piece is optional.
+     *
+     * @param game position to move from
+     * @param san  SAN token
+     * @return packed move
+     * @throws IllegalArgumentException if the token is malformed, or matches no legal move or more than one
+     */
+    public static int parse(ChessGame game, String san) {
+        int end = san.length();
+        while (end > 0 && "+#!?".indexOf(san.charAt(end - 1)) >= 0) {
+            end--;
+        }
+        if (end < 2) {
+            throw new IllegalArgumentException("bad SAN move: " + san);
+        }
+
+        MoveList moves = new MoveList();
+        game.generateLegalMoves(moves);
+
+        if (san.charAt(0) == 'O' || san.charAt(0) == '0') {
+            boolean queenside = end >= 5;
+            for (int i = 0; i < moves.size(); i++) {
+                int move = moves.get(i);
+                if (Move.flag(move) == Move.FLAG_CASTLE && (Move.to(move) < Move.from(move)) == queenside) {
+                    return move;
+                }
+            }
+            throw new IllegalArgumentException("illegal move: " + san);
+        }
+
+        int i = 0;
+        ChessPiece.PieceType type = pieceType(san.charAt(0));
+        if (type == null) {
+            type = ChessPiece.PieceType.PAWN;
+        } else {
+            i++;
+        }
+
+        ChessPiece.PieceType promotion = null;
+        ChessPiece.PieceType last = pieceType(san.charAt(end - 1));
+        if (last != null && type == ChessPiece.PieceType.PAWN) {
+            promotion = last;
+            end--;
+            if (end > 0 && san.charAt(end - 1) == '=') {
+                end--;
+            }
+        }
+        if (end - i < 2) {
+            throw new IllegalArgumentException("bad SAN move: " + san);
+        }
+        int toCol = san.charAt(end - 2) - 'a' + 1;
+        int toRow = san.charAt(end - 1) - '0';
+        if (toCol < 1 || toCol > 8 || toRow < 1 || toRow > 8) {
+            throw new IllegalArgumentException("bad SAN move: " + san);
+        }
+        int to = BitBoard.square(toRow, toCol);
+
+        // whatever is left between the piece letter and the target: disambiguation and 'x'
+        int fromCol = 0;
+        int fromRow = 0;
+        for (int j = i; j < end - 2; j++) {
+            char c = san.charAt(j);
+            if (c >= 'a' && c <= 'h') {
+                fromCol = c - 'a' + 1;
+            } else if (c >= '1' && c <= '8') {
+                fromRow = c - '0';
+            } else if (c != 'x' && c != ':' && c != '-') {
+                throw new IllegalArgumentException("bad SAN move: " + san);
+            }
+        }
+
+        int found = Move.NONE;
+        for (int m = 0; m < moves.size(); m++) {
+            int move = moves.get(m);
+            int from = Move.from(move);
+            if (Move.to(move) != to || Move.promotionType(move) != promotion
+                    || game.getBoard().getPiece(from).getPieceType() != type
+                    || (fromCol != 0 && BitBoard.column(from) != fromCol)
+                    || (fromRow != 0 && BitBoard.row(from) != fromRow)) {
+                continue;
+            }
+            if (found != Move.NONE) {
+                throw new IllegalArgumentException("ambiguous move: " + san);
+            }
+            found = move;
+        }
+        if (found == Move.NONE) {
+            throw new IllegalArgumentException("illegal move: " + san);
+        }
+        return found;
+    }
+
+    /**
+     * Adds the file, rank or both when another piece of the same type can reach the same square
+     */
+    private static void appendDisambiguation(StringBuilder san, ChessGame game, int move,
+                                             ChessPiece.PieceType type) {
+        int from = Move.from(move);
+        int to = Move.to(move);
+        MoveList moves = new MoveList(64);
+        game.generateLegalMoves(moves);
+        boolean ambiguous = false;
+        boolean sameFile = false;
+        boolean sameRank = false;
+        for (int i = 0; i < moves.size(); i++) {
+            int other = Move.from(moves.get(i));
+            if (other == from || Move.to(moves.get(i)) != to
+                    || game.getBoard().getPiece(other).getPieceType() != type) {
+                continue;
+            }
+            ambiguous = true;
+            sameFile |= BitBoard.column(other) == BitBoard.column(from);
+            sameRank |= BitBoard.row(other) == BitBoard.row(from);
+        }
+        if (!ambiguous) {
+            return;
+        }
+        if (!sameFile) {
+            san.append(fileChar(from));
+        } else if (!sameRank) {
+            san.append(rankChar(from));
+        } else {
+            san.append(fileChar(from)).append(rankChar(from));
+        }
+    }
+
+    private static char fileChar(int square) {
+        return (char) ('a' + BitBoard.column(square) - 1);
+    }
+
+    private static char rankChar(int square) {
+        return (char) ('0' + BitBoard.row(square));
+    }
+
+    private static char pieceLetter(ChessPiece.PieceType type) {
+        return switch (type) {
+            case KING -> 'K';
+            case QUEEN -> 'Q';
+            case ROOK -> 'R';
+            case BISHOP -> 'B';
+            case KNIGHT -> 'N';
+            case PAWN -> 'P';
+        };
+    }
+
+    private static ChessPiece.PieceType pieceType(char letter) {
+        return switch (letter) {
+            case 'K' -> ChessPiece.PieceType.KING;
+            case 'Q' -> ChessPiece.PieceType.QUEEN;
+            case 'R' -> ChessPiece.PieceType.ROOK;
+            case 'B' -> ChessPiece.PieceType.BISHOP;
+            case 'N' -> ChessPiece.PieceType.KNIGHT;
+            default -> null;
+        };
+    }
+}
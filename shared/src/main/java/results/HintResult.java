@@ -0,0 +1,30 @@
+package results;
+
+import chess.engine.Analysis;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 10/18/26: added for move hints - best moves of a game's position
+ * @param gameID
+ * @param hints best move first; move in coordinate form ("e2e4", "e7e8q"), score in centipawns for the side to move
+ * @param depth search depth the scores come from
+ */
+public record HintResult(
+        int gameID,
+        List<MoveHint> hints,
+        int depth
+) {
+
+    public record MoveHint(String move, int score) {
+    }
+
+    public static HintResult of(int gameID, Analysis analysis) {
+        List<MoveHint> hints = new ArrayList<>(analysis.lines().size());
+        for (Analysis.Line line : analysis.lines()) {
+            hints.add(new MoveHint(line.text(), line.score()));
+        }
+        return new HintResult(gameID, hints, analysis.depth());
+    }
+}
@@ -0,0 +1,18 @@
+package websocket.commands;
+
+/**
+ * 10/18/26: added for move hints - asks for the best count moves of the game's position
+ */
+public class HintCommand extends UserGameCommand {
+
+    private final int count;
+
+    public HintCommand(String authToken, int gameID, int count) {
+        super(CommandType.HINT, authToken, gameID);
+        this.count = count;
+    }
+
+    public int getCount() {
+        return count;
+    }
+}
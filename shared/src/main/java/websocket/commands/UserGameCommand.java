@@ -24,7 +24,11 @@ public class UserGameCommand {
         CONNECT,
         MAKE_MOVE,
         LEAVE,
-        RESIGN
+        RESIGN,
+        // added 10/18/26 for the engine: seat the computer player in the open seat
+        ADD_BOT,
+        // added 10/18/26 for move hints: best moves of the position, see HintCommand
+        HINT
     }
 
     public CommandType getCommandType() {
@@ -0,0 +1,20 @@
+package websocket.messages;
+
+import results.HintResult;
+
+/**
+ * 10/18/26: added for move hints - engine hints, sent only to the user who asked
+ */
+public class HintMessage extends ServerMessage {
+
+    private final HintResult hint;
+
+    public HintMessage(HintResult hint) {
+        super(ServerMessageType.HINT);
+        this.hint = hint;
+    }
+
+    public HintResult getHint() {
+        return hint;
+    }
+}
@@ -14,7 +14,9 @@ public class ServerMessage {
     public enum ServerMessageType {
         LOAD_GAME,
         ERROR,
-        NOTIFICATION
+        NOTIFICATION,
+        // added 10/18/26 for move hints
+        HINT
     }
 
     public ServerMessage(ServerMessageType type) {
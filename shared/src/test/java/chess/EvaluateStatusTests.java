@@ -0,0 +1,126 @@
+package chess;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import passoff.chess.TestUtilities;
+
+/**
+ * 10/18/26: added for single-pass status evaluation - one test per GameStatus, and the precedence of
+ * checkmate and stalemate over the draw rules
+ */
+public class EvaluateStatusTests {
+
+    private static ChessMove move(String from, String to) {
+        return new ChessMove(ChessPosition.of(from.charAt(1) - '0', from.charAt(0) - 'a' + 1),
+                ChessPosition.of(to.charAt(1) - '0', to.charAt(0) - 'a' + 1), null);
+    }
+
+    private static ChessGame game(ChessGame.TeamColor turn, String boardText) {
+        var game = new ChessGame();
+        game.setBoard(TestUtilities.loadBoard(boardText));
+        game.setTeamTurn(turn);
+        return game;
+    }
+
+    @Test
+    @DisplayName("New Game Ongoing")
+    public void ongoing() {
+        var status = new ChessGame().evaluateStatus();
+
+        Assertions.assertEquals(ChessGame.GameStatus.ONGOING, status);
+        Assertions.assertFalse(status.isGameOver(), "an ongoing game is not over");
+    }
+
+    @Test
+    @DisplayName("Black in Check")
+    public void check() {
+        var game = game(ChessGame.TeamColor.BLACK, """
+                | | | | |k| | |R|
+                | | | | | | | | |
+                | | | | | | | | |
+                | | | | | | | | |
+                | | | | | | | | |
+                | | | | | | | | |
+                | | | | | | | | |
+                | | | | |K| | | |
+                """);
+
+        Assertions.assertEquals(ChessGame.GameStatus.CHECK, game.evaluateStatus());
+        Assertions.assertFalse(ChessGame.GameStatus.CHECK.isGameOver(), "check is not the end of the game");
+    }
+
+    @Test
+    @DisplayName("Fool's Mate")
+    public void checkmate() throws InvalidMoveException {
+        var game = new ChessGame();
+        game.makeMove(move("f2", "f3"));
+        game.makeMove(move("e7", "e5"));
+        game.makeMove(move("g2", "g4"));
+        game.makeMove(move("d8", "h4"));
+
+        Assertions.assertEquals(ChessGame.GameStatus.CHECKMATE, game.evaluateStatus());
+        Assertions.assertTrue(ChessGame.GameStatus.CHECKMATE.isGameOver(), "checkmate ends the game");
+    }
+
+    @Test
+    @DisplayName("White Stalemated")
+    public void stalemate() {
+        var game = game(ChessGame.TeamColor.WHITE, """
+                | | | | | | | | |
+                | | | | | | | | |
+                | | | | | | | | |
+                | | | | | | | | |
+                | | | | | | | | |
+                | | | | | | |q| |
+                | | | | | |k| | |
+                | | | | | | | |K|
+                """);
+
+        Assertions.assertEquals(ChessGame.GameStatus.STALEMATE, game.evaluateStatus());
+        Assertions.assertTrue(ChessGame.GameStatus.STALEMATE.isGameOver(), "stalemate ends the game");
+    }
+
+    @Test
+    @DisplayName("Knights Shuffle to a Threefold Repetition")
+    public void repetition() throws InvalidMoveException {
+        var game = new ChessGame();
+        String[][] shuffle = {{"g1", "f3"}, {"g8", "f6"}, {"f3", "g1"}, {"f6", "g8"}};
+        for (int i = 0; i < 8; i++) {
+            game.makeMove(move(shuffle[i % 4][0], shuffle[i % 4][1]));
+        }
+
+        Assertions.assertEquals(ChessGame.GameStatus.DRAW_REPETITION, game.evaluateStatus());
+        Assertions.assertTrue(ChessGame.GameStatus.DRAW_REPETITION.isGameOver(), "a repetition draw ends the game");
+    }
+
+    @Test
+    @DisplayName("Hundredth Half-Move Without Capture or Pawn Move")
+    public void fiftyMoves() throws InvalidMoveException {
+        var game = ChessGame.fromFen("4k3/8/8/8/8/8/8/4K1N1 w - - 99 80");
+        game.makeMove(move("g1", "f3"));
+
+        Assertions.assertEquals(ChessGame.GameStatus.DRAW_FIFTY_MOVES, game.evaluateStatus());
+        Assertions.assertTrue(ChessGame.GameStatus.DRAW_FIFTY_MOVES.isGameOver(), "a fifty-move draw ends the game");
+    }
+
+    @Test
+    @DisplayName("Mate on the Hundredth Half-Move Wins")
+    public void checkmateBeatsFiftyMoves() throws InvalidMoveException {
+        var game = ChessGame.fromFen("k7/8/1K6/8/8/8/8/7R w - - 99 80");
+        game.makeMove(move("h1", "h8"));
+
+        Assertions.assertTrue(game.isDrawByFiftyMoves(), "the fifty-move rule applies too");
+        Assertions.assertEquals(ChessGame.GameStatus.CHECKMATE, game.evaluateStatus());
+    }
+
+    @Test
+    @DisplayName("Stalemate on the Hundredth Half-Move")
+    public void stalemateBeatsFiftyMoves() throws InvalidMoveException {
+        var game = ChessGame.fromFen("k7/8/2Q5/8/8/8/8/7K w - - 99 80");
+        game.makeMove(move("c6", "c7"));
+
+        Assertions.assertTrue(game.isDrawByFiftyMoves(), "the fifty-move rule applies too");
+        Assertions.assertEquals(ChessGame.GameStatus.STALEMATE, game.evaluateStatus());
+    }
+}
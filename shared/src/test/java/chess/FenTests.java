@@ -0,0 +1,70 @@
+package chess;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 10/18/26: added for FEN - unit tests
+ */
+public class FenTests {
+
+    private static final String START = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+    @Test
+    public void startPositionPositive() {
+        ChessGame game = ChessGame.fromFen(START);
+
+        assertEquals(new ChessGame(), game);
+        assertEquals(START, new ChessGame().toFen());
+        assertEquals(new ChessGame().getZobristKey(), game.getZobristKey());
+    }
+
+    @Test
+    public void roundTripPositive() {
+        for (Perft.Reference reference : Perft.REFERENCES) {
+            assertEquals(reference.fen(), ChessGame.fromFen(reference.fen()).toFen());
+        }
+        String enPassant = "rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq f6 0 3";
+        assertEquals(enPassant, ChessGame.fromFen(enPassant).toFen());
+    }
+
+    @Test
+    public void movesUpdateFenPositive() throws InvalidMoveException {
+        ChessGame game = new ChessGame();
+        game.makeMove(new ChessMove(ChessPosition.of(2, 5), ChessPosition.of(4, 5), null));
+        assertEquals("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1", game.toFen());
+
+        game.makeMove(new ChessMove(ChessPosition.of(8, 7), ChessPosition.of(6, 6), null));
+        game.makeMove(new ChessMove(ChessPosition.of(1, 5), ChessPosition.of(2, 5), null));
+        assertEquals("rnbqkb1r/pppppppp/5n2/8/4P3/8/PPPPKPPP/RNBQ1BNR b kq - 2 2", game.toFen());
+    }
+
+    @Test
+    public void castlingRightsFromFenPositive() {
+        ChessGame game = ChessGame.fromFen("r3k2r/8/8/8/8/8/8/R3K2R w Kq - 0 1");
+
+        assertEquals(ChessGame.WHITE_KINGSIDE | ChessGame.BLACK_QUEENSIDE, game.getCastlingRights());
+        assertTrue(game.validMoves(ChessPosition.of(1, 5))
+                .contains(new ChessMove(ChessPosition.of(1, 5), ChessPosition.of(1, 7), null)));
+        assertFalse(game.validMoves(ChessPosition.of(1, 5))
+                .contains(new ChessMove(ChessPosition.of(1, 5), ChessPosition.of(1, 3), null)));
+    }
+
+    @Test
+    public void clocksOptionalPositive() {
+        assertEquals("8/8/8/8/8/8/8/K6k b - - 0 1", ChessGame.fromFen("8/8/8/8/8/8/8/K6k b - -").toFen());
+    }
+
+    @Test
+    public void malformedFenNegative() {
+        assertThrows(IllegalArgumentException.class, () -> ChessGame.fromFen(""));
+        assertThrows(IllegalArgumentException.class, () -> ChessGame.fromFen("8/8/8/8/8/8/8 w - - 0 1"));
+        assertThrows(IllegalArgumentException.class, () -> ChessGame.fromFen("9/8/8/8/8/8/8/8 w - - 0 1"));
+        assertThrows(IllegalArgumentException.class, () -> ChessGame.fromFen("8/8/8/8/8/8/8/7x w - - 0 1"));
+        assertThrows(IllegalArgumentException.class, () -> ChessGame.fromFen("8/8/8/8/8/8/8/8 x - - 0 1"));
+        assertThrows(IllegalArgumentException.class, () -> ChessGame.fromFen("8/8/8/8/8/8/8/8 w X - 0 1"));
+        assertThrows(IllegalArgumentException.class, () -> ChessGame.fromFen("8/8/8/8/8/8/8/8 w - e4 0 1"));
+        assertThrows(IllegalArgumentException.class, () -> ChessGame.fromFen("8/8/8/8/8/8/8/8 w - - x 1"));
+    }
+}
@@ -0,0 +1,59 @@
+package chess;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 10/18/26: added for perft - unit tests
+ * Reference positions are searched as deep as stays under NODE_LIMIT nodes, so the suite runs in about a second.
+ */
+public class PerftTests {
+
+    private static final long NODE_LIMIT = 500_000;
+
+    @Test
+    public void perftReferencePositive() {
+        for (Perft.Reference reference : Perft.REFERENCES) {
+            ChessGame game = Perft.load(reference);
+            for (int depth = 1; depth <= reference.nodes().length; depth++) {
+                long expected = reference.nodes()[depth - 1];
+                if (expected > NODE_LIMIT) {
+                    break;
+                }
+                assertEquals(expected, game.perft(depth), reference.name() + " depth " + depth);
+            }
+        }
+    }
+
+    @Test
+    public void perftLeavesGameUnchangedPositive() {
+        ChessGame game = Perft.load(Perft.REFERENCES.get(1));
+        long key = game.getZobristKey();
+        ChessBoard board = new ChessBoard(game.getBoard());
+
+        game.perft(3);
+
+        assertEquals(key, game.getZobristKey());
+        assertEquals(board, game.getBoard());
+    }
+
+    @Test
+    public void divideMatchesPerftPositive() {
+        Perft.Reference kiwipete = Perft.REFERENCES.get(1);
+        Map<String, Long> counts = Perft.divide(Perft.load(kiwipete), 3, ForkJoinPool.commonPool());
+
+        assertEquals(48, counts.size());
+        assertEquals(kiwipete.nodes()[2], counts.values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    @Test
+    public void perftNegativeDepthNegative() {
+        assertThrows(IllegalArgumentException.class, () -> new ChessGame().perft(-1));
+        assertThrows(IllegalArgumentException.class,
+                () -> Perft.divide(new ChessGame(), 0, ForkJoinPool.commonPool()));
+    }
+}
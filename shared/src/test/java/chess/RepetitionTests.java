@@ -0,0 +1,122 @@
+package chess;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 10/18/26: added for draw detection - repetition history, also across a save and load
+ * 10/18/26: updated for draw detection - threefold repetition and the fifty-move halfmove clock
+ */
+public class RepetitionTests {
+
+    private static final String[][] SHUFFLE = {{"g1", "f3"}, {"g8", "f6"}, {"f3", "g1"}, {"f6", "g8"}};
+
+    private static void play(ChessGame game, int plies) throws InvalidMoveException {
+        for (int i = 0; i < plies; i++) {
+            String[] step = SHUFFLE[i % SHUFFLE.length];
+            game.makeMove(new ChessMove(ChessPosition.of(step[0].charAt(1) - '0', step[0].charAt(0) - 'a' + 1),
+                    ChessPosition.of(step[1].charAt(1) - '0', step[1].charAt(0) - 'a' + 1), null));
+        }
+    }
+
+    private static ChessMove move(String from, String to) {
+        return new ChessMove(ChessPosition.of(from.charAt(1) - '0', from.charAt(0) - 'a' + 1),
+                ChessPosition.of(to.charAt(1) - '0', to.charAt(0) - 'a' + 1), null);
+    }
+
+    private static int halfmoveClock(ChessGame game) {
+        return Integer.parseInt(game.toFen().split(" ")[4]);
+    }
+
+    @Test
+    public void threefoldRepetitionPositive() throws InvalidMoveException {
+        ChessGame game = new ChessGame();
+        play(game, 4);
+        // twice is not yet a draw
+        assertFalse(game.isDrawByRepetition());
+
+        play(game, 4);
+        assertTrue(game.isDrawByRepetition());
+        assertEquals(ChessGame.GameStatus.DRAW_REPETITION, game.evaluateStatus());
+    }
+
+    @Test
+    public void fiftyMoveDrawPositive() throws InvalidMoveException {
+        ChessGame game = ChessGame.fromFen("4k3/8/8/8/8/8/4P3/4K1N1 w - - 98 80");
+        game.makeMove(move("g1", "f3"));
+        assertEquals(99, halfmoveClock(game));
+        assertFalse(game.isDrawByFiftyMoves());
+
+        game.makeMove(move("e8", "d8"));
+        assertEquals(100, halfmoveClock(game));
+        assertTrue(game.isDrawByFiftyMoves());
+    }
+
+    @Test
+    public void quietMovesCountPositive() throws InvalidMoveException {
+        ChessGame game = new ChessGame();
+        play(game, 3);
+
+        assertEquals(3, halfmoveClock(game));
+    }
+
+    @Test
+    public void pawnMoveResetsClockNegative() throws InvalidMoveException {
+        ChessGame game = ChessGame.fromFen("4k3/8/8/8/8/8/4P3/4K1N1 w - - 99 80");
+        game.makeMove(move("e2", "e4"));
+
+        assertEquals(0, halfmoveClock(game));
+        assertFalse(game.isDrawByFiftyMoves());
+    }
+
+    @Test
+    public void captureResetsClockNegative() throws InvalidMoveException {
+        ChessGame game = ChessGame.fromFen("4k3/8/8/8/8/5r2/8/4K1N1 w - - 99 80");
+        game.makeMove(move("g1", "f3"));
+
+        assertEquals(0, halfmoveClock(game));
+        assertFalse(game.isDrawByFiftyMoves());
+    }
+
+    @Test
+    public void savedGameKeepsRepetitionPositive() throws InvalidMoveException {
+        Gson gson = new Gson();
+        ChessGame game = new ChessGame();
+        play(game, 4);
+        assertTrue(game.isRepetition());
+        assertFalse(game.isDrawByRepetition());
+
+        ChessGame loaded = gson.fromJson(gson.toJson(game), ChessGame.class);
+        play(loaded, 4);
+
+        assertTrue(loaded.isDrawByRepetition());
+    }
+
+    @Test
+    public void savedHistoryOnlyUsedPartPositive() throws InvalidMoveException {
+        Gson gson = new Gson();
+        ChessGame game = new ChessGame();
+        assertEquals(0, gson.toJsonTree(game).getAsJsonObject().getAsJsonArray("positionHistory").size());
+
+        play(game, 4);
+        JsonObject saved = gson.toJsonTree(game).getAsJsonObject();
+        assertTrue(saved.getAsJsonArray("positionHistory").size() < 128);
+
+        // a long game keeps only the window the fifty-move rule can look back over
+        play(game, 400);
+        saved = gson.toJsonTree(game).getAsJsonObject();
+        assertEquals(128, saved.getAsJsonArray("positionHistory").size());
+    }
+
+    @Test
+    public void noRepetitionAfterPawnMoveNegative() throws InvalidMoveException {
+        ChessGame game = new ChessGame();
+        play(game, 4);
+        game.makeMove(new ChessMove(ChessPosition.of(2, 5), ChessPosition.of(4, 5), null));
+
+        assertFalse(game.isRepetition());
+    }
+}
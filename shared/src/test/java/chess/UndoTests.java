@@ -0,0 +1,106 @@
+package chess;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 10/18/26: added for make/unmake - undoing makeMove
+ * 10/18/26: updated for make/unmake - doMove/undoMove round trips over every legal move
+ */
+public class UndoTests {
+
+    private static ChessMove move(String from, String to) {
+        return new ChessMove(ChessPosition.of(from.charAt(1) - '0', from.charAt(0) - 'a' + 1),
+                ChessPosition.of(to.charAt(1) - '0', to.charAt(0) - 'a' + 1), null);
+    }
+
+    // castling both ways for both sides, en passant, promotion with and without capture, running clocks
+    private static final String[] ROUND_TRIP_FENS = {
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+            "rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq f6 0 3",
+            "r3k2r/1P4P1/8/8/8/8/1p4p1/R3K2R b KQkq - 7 40",
+    };
+
+    // plays and takes back every legal move to the given depth, checking the whole state comes back each time
+    private static void assertRoundTrips(ChessGame game, int depth) {
+        String fen = game.toFen();
+        long key = game.getZobristKey();
+        int rights = game.getCastlingRights();
+        int enPassant = game.getEnPassantSquare();
+        ChessBoard board = new ChessBoard(game.getBoard());
+
+        MoveList moves = new MoveList();
+        game.generateLegalMoves(moves);
+        for (int i = 0; i < moves.size(); i++) {
+            game.doMove(moves.get(i));
+            if (depth > 1) {
+                assertRoundTrips(game, depth - 1);
+            }
+            game.undoMove();
+
+            String move = Move.toText(moves.get(i));
+            assertEquals(fen, game.toFen(), move);
+            assertEquals(key, game.getZobristKey(), move);
+            assertEquals(rights, game.getCastlingRights(), move);
+            assertEquals(enPassant, game.getEnPassantSquare(), move);
+            assertEquals(board, game.getBoard(), move);
+        }
+    }
+
+    @Test
+    public void doUndoRoundTripPositive() {
+        for (String fen : ROUND_TRIP_FENS) {
+            assertRoundTrips(ChessGame.fromFen(fen), 2);
+        }
+    }
+
+    @Test
+    public void undoRestoresMovedFlagsPositive() throws InvalidMoveException {
+        ChessGame game = ChessGame.fromFen("r3k2r/8/8/8/8/8/8/R3K2R w KQkq - 0 1");
+        ChessPiece king = game.getBoard().getPiece(ChessPosition.of(1, 5));
+        ChessPiece rook = game.getBoard().getPiece(ChessPosition.of(1, 8));
+
+        game.makeMove(move("e1", "g1"));
+        assertFalse(king.getPieceMoved());
+        assertFalse(rook.getPieceMoved());
+
+        game.undoMove();
+        // getPieceMoved is true while the piece has not moved
+        assertTrue(king.getPieceMoved());
+        assertTrue(rook.getPieceMoved());
+        assertEquals("r3k2r/8/8/8/8/8/8/R3K2R w KQkq - 0 1", game.toFen());
+    }
+
+    @Test
+    public void longGameStillUndoesPositive() throws InvalidMoveException {
+        ChessGame game = new ChessGame();
+        String[][] shuffle = {{"g1", "f3"}, {"g8", "f6"}, {"f3", "g1"}, {"f6", "g8"}};
+        for (int i = 0; i < 1000; i++) {
+            String[] step = shuffle[i % shuffle.length];
+            game.makeMove(move(step[0], step[1]));
+        }
+        String before = game.toFen();
+        game.makeMove(move("e2", "e4"));
+
+        game.undoMove();
+        assertEquals(before, game.toFen());
+    }
+
+    @Test
+    public void undoPastKeptHistoryNegative() throws InvalidMoveException {
+        ChessGame game = new ChessGame();
+        String[][] shuffle = {{"g1", "f3"}, {"g8", "f6"}, {"f3", "g1"}, {"f6", "g8"}};
+        for (int i = 0; i < 1000; i++) {
+            String[] step = shuffle[i % shuffle.length];
+            game.makeMove(move(step[0], step[1]));
+        }
+
+        // only the most recent moves are kept undoable
+        assertThrows(IllegalStateException.class, () -> {
+            for (int i = 0; i < 1000; i++) {
+                game.undoMove();
+            }
+        });
+    }
+}
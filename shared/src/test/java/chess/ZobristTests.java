@@ -0,0 +1,93 @@
+package chess;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 10/18/26: added for Zobrist hashing - the key kept up to move by move against one built from scratch
+ */
+public class ZobristTests {
+
+    private static ChessMove move(String from, String to, ChessPiece.PieceType promotion) {
+        return new ChessMove(ChessPosition.of(from.charAt(1) - '0', from.charAt(0) - 'a' + 1),
+                ChessPosition.of(to.charAt(1) - '0', to.charAt(0) - 'a' + 1), promotion);
+    }
+
+    // the key from nothing but the position, without the board's running piece key
+    private static long keyFromScratch(ChessGame game) {
+        long key = 0;
+        for (int square = 0; square < 64; square++) {
+            ChessPiece piece = game.getBoard().getPiece(square);
+            if (piece != null) {
+                key ^= Zobrist.piece(BitBoard.pieceIndex(piece.getTeamColor(), piece.getPieceType()), square);
+            }
+        }
+        key ^= Zobrist.castling(game.getCastlingRights());
+        ChessGame.TeamColor turn = game.getTeamTurn();
+        if (turn == ChessGame.TeamColor.BLACK) {
+            key ^= Zobrist.blackToMove();
+        }
+        // the en passant file counts only if a pawn of the side to move stands next to the pushed pawn
+        int enPassant = game.getEnPassantSquare();
+        if (enPassant != MoveGenerator.NO_SQUARE) {
+            int pawnRow = BitBoard.row(enPassant) + (turn == ChessGame.TeamColor.WHITE ? -1 : 1);
+            for (int column : new int[]{BitBoard.column(enPassant) - 1, BitBoard.column(enPassant) + 1}) {
+                ChessPiece piece = (column < 1 || column > 8) ? null
+                        : game.getBoard().getPiece(ChessPosition.of(pawnRow, column));
+                if (piece != null && piece.getTeamColor() == turn
+                        && piece.getPieceType() == ChessPiece.PieceType.PAWN) {
+                    key ^= Zobrist.enPassant(enPassant & 7);
+                    break;
+                }
+            }
+        }
+        return key;
+    }
+
+    private static void playAndCompare(ChessGame game, ChessMove... moves) throws InvalidMoveException {
+        assertEquals(keyFromScratch(game), game.getZobristKey());
+        for (ChessMove move : moves) {
+            game.makeMove(move);
+            assertEquals(keyFromScratch(game), game.getZobristKey(), move.toString());
+        }
+    }
+
+    @Test
+    public void castlingKeyPositive() throws InvalidMoveException {
+        ChessGame game = ChessGame.fromFen("r3k2r/8/8/8/8/8/8/R3K2R w KQkq - 0 1");
+
+        playAndCompare(game, move("e1", "g1", null), move("e8", "c8", null),
+                move("a1", "a7", null), move("h8", "h1", null), move("g1", "h1", null));
+        assertEquals(ChessGame.fromFen(game.toFen()).getZobristKey(), game.getZobristKey());
+    }
+
+    @Test
+    public void enPassantKeyPositive() throws InvalidMoveException {
+        ChessGame game = new ChessGame();
+
+        playAndCompare(game, move("e2", "e4", null), move("a7", "a6", null), move("e4", "e5", null),
+                move("d7", "d5", null), move("e5", "d6", null));
+        assertNull(game.getBoard().getPiece(ChessPosition.of(5, 4)));
+    }
+
+    @Test
+    public void promotionKeyPositive() throws InvalidMoveException {
+        ChessGame game = ChessGame.fromFen("r7/1P6/8/7k/8/8/6p1/4K2R w K - 0 1");
+
+        playAndCompare(game, move("b7", "a8", ChessPiece.PieceType.QUEEN),
+                move("g2", "h1", ChessPiece.PieceType.KNIGHT), move("a8", "a7", null));
+        assertEquals(ChessGame.fromFen(game.toFen()).getZobristKey(), game.getZobristKey());
+    }
+
+    @Test
+    public void unusableEnPassantIgnoredNegative() throws InvalidMoveException {
+        // no black pawn can take on e3, so the double push keys the same as reaching e4 in two steps
+        ChessGame pushed = new ChessGame();
+        pushed.makeMove(move("e2", "e4", null));
+        ChessGame stepped = ChessGame.fromFen("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq - 0 1");
+
+        assertEquals(stepped.getZobristKey(), pushed.getZobristKey());
+        assertEquals(keyFromScratch(pushed), pushed.getZobristKey());
+    }
+}
@@ -0,0 +1,106 @@
+package chess.engine;
+
+import chess.BitBoard;
+import chess.ChessGame;
+import chess.pgn.San;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 10/18/26: added for incremental evaluation - unit tests
+ */
+public class EvaluationTests {
+
+    // the same position with colors swapped: ranks mirrored, case swapped, other side to move
+    private static String mirror(String fen) {
+        String[] fields = fen.split(" ");
+        String[] ranks = fields[0].split("/");
+        StringBuilder placement = new StringBuilder();
+        for (int i = ranks.length - 1; i >= 0; i--) {
+            for (char c : ranks[i].toCharArray()) {
+                placement.append(Character.isUpperCase(c) ? Character.toLowerCase(c) : Character.toUpperCase(c));
+            }
+            placement.append(i > 0 ? "/" : "");
+        }
+        String turn = fields[1].equals("w") ? "b" : "w";
+        return placement + " " + turn + " - - 0 1";
+    }
+
+    private static void assertSameIncrementalState(ChessGame expected, ChessGame actual) {
+        BitBoard want = expected.getBoard().getBitBoard();
+        BitBoard got = actual.getBoard().getBitBoard();
+        assertEquals(want.middlegameScore(), got.middlegameScore());
+        assertEquals(want.endgameScore(), got.endgameScore());
+        assertEquals(want.phase(), got.phase());
+        assertEquals(want.pawnKey(), got.pawnKey());
+    }
+
+    @Test
+    public void startPositionIsEvenPositive() {
+        ChessGame game = new ChessGame();
+
+        assertEquals(0, Evaluation.evaluate(game));
+        assertEquals(24, game.getBoard().getBitBoard().phase());
+    }
+
+    @Test
+    public void mirroredPositionsScoreAlikePositive() {
+        String[] fens = {
+                "r1bqkbnr/pppp1ppp/2n5/4p3/4P3/5N2/PPPP1PPP/RNBQKB1R w - - 2 3",
+                "r3k2r/pp3ppp/2n1b3/3p4/3P4/2PB1N2/P4PPP/R3K2R b - - 0 12",
+                "8/5pk1/6p1/8/2P5/1P6/P5K1/8 w - - 0 40"};
+        for (String fen : fens) {
+            assertEquals(Evaluation.evaluate(ChessGame.fromFen(fen)),
+                    Evaluation.evaluate(ChessGame.fromFen(mirror(fen))), fen);
+        }
+    }
+
+    @Test
+    public void incrementalMatchesFreshBoardPositive() {
+        ChessGame game = ChessGame.fromFen("r3k2r/1P3ppp/8/3pP3/8/8/5PPP/R3K2R w KQkq d6 0 1");
+        ChessGame start = ChessGame.fromFen(game.toFen());
+        // en passant, castling, a capturing promotion and a capture of the promoted piece
+        String[] moves = {"exd6", "O-O", "bxa8=Q", "Rxa8"};
+        for (String san : moves) {
+            game.doMove(San.parse(game, san));
+            assertSameIncrementalState(ChessGame.fromFen(game.toFen()), game);
+        }
+        for (int i = 0; i < moves.length; i++) {
+            game.undoMove();
+        }
+        assertSameIncrementalState(start, game);
+        assertEquals(Evaluation.evaluate(start), Evaluation.evaluate(game));
+    }
+
+    @Test
+    public void pawnTableHitPositive() {
+        ChessGame game = ChessGame.fromFen("8/5pk1/6p1/8/2P5/1P6/P5K1/8 w - - 0 40");
+        PawnTable pawns = new PawnTable(1024);
+
+        int first = Evaluation.evaluate(game, pawns);
+        int second = Evaluation.evaluate(game, pawns);
+
+        assertEquals(first, second);
+        assertEquals(Evaluation.evaluate(game), first);
+        assertEquals(1, pawns.hits());
+        assertEquals(1, pawns.misses());
+    }
+
+    @Test
+    public void passedPawnBeatsBlockedPawnPositive() {
+        int passed = Evaluation.evaluate(ChessGame.fromFen("4k3/8/8/3P4/8/8/8/4K3 w - - 0 1"));
+        int blocked = Evaluation.evaluate(ChessGame.fromFen("4k3/3p4/8/3P4/8/8/8/4K3 w - - 0 1"));
+
+        // the extra black pawn costs about a pawn; losing the passer costs more
+        assertTrue(passed - blocked > 100);
+    }
+
+    @Test
+    public void packNegative() {
+        int packed = Evaluation.pack(-37, -120) + Evaluation.pack(5, 20);
+
+        assertEquals(-32, Evaluation.middlegame(packed));
+        assertEquals(-100, Evaluation.endgame(packed));
+    }
+}
@@ -0,0 +1,102 @@
+package chess.engine;
+
+import chess.ChessGame;
+import chess.Move;
+import chess.MoveList;
+import chess.pgn.PgnGame;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 10/18/26: added for the opening book - unit tests
+ * 10/18/26: updated for the engine - a configured book that cannot be read is reported by Engine.load
+ */
+public class OpeningBookTests {
+
+    // a mapped file cannot be deleted on every platform while the mapping lives, so it goes at exit
+    private static Path tempBook() throws IOException {
+        Path file = Files.createTempFile("book", ".bin");
+        file.toFile().deleteOnExit();
+        return file;
+    }
+
+    private static PgnGame game(String result, String... moves) {
+        return new PgnGame(Map.of("Result", result), List.of(moves), result);
+    }
+
+    @Test
+    public void buildAndProbePositive() throws IOException {
+        OpeningBookBuilder builder = new OpeningBookBuilder(4, 1);
+        builder.addGame(game("1-0", "e4", "e5", "Nf3", "Nc6"));
+        builder.addGame(game("1-0", "e4", "c5", "Nf3", "d6"));
+        builder.addGame(game("0-1", "d4", "d5", "c4", "e6"));
+        Path file = tempBook();
+
+        assertEquals(11, builder.write(file));
+        try (OpeningBook book = OpeningBook.open(file)) {
+            assertEquals(11, book.size());
+            long start = new ChessGame().getZobristKey();
+            MoveList moves = new MoveList();
+
+            assertEquals(2, book.moves(start, moves));
+            // two wins for e4 outweigh one loss for d4
+            assertEquals("e2e4", Move.toText(moves.get(0)));
+            assertEquals("d2d4", Move.toText(moves.get(1)));
+            assertEquals(4, book.weightAt(book.find(start)));
+            assertEquals(1, book.weightAt(book.find(start) + 1));
+            assertEquals("e2e4", Move.toText(book.pick(start, 0)));
+            assertEquals("d2d4", Move.toText(book.pick(start, 4)));
+        }
+    }
+
+    @Test
+    public void minGamesDropsRareMovesPositive() throws IOException {
+        OpeningBookBuilder builder = new OpeningBookBuilder(2, 2);
+        builder.addGame(game("1/2-1/2", "e4", "e5"));
+        builder.addGame(game("1/2-1/2", "e4", "c5"));
+        Path file = tempBook();
+
+        assertEquals(1, builder.write(file));
+        try (OpeningBook book = OpeningBook.open(file)) {
+            ChessGame afterE4 = ChessGame.fromFen("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq - 0 1");
+            assertEquals(-1, book.find(afterE4.getZobristKey()));
+            assertEquals(Move.NONE, book.pick(afterE4.getZobristKey(), 0));
+        }
+    }
+
+    @Test
+    public void engineLoadMissingBookNegative() throws IOException {
+        Path missing = tempBook().resolveSibling("missing-book.bin");
+        System.setProperty(Engine.BOOK_PROPERTY, missing.toString());
+        Engine.unload();
+        try {
+            IOException failure = assertThrows(IOException.class, Engine::load);
+            assertTrue(failure.getMessage().contains(missing.toString()));
+            // the engine still plays, without a book
+            assertNull(Engine.openingBook());
+            assertNotEquals(Move.NONE, Engine.chooseMove(new ChessGame(), SearchLimits.depth(1)).bestMove());
+        } finally {
+            System.clearProperty(Engine.BOOK_PROPERTY);
+            Engine.unload();
+        }
+        assertDoesNotThrow(Engine::load);
+    }
+
+    @Test
+    public void openNotABookNegative() throws IOException {
+        Path file = Files.createTempFile("book", ".bin");
+        try {
+            Files.writeString(file, "[Event \"not a book\"]");
+            assertThrows(IOException.class, () -> OpeningBook.open(file));
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package chess.engine;
+
+import chess.ChessGame;
+import chess.Move;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 10/18/26: added for the engine - unit tests
+ */
+public class SearchTests {
+
+    @Test
+    public void findsMateInOnePositive() {
+        ChessGame game = ChessGame.fromFen("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1");
+
+        SearchResult result = Engine.search(game, SearchLimits.depth(3));
+
+        assertEquals("a1a8", Move.toText(result.bestMove()));
+        assertEquals(Search.MATE - 1, result.score());
+    }
+
+    @Test
+    public void winsHangingQueenPositive() {
+        ChessGame game = ChessGame.fromFen("4k3/8/8/3q4/8/8/3R4/4K3 w - - 0 1");
+
+        SearchResult result = Engine.search(game, SearchLimits.depth(4));
+
+        assertEquals("d2d5", Move.toText(result.bestMove()));
+        assertTrue(result.score() > 300);
+    }
+
+    @Test
+    public void nodeBudgetPositive() {
+        ChessGame game = new ChessGame();
+        String before = game.toFen();
+
+        SearchResult result = Engine.search(game, SearchLimits.nodes(20_000),
+                new TranspositionTable(1, TranspositionTable.Replacement.DEPTH_AND_AGE));
+
+        assertNotEquals(Move.NONE, result.bestMove());
+        assertTrue(result.depth() >= 1);
+        assertTrue(result.nodes() <= 20_000, "searched " + result.nodes() + " nodes");
+        assertEquals(before, game.toFen());
+    }
+
+    @Test
+    public void noLegalMoveNegative() {
+        ChessGame mated = ChessGame.fromFen("R5k1/5ppp/8/8/8/8/8/6K1 b - - 1 1");
+
+        SearchResult result = Engine.search(mated, SearchLimits.depth(2));
+
+        assertEquals(Move.NONE, result.bestMove());
+        assertNull(result.bestChessMove());
+        assertEquals(-Search.MATE, result.score());
+    }
+
+    @Test
+    public void lazySmpPositive() {
+        ChessGame game = ChessGame.fromFen("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1");
+        TranspositionTable table = new TranspositionTable(4, TranspositionTable.Replacement.DEPTH_AND_AGE);
+
+        SearchResult result = Engine.search(game, SearchLimits.depth(4), table, 3);
+
+        assertEquals("a1a8", Move.toText(result.bestMove()));
+        assertEquals(4, result.threads());
+        assertEquals(result.depth(), result.depthNanos().length);
+        assertTrue(result.timeToDepth(1) > 0);
+        assertEquals(-1, result.timeToDepth(result.depth() + 1));
+    }
+
+    @Test
+    public void helperCountAdaptsToLoadPositive() {
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        assertEquals(0, Engine.helperCount(cores));
+        assertTrue(Engine.helperCount(1) >= Engine.helperCount(2));
+    }
+
+    @Test
+    public void analyzeRanksMovesPositive() {
+        ChessGame game = ChessGame.fromFen("4k3/8/8/3q4/8/8/3R4/4K3 w - - 0 1");
+
+        Analysis analysis = Engine.analyze(game, 3, SearchLimits.depth(3));
+
+        assertEquals(3, analysis.lines().size());
+        assertEquals("d2d5", analysis.lines().get(0).text());
+        assertTrue(analysis.lines().get(0).score() > analysis.lines().get(1).score() + 300);
+        assertEquals(3, analysis.depth());
+        assertEquals(1, analysis.top(1).lines().size());
+    }
+}
@@ -0,0 +1,95 @@
+package chess.engine;
+
+import chess.ChessGame;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 10/18/26: added for endgame tablebases - unit tests
+ */
+public class TablebaseTests {
+
+    private static Tablebase tablebase;
+
+    @BeforeAll
+    public static void generate() throws IOException {
+        Path directory = Files.createTempDirectory("tablebases");
+        directory.toFile().deleteOnExit();
+        tablebase = Tablebase.open(directory);
+        new TablebaseGenerator(tablebase, 2).generate(Material.of("KQK"));
+        // mapped files cannot be deleted on every platform while the mapping lives, so they go at exit
+        try (var files = Files.list(directory)) {
+            files.forEach(file -> file.toFile().deleteOnExit());
+        }
+    }
+
+    private static int probe(String fen) {
+        return tablebase.probe(ChessGame.fromFen(fen));
+    }
+
+    @Test
+    public void generateBuildsSmallerTablesPositive() {
+        assertTrue(tablebase.has(Material.of("KQK")));
+        assertTrue(tablebase.has(Material.of("KK")));
+        assertEquals(3, tablebase.maxPieces());
+        assertEquals(Tablebase.DRAW, probe("8/8/8/3k4/8/8/8/4K3 w - - 0 1"));
+    }
+
+    @Test
+    public void mateDistancesPositive() {
+        // Qc8 mates at once
+        int value = probe("k7/8/1K6/8/8/8/8/2Q5 w - - 0 1");
+        assertTrue(Tablebase.isWin(value));
+        assertEquals(1, Tablebase.distanceToMate(value));
+
+        int mated = probe("k1Q5/8/1K6/8/8/8/8/8 b - - 0 1");
+        assertTrue(Tablebase.isLoss(mated));
+        assertEquals(0, Tablebase.distanceToMate(mated));
+
+        // the king takes the unprotected queen
+        assertEquals(Tablebase.DRAW, probe("kQ6/8/1K6/8/8/8/8/8 b - - 0 1"));
+    }
+
+    @Test
+    public void flippedColorsPositive() {
+        assertEquals(probe("k7/8/1K6/8/8/8/8/2Q5 w - - 0 1"), probe("K7/8/1k6/8/8/8/8/2q5 b - - 0 1"));
+        assertEquals(probe("8/8/8/3k4/8/8/8/Q3K3 w - - 0 1"), probe("q3k3/8/8/8/3K4/8/8/8 b - - 0 1"));
+    }
+
+    @Test
+    public void probeNotFoundNegative() {
+        // no KRK table, too many pieces, and a position where the side not to move is in check
+        assertEquals(Tablebase.NOT_FOUND, probe("8/8/8/3k4/8/8/8/4K2R w - - 0 1"));
+        assertEquals(Tablebase.NOT_FOUND, tablebase.probe(new ChessGame()));
+        assertEquals(Tablebase.NOT_FOUND, probe("k7/8/1K6/8/8/8/8/7Q w - - 0 1"));
+    }
+
+    @Test
+    public void badMaterialNegative() {
+        assertThrows(IllegalArgumentException.class, () -> Material.of("KKQ"));
+        assertThrows(IllegalArgumentException.class, () -> Material.of("KQRKR"));
+        assertThrows(IllegalArgumentException.class, () -> Material.of("KXK"));
+    }
+
+    @Test
+    public void searchScoresTablebaseMatesPositive() {
+        ChessGame game = ChessGame.fromFen("8/8/8/3k4/8/8/8/Q3K3 w - - 0 1");
+        int value = tablebase.probe(game);
+        assertTrue(Tablebase.isWin(value));
+
+        Search search = new Search(game, SearchLimits.depth(1), new TranspositionTable(1,
+                TranspositionTable.Replacement.DEPTH_AND_AGE));
+        search.useTablebase(tablebase);
+        SearchResult result = search.run();
+
+        assertEquals(Search.MATE - Tablebase.distanceToMate(value), result.score());
+        game.doMove(result.bestMove());
+        assertEquals(Tablebase.distanceToMate(value) - 1, Tablebase.distanceToMate(tablebase.probe(game)));
+    }
+}
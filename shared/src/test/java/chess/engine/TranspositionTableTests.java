@@ -0,0 +1,82 @@
+package chess.engine;
+
+import chess.ChessGame;
+import chess.Move;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 10/18/26: added for the engine transposition table - unit tests
+ * 10/18/26: updated for the engine transposition table - searches close together share a generation
+ */
+public class TranspositionTableTests {
+
+    @Test
+    public void storeAndProbePositive() {
+        TranspositionTable table = new TranspositionTable(1, TranspositionTable.Replacement.DEPTH_PREFERRED);
+        long key = new ChessGame().getZobristKey();
+        int move = Move.of(12, 28, Move.FLAG_DOUBLE_PUSH);
+
+        table.store(key, move, -Search.MATE + 3, 7, TranspositionTable.BOUND_LOWER);
+        long entry = table.probe(key);
+
+        assertEquals(move, TranspositionTable.move(entry));
+        assertEquals(-Search.MATE + 3, TranspositionTable.score(entry));
+        assertEquals(7, TranspositionTable.depth(entry));
+        assertEquals(TranspositionTable.BOUND_LOWER, TranspositionTable.bound(entry));
+        assertEquals(1.0, table.hitRate());
+    }
+
+    @Test
+    public void probeMissNegative() {
+        TranspositionTable table = new TranspositionTable(1, TranspositionTable.Replacement.ALWAYS);
+        table.store(1L, Move.NONE, 0, 1, TranspositionTable.BOUND_EXACT);
+
+        assertEquals(0, table.probe(1L + table.capacity()));
+        assertEquals(0, table.probe(0L));
+        assertEquals(0.0, table.hitRate());
+    }
+
+    @Test
+    public void depthPreferredKeepsDeepEntriesPositive() {
+        TranspositionTable table = new TranspositionTable(1, TranspositionTable.Replacement.DEPTH_PREFERRED);
+        // keys a multiple of the bucket count apart share a bucket
+        long stride = table.capacity() / TranspositionTable.BUCKET_SIZE;
+        table.store(0, Move.NONE, 0, 20, TranspositionTable.BOUND_EXACT);
+        for (int i = 1; i <= 2 * TranspositionTable.BUCKET_SIZE; i++) {
+            table.store(i * stride, Move.NONE, 0, 1, TranspositionTable.BOUND_EXACT);
+        }
+
+        assertNotEquals(0, table.probe(0));
+    }
+
+    @Test
+    public void backToBackSearchesKeepEntriesPositive() {
+        TranspositionTable table = new TranspositionTable(1, TranspositionTable.Replacement.DEPTH_AND_AGE);
+        long stride = table.capacity() / TranspositionTable.BUCKET_SIZE;
+        table.store(0, Move.NONE, 0, 4, TranspositionTable.BOUND_EXACT);
+        // many searches within one generation, as when several games ask for hints at once
+        for (int i = 0; i < 100; i++) {
+            table.newSearch();
+        }
+        for (int i = 1; i <= 2 * TranspositionTable.BUCKET_SIZE; i++) {
+            table.store(i * stride, Move.NONE, 0, 1, TranspositionTable.BOUND_EXACT);
+        }
+
+        assertNotEquals(0, table.probe(0));
+    }
+
+    @Test
+    public void searchUsesTablePositive() {
+        TranspositionTable table = new TranspositionTable(4, TranspositionTable.Replacement.DEPTH_AND_AGE);
+        ChessGame game = new ChessGame();
+
+        SearchResult first = Engine.search(game, SearchLimits.depth(5), table);
+        SearchResult second = Engine.search(game, SearchLimits.depth(5), table);
+
+        assertTrue(table.stores() > 0);
+        assertTrue(table.hitRate() > 0);
+        assertTrue(second.nodes() < first.nodes(), first.nodes() + " then " + second.nodes());
+    }
+}
@@ -0,0 +1,174 @@
+package chess.pgn;
+
+import chess.*;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 10/18/26: added for PGN - unit tests
+ */
+public class PgnTests {
+
+    private static final String SAMPLE = """
+            [Event "F/S Return Match"]
+            [Site "Belgrade, Serbia JUG"]
+            [Date "1992.11.04"]
+            [Round "29"]
+            [White "Fischer, Robert J."]
+            [Black "Spassky, Boris V."]
+            [Result "1/2-1/2"]
+
+            1. e4 e5 2. Nf3 Nc6 3. Bb5 a6 {This opening is called the Ruy Lopez.}
+            4. Ba4 Nf6 5. O-O Be7 6. Re1 b5 7. Bb3 d6 8. c3 O-O 9. h3 Nb8 10. d4 Nbd7
+            11. c4 c6 12. cxb5 axb5 13. Nc3 Bb7 14. Bg5 b4 15. Nb1 h6 16. Bh4 c5 17. dxe5
+            Nxe4 18. Bxe7 Qxe7 19. exd6 Qf6 20. Nbd2 Nxd6 21. Nc4 Nxc4 22. Bxc4 Nb6
+            23. Ne5 Rae8 24. Bxf7+ Rxf7 25. Nxf7 Rxe1+ 26. Qxe1 Kxf7 27. Qe3 Qg5 28. Qxg5
+            hxg5 29. b3 Ke6 30. a3 Kd6 31. axb4 cxb4 32. Ra5 Nd5 33. f3 Bc8 34. Kf2 Bf5
+            35. Ra7 g6 36. Ra6+ Kc5 37. Ke1 Nf4 38. g3 Nxh3 39. Kd2 Kb5 40. Rd6 Kc5 41. Ra6
+            Nf2 42. g4 Bd3 43. Re6 1/2-1/2
+
+            [Event "Casual"]
+            [White "A"]
+            [Black "B"]
+            [Result "1-0"]
+
+            1. f3 (1. e4 e5 (1... c5) 2. Nf3) 1... e5 $2 2. g4?? Qh4# ; fool's mate
+            0-1
+            """;
+
+    @Test
+    public void readSamplePositive() throws IOException {
+        List<PgnGame> games = readAll(SAMPLE);
+
+        assertEquals(2, games.size());
+        assertEquals("Fischer, Robert J.", games.get(0).tags().get("White"));
+        assertEquals(85, games.get(0).moves().size());
+        assertEquals("1/2-1/2", games.get(0).result());
+        assertEquals(List.of("f3", "e5", "g4??", "Qh4#"), games.get(1).moves());
+
+        ChessGame fools = games.get(1).replay();
+        assertEquals(ChessGame.GameStatus.CHECKMATE, fools.evaluateStatus());
+        assertEquals("0-1", PgnGame.resultOf(fools));
+    }
+
+    @Test
+    public void mappedFilePositive() throws IOException {
+        Path file = Files.createTempFile("games", ".pgn");
+        try {
+            Files.writeString(file, SAMPLE.repeat(50));
+            int count = 0;
+            try (PgnReader reader = PgnReader.open(file)) {
+                while (reader.next() != null) {
+                    count++;
+                }
+            }
+            assertEquals(100, count);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void sanRoundTripPositive() {
+        for (Perft.Reference reference : Perft.REFERENCES) {
+            ChessGame game = Perft.load(reference);
+            MoveList moves = new MoveList();
+            game.generateLegalMoves(moves);
+            for (int i = 0; i < moves.size(); i++) {
+                String san = San.toSan(game, moves.get(i));
+                assertEquals(moves.get(i), San.parse(game, san), reference.name() + " " + san);
+            }
+        }
+    }
+
+    @Test
+    public void sanDisambiguationPositive() {
+        ChessGame game = ChessGame.fromFen("4k3/8/8/8/8/8/8/R3K2R w KQ - 0 1");
+        assertEquals("O-O", San.toSan(game, San.parse(game, "O-O")));
+        assertEquals("Ra8+", San.toSan(game, San.parse(game, "Ra8")));
+
+        ChessGame rooks = ChessGame.fromFen("4k3/8/8/R7/8/8/8/R4RK1 w - - 0 1");
+        assertEquals("Rad1", San.toSan(rooks, San.parse(rooks, "Rad1")));
+        assertEquals("R1a3", San.toSan(rooks, San.parse(rooks, "R1a3")));
+
+        ChessGame promotion = ChessGame.fromFen("8/P6k/8/8/8/8/8/K7 w - - 0 1");
+        assertEquals("a8=N", San.toSan(promotion, San.parse(promotion, "a8N")));
+    }
+
+    @Test
+    public void sanIllegalNegative() {
+        ChessGame game = new ChessGame();
+        assertThrows(IllegalArgumentException.class, () -> San.parse(game, "e5"));
+        assertThrows(IllegalArgumentException.class, () -> San.parse(game, "Ke2"));
+        assertThrows(IllegalArgumentException.class, () -> San.parse(game, "O-O"));
+        assertThrows(IllegalArgumentException.class, () -> San.parse(game, "z"));
+        ChessGame knights = ChessGame.fromFen("4k3/8/8/8/8/8/8/1N2KN2 w - - 0 1");
+        assertThrows(IllegalArgumentException.class, () -> San.parse(knights, "Nd2"));
+    }
+
+    @Test
+    public void exportAndReadBackPositive() throws IOException, InvalidMoveException {
+        ChessGame game = new ChessGame();
+        game.makeMove(new ChessMove(ChessPosition.of(2, 6), ChessPosition.of(3, 6), null));
+        game.makeMove(new ChessMove(ChessPosition.of(7, 5), ChessPosition.of(5, 5), null));
+        game.makeMove(new ChessMove(ChessPosition.of(2, 7), ChessPosition.of(4, 7), null));
+        game.makeMove(new ChessMove(ChessPosition.of(8, 4), ChessPosition.of(4, 8), null));
+
+        PgnGame exported = PgnGame.fromGame(game, Map.of("White", "w", "Black", "b"), PgnGame.resultOf(game));
+        assertEquals(List.of("f3", "e5", "g4", "Qh4#"), exported.moves());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (PgnWriter writer = new PgnWriter(Channels.newChannel(out))) {
+            writer.write(exported);
+            writer.write(PgnGame.fromGame(ChessGame.fromFen("4k3/8/8/8/8/8/4P3/4K3 b - - 0 40"),
+                    Map.of(), "*"));
+        }
+        List<PgnGame> games = readAll(out.toString(StandardCharsets.UTF_8));
+
+        assertEquals(2, games.size());
+        assertEquals(exported.moves(), games.get(0).moves());
+        assertEquals("0-1", games.get(0).tags().get("Result"));
+        assertEquals(game.getBoard(), games.get(0).replay().getBoard());
+        assertEquals("4k3/8/8/8/8/8/4P3/4K3 b - - 0 40", games.get(1).tags().get("FEN"));
+    }
+
+    @Test
+    public void parallelReplayPositive() throws IOException, InterruptedException {
+        String input = SAMPLE.repeat(20) + "[White \"bad\"]\n\n1. e4 e4 *\n";
+        List<PgnReplay.Replayed> results = Collections.synchronizedList(new ArrayList<>());
+        long count;
+        try (PgnReader reader = new PgnReader(Channels.newChannel(
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8))))) {
+            count = PgnReplay.replayAll(reader, 4, results::add);
+        }
+
+        assertEquals(41, count);
+        assertEquals(41, results.size());
+        assertEquals(1, results.stream().filter(r -> r.error() != null).count());
+    }
+
+    private static List<PgnGame> readAll(String text) throws IOException {
+        List<PgnGame> games = new ArrayList<>();
+        try (PgnReader reader = new PgnReader(Channels.newChannel(
+                new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8))))) {
+            PgnGame game;
+            while ((game = reader.next()) != null) {
+                games.add(game);
+            }
+        }
+        return games;
+    }
+}